@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.application.castmember.delete;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+
+import java.util.Objects;
+import java.util.Set;
+
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
+public non-sealed class DefaultDeleteCastMembersUseCase extends DeleteCastMembersUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultDeleteCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public DeleteCastMembersOutput execute(final Set<String> ids) {
+        return DeleteCastMembersOutput.from(this.castMemberGateway.deleteAllById(mapTo(ids, CastMemberID::from)));
+    }
+}
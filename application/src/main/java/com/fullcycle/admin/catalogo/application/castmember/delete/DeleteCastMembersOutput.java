@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.castmember.delete;
+
+public record DeleteCastMembersOutput(int deleted) {
+
+    public static DeleteCastMembersOutput from(final int deleted) {
+        return new DeleteCastMembersOutput(deleted);
+    }
+}
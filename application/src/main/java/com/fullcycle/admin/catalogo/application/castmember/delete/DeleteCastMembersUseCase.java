@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.application.castmember.delete;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.Set;
+
+public sealed abstract class DeleteCastMembersUseCase
+    extends UseCase<Set<String>, DeleteCastMembersOutput>
+    permits DefaultDeleteCastMembersUseCase {
+}
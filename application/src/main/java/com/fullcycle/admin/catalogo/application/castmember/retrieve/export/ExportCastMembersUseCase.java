@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.castmember.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.CastMemberListOutput;
+
+import java.util.function.Consumer;
+
+public sealed abstract class ExportCastMembersUseCase
+        extends UnitUseCase<Consumer<CastMemberListOutput>>
+        permits DefaultExportCastMembersUseCase {
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.application.castmember.retrieve.list;
 
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberPreview;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
 
 import java.time.Instant;
@@ -19,4 +20,13 @@ public record CastMemberListOutput(
                 aMember.getCreatedAt()
         );
     }
-}
\ No newline at end of file
+
+    public static CastMemberListOutput from(final CastMemberPreview aMember) {
+        return new CastMemberListOutput(
+                aMember.id().getValue(),
+                aMember.name(),
+                aMember.type(),
+                aMember.createdAt()
+        );
+    }
+}
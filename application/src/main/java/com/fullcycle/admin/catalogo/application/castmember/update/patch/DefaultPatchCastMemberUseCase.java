@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.application.castmember.update.patch;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberPatch;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.Objects;
+
+public non-sealed class DefaultPatchCastMemberUseCase extends PatchCastMemberUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultPatchCastMemberUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public PatchCastMemberOutput execute(final PatchCastMemberCommand aCommand) {
+        final var anId = CastMemberID.from(aCommand.id());
+        final var aPatch = CastMemberPatch.with(aCommand.name(), aCommand.type());
+
+        final var notification = Notification.create();
+        aPatch.validate(notification);
+
+        if (notification.hasError())
+            throw new NotificationException("Could not be update Aggregate CastMember %s".formatted(anId.getValue()), notification);
+
+        if (!this.castMemberGateway.patch(anId, aPatch))
+            throw NotFoundException.with(CastMember.class, anId);
+
+        return PatchCastMemberOutput.from(anId);
+    }
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.application.castmember.update.patch;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+
+public record PatchCastMemberCommand(
+        String id,
+        String name,
+        CastMemberType type
+) {
+    public static PatchCastMemberCommand with(
+            final String anId,
+            final String aName,
+            final CastMemberType aType
+    ) {
+        return new PatchCastMemberCommand(anId, aName, aType);
+    }
+}
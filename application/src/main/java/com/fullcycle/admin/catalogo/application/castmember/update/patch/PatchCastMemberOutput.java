@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.application.castmember.update.patch;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+
+public record PatchCastMemberOutput(String id) {
+
+    public static PatchCastMemberOutput from(final CastMemberID anId) {
+        return new PatchCastMemberOutput(anId.getValue());
+    }
+}
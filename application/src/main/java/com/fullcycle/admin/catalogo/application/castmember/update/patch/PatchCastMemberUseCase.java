@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.castmember.update.patch;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public sealed abstract class PatchCastMemberUseCase
+    extends UseCase<PatchCastMemberCommand, PatchCastMemberOutput>
+    permits DefaultPatchCastMemberUseCase {
+}
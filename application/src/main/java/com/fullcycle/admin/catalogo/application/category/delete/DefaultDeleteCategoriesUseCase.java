@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.util.Objects;
+import java.util.Set;
+
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
+public class DefaultDeleteCategoriesUseCase extends DeleteCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultDeleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public DeleteCategoriesOutput execute(final Set<String> ids) {
+        return DeleteCategoriesOutput.from(this.categoryGateway.deleteAllById(mapTo(ids, CategoryID::from)));
+    }
+}
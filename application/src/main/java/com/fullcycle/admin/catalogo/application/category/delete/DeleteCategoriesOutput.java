@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+public record DeleteCategoriesOutput(int deleted) {
+
+    public static DeleteCategoriesOutput from(final int deleted) {
+        return new DeleteCategoriesOutput(deleted);
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.Set;
+
+public abstract class DeleteCategoriesUseCase
+    extends UseCase<Set<String>, DeleteCategoriesOutput> {
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCategoriesUseCase extends UnitUseCase<Consumer<CategoryListOutput>> {
+}
@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
 
 import java.time.Instant;
 
@@ -23,4 +24,15 @@ public record CategoryListOutput(
                 aCategory.getDeletedAt()
         );
     }
+
+    public static CategoryListOutput from(final CategoryPreview aCategory) {
+        return new CategoryListOutput(
+                aCategory.id(),
+                aCategory.name(),
+                aCategory.description(),
+                aCategory.active(),
+                aCategory.createdAt(),
+                aCategory.deletedAt()
+        );
+    }
 }
\ No newline at end of file
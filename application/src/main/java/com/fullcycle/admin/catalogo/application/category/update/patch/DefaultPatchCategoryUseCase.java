@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.application.category.update.patch;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPatch;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Try;
+
+// Nao carrega o agregado: valida apenas os campos enviados e o gateway altera so as colunas correspondentes
+public class DefaultPatchCategoryUseCase extends PatchCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultPatchCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, PatchCategoryOutput> execute(final PatchCategoryCommand aCommand) {
+        final var anId = CategoryID.from(aCommand.id());
+        final var aPatch = CategoryPatch.with(aCommand.name(), aCommand.description(), aCommand.isActive());
+
+        final var notification = Notification.create();
+        aPatch.validate(notification);
+
+        return notification.hasError() ? Left(notification) : patch(anId, aPatch);
+    }
+
+    private Either<Notification, PatchCategoryOutput> patch(final CategoryID anId, final CategoryPatch aPatch) {
+        return Try(() -> this.categoryGateway.patch(anId, aPatch))
+                .toEither()
+                .mapLeft(Notification::create)
+                .map(found -> {
+                    if (!found) throw NotFoundException.with(Category.class, anId);
+                    return PatchCategoryOutput.from(anId);
+                });
+    }
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.application.category.update.patch;
+
+public record PatchCategoryCommand(String id, String name, String description, Boolean isActive) {
+
+    public static PatchCategoryCommand with(
+            final String anId,
+            final String aName,
+            final String aDescription,
+            final Boolean isActive
+    ) {
+        return new PatchCategoryCommand(anId, aName, aDescription, isActive);
+    }
+}
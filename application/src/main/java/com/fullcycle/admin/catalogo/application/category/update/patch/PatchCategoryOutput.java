@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.application.category.update.patch;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+public record PatchCategoryOutput(String id) {
+
+    public static PatchCategoryOutput from(final CategoryID anId) {
+        return new PatchCategoryOutput(anId.getValue());
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.category.update.patch;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class PatchCategoryUseCase extends UseCase<PatchCategoryCommand, Either<Notification, PatchCategoryOutput>> {
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.application.genre.delete;
+
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+
+import java.util.Objects;
+import java.util.Set;
+
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
+public class DefaultDeleteGenresUseCase extends DeleteGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultDeleteGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public DeleteGenresOutput execute(final Set<String> ids) {
+        return DeleteGenresOutput.from(this.genreGateway.deleteAllById(mapTo(ids, GenreID::from)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.genre.delete;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.Set;
+
+public abstract class DeleteGenresUseCase
+    extends UseCase<Set<String>, DeleteGenresOutput> {
+}
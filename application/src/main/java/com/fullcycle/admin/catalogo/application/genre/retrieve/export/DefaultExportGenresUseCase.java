@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportGenresUseCase extends ExportGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultExportGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<GenreListOutput> aConsumer) {
+        this.genreGateway.exportAll(aGenre -> aConsumer.accept(GenreListOutput.from(aGenre)));
+    }
+}
@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
 
 import java.time.Instant;
 import java.util.List;
@@ -27,4 +28,17 @@ public record GenreListOutput(
                 aGenre.getCreatedAt(),
                 aGenre.getDeletedAt());
     }
+
+    public static GenreListOutput from(final GenrePreview aGenre) {
+        return new GenreListOutput(
+                aGenre.id().getValue(),
+                aGenre.name(),
+                aGenre.active(),
+                aGenre.categories()
+                        .stream()
+                        .map(CategoryID::getValue)
+                        .toList(),
+                aGenre.createdAt(),
+                aGenre.deletedAt());
+    }
 }
\ No newline at end of file
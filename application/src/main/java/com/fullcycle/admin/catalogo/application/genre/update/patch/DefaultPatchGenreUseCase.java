@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.application.genre.update.patch;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePatch;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.Objects;
+
+public class DefaultPatchGenreUseCase extends PatchGenreUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultPatchGenreUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public PatchGenreOutput execute(final PatchGenreCommand aCommand) {
+        final var anId = GenreID.from(aCommand.id());
+        final var aPatch = GenrePatch.with(aCommand.name(), aCommand.isActive());
+
+        final var notification = Notification.create();
+        aPatch.validate(notification);
+
+        if (notification.hasError())
+            throw new NotificationException("Could not update Aggregate Genre %s".formatted(aCommand.id()), notification);
+
+        if (!this.genreGateway.patch(anId, aPatch))
+            throw NotFoundException.with(Genre.class, anId);
+
+        return PatchGenreOutput.from(anId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.genre.update.patch;
+
+public record PatchGenreCommand(String id, String name, Boolean isActive) {
+
+    public static PatchGenreCommand with(final String anId, final String aName, final Boolean isActive) {
+        return new PatchGenreCommand(anId, aName, isActive);
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.application.genre.update.patch;
+
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+
+public record PatchGenreOutput(String id) {
+
+    public static PatchGenreOutput from(final GenreID anId) {
+        return new PatchGenreOutput(anId.getValue());
+    }
+}
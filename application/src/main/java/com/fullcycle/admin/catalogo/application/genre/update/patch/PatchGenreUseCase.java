@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.genre.update.patch;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class PatchGenreUseCase extends UseCase<PatchGenreCommand, PatchGenreOutput> {
+}
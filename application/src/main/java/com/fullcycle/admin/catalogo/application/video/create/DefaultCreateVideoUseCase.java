@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.application.video.create;
 
+import com.fullcycle.admin.catalogo.application.video.media.ParallelMediaStore;
 import com.fullcycle.admin.catalogo.domain.Identifier;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
@@ -22,9 +23,12 @@ import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.BANNER;
 import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.THUMBNAIL;
@@ -39,18 +43,21 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     private final CastMemberGateway castMemberGateway;
     private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
+    private final ParallelMediaStore mediaStore;
 
     public DefaultCreateVideoUseCase(
             final CategoryGateway categoryGateway,
             final GenreGateway genreGateway,
             final CastMemberGateway castMemberGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final VideoGateway videoGateway) {
+            final VideoGateway videoGateway,
+            final Executor mediaStoreExecutor) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaStore = new ParallelMediaStore(mediaResourceGateway, mediaStoreExecutor);
     }
 
     @Override
@@ -91,39 +98,26 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         final var anId = aVideo.getId();
 
         try {
-            final var aVideoMedia = aCommand.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VIDEO, it)))
-                    .orElse(null);
-
-            final var aTrailerMedia = aCommand.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(TRAILER, it)))
-                    .orElse(null);
-
-            final var aBannerMedia = aCommand.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(BANNER, it)))
-                    .orElse(null);
-
-            final var aThumbnailMedia = aCommand.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL, it)))
-                    .orElse(null);
-
-            final var aThumbHalfMedia = aCommand.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL_HALF, it)))
-                    .orElse(null);
-
-            return this.videoGateway.create(
-                    aVideo
-                            .setVideo(aVideoMedia)
-                            .setTrailer(aTrailerMedia)
-                            .setBanner(aBannerMedia)
-                            .setThumbnail(aThumbnailMedia)
-                            .setThumbnailHalf(aThumbHalfMedia));
+            final var medias = this.mediaStore.storeAll(anId, resources(aCommand));
+            return this.videoGateway.create(medias.applyTo(aVideo));
         } catch (final Throwable throwable) {
             this.mediaResourceGateway.clearResources(anId);
             throw InternalErrorException.with("An error on create video was observed [videoId: %s]".formatted(anId.getValue()), throwable);
         }
     }
 
+    private static List<VideoResource> resources(final CreateVideoCommand aCommand) {
+        return Stream.of(
+                        aCommand.getVideo().map(it -> VideoResource.with(VIDEO, it)),
+                        aCommand.getTrailer().map(it -> VideoResource.with(TRAILER, it)),
+                        aCommand.getBanner().map(it -> VideoResource.with(BANNER, it)),
+                        aCommand.getThumbnail().map(it -> VideoResource.with(THUMBNAIL, it)),
+                        aCommand.getThumbnailHalf().map(it -> VideoResource.with(THUMBNAIL_HALF, it))
+                )
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
     private ValidationHandler validateCategories(final Set<CategoryID> ids) {
         return validateAggregate("categories", ids, categoryGateway::existsByIds);
     }
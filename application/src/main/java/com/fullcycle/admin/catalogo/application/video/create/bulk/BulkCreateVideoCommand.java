@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.application.video.create.bulk;
+
+import com.fullcycle.admin.catalogo.application.video.create.CreateVideoCommand;
+
+import java.util.Iterator;
+
+// As linhas sao consumidas sob demanda, assim o arquivo nunca fica inteiro em memoria
+public record BulkCreateVideoCommand(Iterator<Line> lines) {
+
+    public static BulkCreateVideoCommand with(final Iterator<Line> lines) {
+        return new BulkCreateVideoCommand(lines);
+    }
+
+    // Uma linha que nem chegou a virar comando (ex.: JSON invalido) carrega apenas o erro
+    public record Line(long number, CreateVideoCommand command, String error) {
+
+        public static Line valid(final long number, final CreateVideoCommand command) {
+            return new Line(number, command, null);
+        }
+
+        public static Line invalid(final long number, final String error) {
+            return new Line(number, null, error);
+        }
+
+        public boolean isValid() {
+            return this.command != null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.application.video.create.bulk;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record BulkCreateVideoOutput(long created, List<LineError> errors) {
+
+    public record LineError(long line, List<String> messages) {
+
+        public static LineError with(final long line, final List<Error> errors) {
+            return new LineError(line, errors.stream().map(Error::message).toList());
+        }
+
+        public static LineError with(final long line, final String message) {
+            return new LineError(line, List.of(message));
+        }
+    }
+}
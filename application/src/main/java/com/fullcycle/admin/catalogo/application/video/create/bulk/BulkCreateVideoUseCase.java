@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.create.bulk;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class BulkCreateVideoUseCase
+    extends UseCase<BulkCreateVideoCommand, BulkCreateVideoOutput> {
+}
@@ -0,0 +1,208 @@
+package com.fullcycle.admin.catalogo.application.video.create.bulk;
+
+import com.fullcycle.admin.catalogo.application.video.create.CreateVideoCommand;
+import com.fullcycle.admin.catalogo.application.video.create.bulk.BulkCreateVideoCommand.Line;
+import com.fullcycle.admin.catalogo.application.video.create.bulk.BulkCreateVideoOutput.LineError;
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Processa as linhas em lotes: cada lote consulta uma unica vez os ids de categorias, generos e
+// membros referenciados por todas as suas linhas e grava os videos validos numa unica transacao.
+// Linhas invalidas nao interrompem o lote, sao devolvidas com o numero da linha e os erros.
+public class DefaultBulkCreateVideoUseCase extends BulkCreateVideoUseCase {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final VideoGateway videoGateway;
+    private final int chunkSize;
+
+    public DefaultBulkCreateVideoUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final VideoGateway videoGateway
+    ) {
+        this(categoryGateway, genreGateway, castMemberGateway, videoGateway, DEFAULT_CHUNK_SIZE);
+    }
+
+    public DefaultBulkCreateVideoUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final VideoGateway videoGateway,
+            final int chunkSize
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' must be greater than zero");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkCreateVideoOutput execute(final BulkCreateVideoCommand aCommand) {
+        final var errors = new ArrayList<LineError>();
+        final var chunk = new ArrayList<Line>(this.chunkSize);
+        final var lines = aCommand.lines();
+
+        var created = 0L;
+        while (lines.hasNext()) {
+            chunk.add(lines.next());
+            if (chunk.size() == this.chunkSize || !lines.hasNext()) {
+                created += createChunk(chunk, errors);
+                chunk.clear();
+            }
+        }
+
+        return new BulkCreateVideoOutput(created, errors);
+    }
+
+    private int createChunk(final List<Line> chunk, final List<LineError> errors) {
+        final var commands = new ArrayList<CreateVideoCommand>(chunk.size());
+        for (final var aLine : chunk) {
+            if (aLine.isValid()) {
+                commands.add(aLine.command());
+            } else {
+                errors.add(LineError.with(aLine.number(), aLine.error()));
+            }
+        }
+
+        final var categories = existing(commands, CreateVideoCommand::categories, CategoryID::from, this.categoryGateway::existsByIds);
+        final var genres = existing(commands, CreateVideoCommand::genres, GenreID::from, this.genreGateway::existsByIds);
+        final var members = existing(commands, CreateVideoCommand::members, CastMemberID::from, this.castMemberGateway::existsByIds);
+
+        final var videos = new ArrayList<Video>(commands.size());
+        final var accepted = new ArrayList<Line>(commands.size());
+        for (final var aLine : chunk) {
+            if (!aLine.isValid()) {
+                continue;
+            }
+
+            final var aCommand = aLine.command();
+            final var aRating = Rating.of(aCommand.rating()).orElse(null);
+            final var aLaunchYear = aCommand.launchedAt() != null ? Year.of(aCommand.launchedAt()) : null;
+            final var categoryIds = toIdentifier(aCommand.categories(), CategoryID::from);
+            final var genreIds = toIdentifier(aCommand.genres(), GenreID::from);
+            final var memberIds = toIdentifier(aCommand.members(), CastMemberID::from);
+
+            final var notification = Notification.create();
+            notification.append(validateAggregate("categories", categoryIds, categories));
+            notification.append(validateAggregate("genres", genreIds, genres));
+            notification.append(validateAggregate("cast members", memberIds, members));
+
+            // Um campo obrigatorio ausente vira erro da linha em vez de abortar a importacao
+            final var aVideo = notification.validate(() -> Video.newVideo(
+                    aCommand.title(),
+                    aCommand.description(),
+                    aLaunchYear,
+                    aCommand.duration(),
+                    aCommand.opened(),
+                    aCommand.published(),
+                    aRating,
+                    categoryIds,
+                    genreIds,
+                    memberIds
+            ));
+
+            if (aVideo != null) {
+                aVideo.validate(notification);
+            }
+
+            if (notification.hasError()) {
+                errors.add(LineError.with(aLine.number(), notification.getErrors()));
+            } else {
+                videos.add(aVideo);
+                accepted.add(aLine);
+            }
+        }
+
+        if (videos.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            this.videoGateway.createAll(videos);
+            return videos.size();
+        } catch (final Throwable throwable) {
+            // O lote e gravado numa unica transacao, entao todas as suas linhas falham juntas
+            final var message = "An error on create video was observed: %s".formatted(throwable.getMessage());
+            accepted.forEach(aLine -> errors.add(LineError.with(aLine.number(), message)));
+            return 0;
+        }
+    }
+
+    private <T extends Identifier> Set<T> existing(
+            final List<CreateVideoCommand> commands,
+            final Function<CreateVideoCommand, Set<String>> ids,
+            final Function<String, T> mapper,
+            final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        final var allIds = commands.stream()
+                .map(ids)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .map(mapper)
+                .collect(Collectors.toSet());
+
+        if (allIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        return new HashSet<>(existsByIds.apply(allIds));
+    }
+
+    private <T extends Identifier> ValidationHandler validateAggregate(
+            final String aggregate,
+            final Set<T> ids,
+            final Set<T> existing
+    ) {
+        final var notification = Notification.create();
+
+        final var missingIdsMessage = ids.stream()
+                .filter(id -> !existing.contains(id))
+                .map(Identifier::getValue)
+                .collect(Collectors.joining(", "));
+
+        if (!missingIdsMessage.isEmpty()) {
+            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
+        }
+
+        return notification;
+    }
+
+    private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
+        if (ids == null) {
+            return Collections.emptySet();
+        }
+        return ids.stream()
+                .map(mapper)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.application.video.delete;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+import java.util.Set;
+
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
+public class DefaultDeleteVideosUseCase extends DeleteVideosUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultDeleteVideosUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public DeleteVideosOutput execute(final Set<String> ids) {
+        return DeleteVideosOutput.from(this.videoGateway.deleteAllById(mapTo(ids, VideoID::from)));
+    }
+}
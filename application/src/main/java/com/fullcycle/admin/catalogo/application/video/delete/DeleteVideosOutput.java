@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.delete;
+
+public record DeleteVideosOutput(int deleted) {
+
+    public static DeleteVideosOutput from(final int deleted) {
+        return new DeleteVideosOutput(deleted);
+    }
+}
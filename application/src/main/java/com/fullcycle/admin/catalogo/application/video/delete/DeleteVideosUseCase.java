@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.video.delete;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.Set;
+
+public abstract class DeleteVideosUseCase
+    extends UseCase<Set<String>, DeleteVideosOutput> {
+}
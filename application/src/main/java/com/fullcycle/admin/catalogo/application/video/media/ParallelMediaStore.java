@@ -0,0 +1,151 @@
+package com.fullcycle.admin.catalogo.application.video.media;
+
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+// Grava as midias de um video em paralelo: a latencia passa a ser a da maior midia e nao a soma de todas.
+// Na primeira falha as demais gravacoes sao canceladas e o metodo so retorna depois que todas pararam,
+// assim quem chama pode limpar o storage sem concorrer com uma gravacao ainda em andamento
+public class ParallelMediaStore {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final Executor executor;
+
+    public ParallelMediaStore(final MediaResourceGateway mediaResourceGateway, final Executor executor) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public Medias storeAll(final VideoID anId, final List<VideoResource> resources) {
+        final var tasks = resources.stream()
+                .map(it -> new StoreTask(anId, it))
+                .toList();
+
+        final var results = tasks.stream()
+                .map(it -> it.result)
+                .toArray(CompletableFuture[]::new);
+
+        final var firstFailure = new CompletableFuture<Void>();
+        try {
+            for (final var aTask : tasks) {
+                aTask.result.whenComplete((media, error) -> {
+                    if (error != null) firstFailure.completeExceptionally(error);
+                });
+                this.executor.execute(aTask);
+            }
+
+            CompletableFuture.anyOf(CompletableFuture.allOf(results), firstFailure).join();
+        } catch (final RuntimeException e) {
+            tasks.forEach(StoreTask::cancel);
+            CompletableFuture.allOf(results).handle((ignored, error) -> null).join();
+            throw unwrap(e);
+        }
+
+        final var medias = new EnumMap<VideoMediaType, Object>(VideoMediaType.class);
+        tasks.forEach(it -> medias.put(it.resource.type(), it.result.join()));
+
+        return new Medias(
+                (AudioVideoMedia) medias.get(VideoMediaType.VIDEO),
+                (AudioVideoMedia) medias.get(VideoMediaType.TRAILER),
+                (ImageMedia) medias.get(VideoMediaType.BANNER),
+                (ImageMedia) medias.get(VideoMediaType.THUMBNAIL),
+                (ImageMedia) medias.get(VideoMediaType.THUMBNAIL_HALF)
+        );
+    }
+
+    private Object store(final VideoID anId, final VideoResource aResource) {
+        return switch (aResource.type()) {
+            case VIDEO, TRAILER -> this.mediaResourceGateway.storeAudioVideo(anId, aResource);
+            case BANNER, THUMBNAIL, THUMBNAIL_HALF -> this.mediaResourceGateway.storeImage(anId, aResource);
+        };
+    }
+
+    // Relanca a falha original da gravacao, sem o CompletionException do join
+    private static RuntimeException unwrap(final RuntimeException e) {
+        if (!(e instanceof CompletionException) || e.getCause() == null) {
+            return e;
+        }
+        if (e.getCause() instanceof Error error) {
+            throw error;
+        }
+        return e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+
+    public record Medias(
+            AudioVideoMedia video,
+            AudioVideoMedia trailer,
+            ImageMedia banner,
+            ImageMedia thumbnail,
+            ImageMedia thumbnailHalf
+    ) {
+        public Video applyTo(final Video aVideo) {
+            return aVideo
+                    .setVideo(video)
+                    .setTrailer(trailer)
+                    .setBanner(banner)
+                    .setThumbnail(thumbnail)
+                    .setThumbnailHalf(thumbnailHalf);
+        }
+    }
+
+    // Tarefa cancelavel: se ainda nao comecou nem chega a rodar, se esta rodando a thread e interrompida
+    private final class StoreTask implements Runnable {
+
+        private final VideoID videoId;
+        private final VideoResource resource;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private Thread runner;
+        private boolean cancelled;
+        private boolean interrupted;
+
+        private StoreTask(final VideoID videoId, final VideoResource resource) {
+            this.videoId = videoId;
+            this.resource = resource;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (this.cancelled) return;
+                this.runner = Thread.currentThread();
+            }
+
+            try {
+                this.result.complete(store(this.videoId, this.resource));
+            } catch (final Throwable t) {
+                this.result.completeExceptionally(t);
+            } finally {
+                synchronized (this) {
+                    this.runner = null;
+                    // Descarta so a interrupcao feita pelo cancel. Com CallerRunsPolicy a tarefa roda na thread da
+                    // requisicao, e uma interrupcao vinda de fora precisa continuar visivel para ela
+                    if (this.interrupted) {
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        private synchronized void cancel() {
+            this.cancelled = true;
+            if (this.runner != null) {
+                this.interrupted = true;
+                this.runner.interrupt();
+            } else {
+                this.result.cancel(false);
+            }
+        }
+    }
+}
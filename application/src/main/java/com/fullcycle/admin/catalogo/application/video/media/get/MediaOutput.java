@@ -1,17 +1,45 @@
 package com.fullcycle.admin.catalogo.application.video.media.get;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceContent;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+// O conteudo e aberto por quem escreve a resposta, assim a midia e copiada em blocos ate o cliente.
+// Downloads com Range abrem apenas os intervalos pedidos, com leitura posicional no storage
 public record MediaOutput(
-        byte[] content,
+        ResourceContent content,
+        long length,
+        String checksum,
         String contentType,
         String name
 ) {
     public static MediaOutput with(final Resource aResource) {
+        final var aContent = new ResourceContent() {
+            @Override
+            public InputStream open() {
+                return aResource.openStream();
+            }
+
+            @Override
+            public InputStream open(final long offset, final long length) {
+                return aResource.openStream(offset, length);
+            }
+
+            @Override
+            public long transferTo(final long offset, final long length, final OutputStream out) throws IOException {
+                return aResource.transferTo(offset, length, out);
+            }
+        };
+
         return new MediaOutput(
-                aResource.content(),
+                aContent,
+                aResource.length(),
+                aResource.checksum(),
                 aResource.contentType(),
                 aResource.name()
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.application.video.media.session;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public record MediaUploadOutput(
+        String uploadId,
+        String videoId,
+        VideoMediaType mediaType,
+        long length,
+        long uploaded,
+        boolean completed
+) {
+    public static MediaUploadOutput from(final MediaUpload anUpload) {
+        return new MediaUploadOutput(
+                anUpload.getId().getValue(),
+                anUpload.getVideoId().getValue(),
+                anUpload.getType(),
+                anUpload.getLength(),
+                anUpload.getUploaded(),
+                anUpload.isComplete()
+        );
+    }
+}
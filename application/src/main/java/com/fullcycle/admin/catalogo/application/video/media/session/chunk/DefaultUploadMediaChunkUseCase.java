@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.chunk;
+
+import com.fullcycle.admin.catalogo.application.video.media.session.MediaUploadOutput;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+
+import java.util.Objects;
+
+public class DefaultUploadMediaChunkUseCase extends UploadMediaChunkUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultUploadMediaChunkUseCase(
+            final MediaResourceGateway mediaResourceGateway,
+            final MediaUploadGateway mediaUploadGateway
+    ) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final UploadMediaChunkCommand aCmd) {
+        final var anId = MediaUploadID.from(aCmd.uploadId());
+        final var aChunk = aCmd.chunk();
+
+        final var anUpload = this.mediaUploadGateway.findById(anId)
+                .orElseThrow(() -> NotFoundException.with(MediaUpload.class, anId));
+
+        // Valida antes de enviar ao storage, para nao gravar uma parte que a sessao recusaria
+        anUpload.checkChunk(aCmd.offset(), aChunk.length());
+
+        final var aSession = this.mediaResourceGateway.uploadChunk(anUpload, aChunk);
+        anUpload.append(aCmd.offset(), aChunk.length(), aSession);
+
+        // Outra requisicao com o mesmo offset passou pelo checkChunk ao mesmo tempo e avancou a sessao antes
+        if (!this.mediaUploadGateway.updateProgress(anUpload, aCmd.offset())) {
+            throw DomainException.with(new Error("Chunk offset %d was already uploaded by another request"
+                    .formatted(aCmd.offset())));
+        }
+
+        return MediaUploadOutput.from(anUpload);
+    }
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.chunk;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+
+public record UploadMediaChunkCommand(
+        String uploadId,
+        long offset,
+        Resource chunk
+) {
+    public static UploadMediaChunkCommand with(final String anId, final long anOffset, final Resource aChunk) {
+        return new UploadMediaChunkCommand(anId, anOffset, aChunk);
+    }
+}
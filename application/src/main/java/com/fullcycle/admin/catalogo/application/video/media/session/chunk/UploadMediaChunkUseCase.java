@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.chunk;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.MediaUploadOutput;
+
+public abstract class UploadMediaChunkUseCase extends UseCase<UploadMediaChunkCommand, MediaUploadOutput> {
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.complete;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+
+public abstract class CompleteMediaUploadUseCase extends UseCase<String, UploadMediaOutput> {
+}
@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.complete;
+
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.util.Objects;
+
+public class DefaultCompleteMediaUploadUseCase extends CompleteMediaUploadUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultCompleteMediaUploadUseCase(
+            final MediaResourceGateway mediaResourceGateway,
+            final MediaUploadGateway mediaUploadGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final String anIn) {
+        final var anId = MediaUploadID.from(anIn);
+        final var anUpload = this.mediaUploadGateway.findById(anId)
+                .orElseThrow(() -> NotFoundException.with(MediaUpload.class, anId));
+
+        if (!anUpload.isComplete()) {
+            throw DomainException.with(new Error("Upload %s is missing %d of %d bytes".formatted(
+                    anId.getValue(), anUpload.getLength() - anUpload.getUploaded(), anUpload.getLength())));
+        }
+
+        final var aVideo = this.videoGateway.findById(anUpload.getVideoId())
+                .orElseThrow(() -> NotFoundException.with(Video.class, anUpload.getVideoId()));
+
+        final var aMedia = this.mediaResourceGateway.completeUpload(anUpload);
+        if (anUpload.getType() == VideoMediaType.TRAILER) {
+            aVideo.setTrailer(aMedia);
+        } else {
+            aVideo.setVideo(aMedia);
+        }
+
+        final var aResult = this.videoGateway.update(aVideo);
+        this.mediaUploadGateway.deleteById(anId);
+
+        return UploadMediaOutput.with(aResult, anUpload.getType());
+    }
+}
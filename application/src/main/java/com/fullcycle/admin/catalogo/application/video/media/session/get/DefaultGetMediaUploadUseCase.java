@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.get;
+
+import com.fullcycle.admin.catalogo.application.video.media.session.MediaUploadOutput;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+
+import java.util.Objects;
+
+public class DefaultGetMediaUploadUseCase extends GetMediaUploadUseCase {
+
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultGetMediaUploadUseCase(final MediaUploadGateway mediaUploadGateway) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final String anIn) {
+        final var anId = MediaUploadID.from(anIn);
+        return this.mediaUploadGateway.findById(anId)
+                .map(MediaUploadOutput::from)
+                .orElseThrow(() -> NotFoundException.with(MediaUpload.class, anId));
+    }
+}
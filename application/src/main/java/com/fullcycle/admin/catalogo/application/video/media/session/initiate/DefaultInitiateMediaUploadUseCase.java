@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.initiate;
+
+import com.fullcycle.admin.catalogo.application.video.media.session.MediaUploadOutput;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.util.Objects;
+
+public class DefaultInitiateMediaUploadUseCase extends InitiateMediaUploadUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultInitiateMediaUploadUseCase(
+            final MediaResourceGateway mediaResourceGateway,
+            final MediaUploadGateway mediaUploadGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final InitiateMediaUploadCommand aCmd) {
+        final var anId = VideoID.from(aCmd.videoId());
+        final var aType = VideoMediaType.of(aCmd.mediaType())
+                .orElseThrow(() -> typeNotFound(aCmd.mediaType()));
+
+        if (this.videoGateway.findById(anId).isEmpty()) {
+            throw NotFoundException.with(Video.class, anId);
+        }
+
+        final var anUpload = MediaUpload.newUpload(
+                anId,
+                aType,
+                aCmd.name(),
+                aCmd.contentType(),
+                aCmd.checksum(),
+                aCmd.length()
+        );
+
+        anUpload.start(this.mediaResourceGateway.initiateUpload(anUpload));
+
+        return MediaUploadOutput.from(this.mediaUploadGateway.create(anUpload));
+    }
+
+    private NotFoundException typeNotFound(final String aType) {
+        return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(aType)));
+    }
+}
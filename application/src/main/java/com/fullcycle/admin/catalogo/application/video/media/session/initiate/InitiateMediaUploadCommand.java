@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.initiate;
+
+public record InitiateMediaUploadCommand(
+        String videoId,
+        String mediaType,
+        String name,
+        String contentType,
+        String checksum,
+        long length
+) {
+    public static InitiateMediaUploadCommand with(
+            final String anId,
+            final String aType,
+            final String aName,
+            final String aContentType,
+            final String aChecksum,
+            final long aLength
+    ) {
+        return new InitiateMediaUploadCommand(anId, aType, aName, aContentType, aChecksum, aLength);
+    }
+}
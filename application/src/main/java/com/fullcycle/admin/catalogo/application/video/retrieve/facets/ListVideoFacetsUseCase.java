@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.facets;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+
+public abstract class ListVideoFacetsUseCase extends UseCase<VideoSearchQuery, VideoFacetsOutput> {
+}
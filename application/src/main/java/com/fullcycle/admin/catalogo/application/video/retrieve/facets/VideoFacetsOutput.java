@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.facets;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public record VideoFacetsOutput(
+        Map<String, Long> castMembers,
+        Map<String, Long> categories,
+        Map<String, Long> genres,
+        Map<String, Long> ratings
+) {
+
+    public static VideoFacetsOutput from(final VideoFacets aFacets) {
+        return new VideoFacetsOutput(
+                keys(aFacets.castMembers(), Identifier::getValue),
+                keys(aFacets.categories(), Identifier::getValue),
+                keys(aFacets.genres(), Identifier::getValue),
+                keys(aFacets.ratings(), Rating::getName)
+        );
+    }
+
+    private static <K> Map<String, Long> keys(final Map<K, Long> counts, final Function<K, String> key) {
+        return counts.entrySet().stream()
+                .collect(Collectors.toMap(it -> key.apply(it.getKey()), Map.Entry::getValue));
+    }
+}
@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalogo.application.video.update.patch;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoPatch;
+
+import java.time.Year;
+import java.util.Objects;
+
+// Publicar ou trocar o titulo de um video nao precisa carregar relacionamentos nem midias
+public class DefaultPatchVideoUseCase extends PatchVideoUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultPatchVideoUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public PatchVideoOutput execute(final PatchVideoCommand aCommand) {
+        final var anId = VideoID.from(aCommand.id());
+        final var aRating = aCommand.rating() != null ? Rating.of(aCommand.rating()).orElse(null) : null;
+        final var aLaunchYear = aCommand.launchedAt() != null ? Year.of(aCommand.launchedAt()) : null;
+
+        final var aPatch = VideoPatch.with(
+                aCommand.title(),
+                aCommand.description(),
+                aLaunchYear,
+                aCommand.duration(),
+                aCommand.opened(),
+                aCommand.published(),
+                aRating
+        );
+
+        final var notification = Notification.create();
+        aPatch.validate(notification);
+
+        // Nulo significa "nao alterar", entao um rating desconhecido precisa ser rejeitado aqui
+        if (aCommand.rating() != null && aRating == null)
+            notification.append(new Error("'rating' is invalid"));
+
+        if (notification.hasError())
+            throw new NotificationException("Could not update Aggregate Video", notification);
+
+        if (!this.videoGateway.patch(anId, aPatch))
+            throw NotFoundException.with(Video.class, anId);
+
+        return PatchVideoOutput.from(anId);
+    }
+}
@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.application.video.update.patch;
+
+public record PatchVideoCommand(
+        String id,
+        String title,
+        String description,
+        Integer launchedAt,
+        Double duration,
+        Boolean opened,
+        Boolean published,
+        String rating
+) {
+
+    public static PatchVideoCommand with(
+            final String anId,
+            final String aTitle,
+            final String aDescription,
+            final Integer aLaunchYear,
+            final Double aDuration,
+            final Boolean wasOpened,
+            final Boolean wasPublished,
+            final String aRating
+    ) {
+        return new PatchVideoCommand(anId, aTitle, aDescription, aLaunchYear, aDuration, wasOpened, wasPublished, aRating);
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.application.video.update.patch;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+public record PatchVideoOutput(String id) {
+
+    public static PatchVideoOutput from(final VideoID anId) {
+        return new PatchVideoOutput(anId.getValue());
+    }
+}
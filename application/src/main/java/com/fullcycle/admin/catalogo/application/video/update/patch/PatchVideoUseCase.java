@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.video.update.patch;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class PatchVideoUseCase extends UseCase<PatchVideoCommand, PatchVideoOutput> {
+}
@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.application.castmember.delete;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DeleteCastMembersUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultDeleteCastMembersUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenValidIds_whenCallsDeleteCastMembers_shouldReturnDeletedCount() {
+        // given
+        final var expectedIds = Set.of(CastMemberID.from("123"), CastMemberID.from("456"));
+        final var expectedDeleted = 1;
+
+        when(castMemberGateway.deleteAllById(any()))
+                .thenReturn(expectedDeleted);
+
+        // when
+        final var actualOutput = useCase.execute(Set.of("123", "456"));
+
+        // then
+        assertEquals(expectedDeleted, actualOutput.deleted());
+
+        verify(castMemberGateway, times(1)).deleteAllById(eq(expectedIds));
+    }
+
+    @Test
+    public void givenValidIds_whenGatewayThrowsException_shouldReturnException() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+
+        when(castMemberGateway.deleteAllById(any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var actualException = assertThrows(IllegalStateException.class, () -> useCase.execute(Set.of("123")));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.application.castmember.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.CastMemberListOutput;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberPreview;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ExportCastMembersUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCastMembersUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenCastMembers_whenCallsExportCastMembers_shouldPassEveryMemberToTheConsumer() {
+        // given
+        final var members = List.of(
+                new CastMemberPreview(CastMember.newMember(Fixture.name(), Fixture.CastMembers.type())),
+                new CastMemberPreview(CastMember.newMember(Fixture.name(), Fixture.CastMembers.type()))
+        );
+
+        final var expectedItems = members.stream()
+                .map(CastMemberListOutput::from)
+                .toList();
+
+        doAnswer(invocation -> {
+            final Consumer<CastMemberPreview> aConsumer = invocation.getArgument(0);
+            members.forEach(aConsumer);
+            return null;
+        }).when(castMemberGateway).exportAll(any());
+
+        // when
+        final var actualItems = new ArrayList<CastMemberListOutput>();
+        useCase.execute(actualItems::add);
+
+        // then
+        assertEquals(expectedItems, actualItems);
+
+        verify(castMemberGateway, times(1)).exportAll(any());
+    }
+}
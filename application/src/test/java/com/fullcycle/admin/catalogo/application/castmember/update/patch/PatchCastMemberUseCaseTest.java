@@ -0,0 +1,85 @@
+package com.fullcycle.admin.catalogo.application.castmember.update.patch;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public class PatchCastMemberUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultPatchCastMemberUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenOnlyAType_whenCallsPatchCastMember_shouldPatchOnlyTheType() {
+        final var expectedId = CastMemberID.from("123");
+        final var expectedType = CastMemberType.DIRECTOR;
+
+        final var aCommand = PatchCastMemberCommand.with(expectedId.getValue(), null, expectedType);
+
+        when(castMemberGateway.patch(any(), any()))
+                .thenReturn(true);
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+
+        Mockito.verify(castMemberGateway, times(0)).findById(any());
+        Mockito.verify(castMemberGateway, times(1)).patch(eq(expectedId), argThat(aPatch ->
+                Objects.isNull(aPatch.name()) && Objects.equals(expectedType, aPatch.type())));
+    }
+
+    @Test
+    public void givenAShortName_whenCallsPatchCastMember_shouldThrowNotificationException() {
+        final var expectedErrorMessage = "'name' must be between 3 and 255 characters";
+        final var expectedErrorCount = 1;
+
+        final var aCommand = PatchCastMemberCommand.with("123", "Jo", null);
+
+        final var actualException = assertThrows(NotificationException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorCount, actualException.getErrors().size());
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        Mockito.verify(castMemberGateway, times(0)).patch(any(), any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsPatchCastMember_shouldThrowNotFound() {
+        final var expectedErrorMessage = "CastMember with ID 123 was not found";
+
+        final var aCommand = PatchCastMemberCommand.with("123", "Wesley", null);
+
+        when(castMemberGateway.patch(any(), any()))
+                .thenReturn(false);
+
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
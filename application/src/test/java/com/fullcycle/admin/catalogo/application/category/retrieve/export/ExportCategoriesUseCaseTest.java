@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ExportCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenCategories_whenCallsExportCategories_shouldPassEveryCategoryToTheConsumer() {
+        // given
+        final var categories = List.of(
+                new CategoryPreview(Category.newCategory("Filmes", null, true)),
+                new CategoryPreview(Category.newCategory("Séries", null, true))
+        );
+
+        final var expectedItems = categories.stream()
+                .map(CategoryListOutput::from)
+                .toList();
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryPreview> aConsumer = invocation.getArgument(0);
+            categories.forEach(aConsumer);
+            return null;
+        }).when(categoryGateway).exportAll(any());
+
+        // when
+        final var actualItems = new ArrayList<CategoryListOutput>();
+        useCase.execute(actualItems::add);
+
+        // then
+        assertEquals(expectedItems, actualItems);
+
+        verify(categoryGateway, times(1)).exportAll(any());
+    }
+}
@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
@@ -31,8 +32,10 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
 
     @Test
     public void givenAValidQuery_whenCallsListCategories_thenShouldReturnCategories() {
-        final var categories = List.of(Category.newCategory("Filmes", null, true),
-                Category.newCategory("Séries", null, true));
+        final var categories = List.of(
+                new CategoryPreview(Category.newCategory("Filmes", null, true)),
+                new CategoryPreview(Category.newCategory("Séries", null, true))
+        );
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -59,7 +62,7 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
 
     @Test
     public void givenAValidQuery_whenGatewayThrowsException_shouldReturnException() {
-        final var categories = List.<Category>of();
+        final var categories = List.<CategoryPreview>of();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
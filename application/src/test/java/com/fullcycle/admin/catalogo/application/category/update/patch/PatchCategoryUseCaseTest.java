@@ -0,0 +1,103 @@
+package com.fullcycle.admin.catalogo.application.category.update.patch;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public class PatchCategoryUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultPatchCategoryUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenOnlyIsActive_whenCallsPatchCategory_shouldPatchWithoutLoadingTheCategory() {
+        final var expectedId = CategoryID.from("123");
+        final var expectedIsActive = false;
+
+        final var aCommand = PatchCategoryCommand.with(expectedId.getValue(), null, null, expectedIsActive);
+
+        when(categoryGateway.patch(any(), any()))
+                .thenReturn(true);
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+
+        Mockito.verify(categoryGateway, times(0)).findById(any());
+        Mockito.verify(categoryGateway, times(1)).patch(eq(expectedId), argThat(aPatch ->
+                Objects.isNull(aPatch.name())
+                        && Objects.isNull(aPatch.description())
+                        && Objects.equals(expectedIsActive, aPatch.active())
+                        && Objects.nonNull(aPatch.updatedAt())));
+    }
+
+    @Test
+    public void givenAnEmptyName_whenCallsPatchCategory_thenShouldReturnNotification() {
+        final var expectedErrorMessage = "'name' should not be empty";
+        final var expectedErrorCount = 1;
+
+        final var aCommand = PatchCategoryCommand.with("123", " ", null, null);
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        assertEquals(expectedErrorCount, notification.getErrors().size());
+        assertEquals(expectedErrorMessage, notification.firstError().message());
+
+        Mockito.verify(categoryGateway, times(0)).patch(any(), any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsPatchCategory_shouldThrowNotFound() {
+        final var expectedId = "123";
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        final var aCommand = PatchCategoryCommand.with(expectedId, "Filmes", null, null);
+
+        when(categoryGateway.patch(any(), any()))
+                .thenReturn(false);
+
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsPatchCategory_shouldReturnNotification() {
+        final var expectedErrorMessage = "Gateway error";
+        final var expectedErrorCount = 1;
+
+        final var aCommand = PatchCategoryCommand.with("123", "Filmes", null, null);
+
+        when(categoryGateway.patch(any(), any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        assertEquals(expectedErrorCount, notification.getErrors().size());
+        assertEquals(expectedErrorMessage, notification.firstError().message());
+    }
+}
@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.application.genre.delete;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DeleteGenresUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultDeleteGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenValidIds_whenCallsDeleteGenres_shouldReturnDeletedCount() {
+        // given
+        final var expectedIds = Set.of(GenreID.from("123"), GenreID.from("456"));
+        final var expectedDeleted = 1;
+
+        when(genreGateway.deleteAllById(any()))
+                .thenReturn(expectedDeleted);
+
+        // when
+        final var actualOutput = useCase.execute(Set.of("123", "456"));
+
+        // then
+        assertEquals(expectedDeleted, actualOutput.deleted());
+
+        verify(genreGateway, times(1)).deleteAllById(eq(expectedIds));
+    }
+
+    @Test
+    public void givenValidIds_whenGatewayThrowsException_shouldReturnException() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+
+        when(genreGateway.deleteAllById(any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var actualException = assertThrows(IllegalStateException.class, () -> useCase.execute(Set.of("123")));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.application.genre.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ExportGenresUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenGenres_whenCallsExportGenres_shouldPassEveryGenreToTheConsumer() {
+        // given
+        final var genres = List.of(
+                new GenrePreview(Genre.newGenre("Ação", true).addCategory(CategoryID.from("123"))),
+                new GenrePreview(Genre.newGenre("Aventura", true))
+        );
+
+        final var expectedItems = genres.stream()
+                .map(GenreListOutput::from)
+                .toList();
+
+        doAnswer(invocation -> {
+            final Consumer<GenrePreview> aConsumer = invocation.getArgument(0);
+            genres.forEach(aConsumer);
+            return null;
+        }).when(genreGateway).exportAll(any());
+
+        // when
+        final var actualItems = new ArrayList<GenreListOutput>();
+        useCase.execute(actualItems::add);
+
+        // then
+        assertEquals(expectedItems, actualItems);
+
+        verify(genreGateway, times(1)).exportAll(any());
+    }
+}
@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.application.genre.retrieve.list;
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -36,8 +37,8 @@ public class ListGenreUseCaseTest extends UseCaseTest {
     public void givernAValidQuery_whenCallsListGenre_shouldReturnGenres() {
         // given
         final var genres = List.of(
-                Genre.newGenre("Ação", true),
-                Genre.newGenre("Aventura", true)
+                new GenrePreview(Genre.newGenre("Ação", true)),
+                new GenrePreview(Genre.newGenre("Aventura", true))
         );
 
         final var expectedPage = 0;
@@ -77,7 +78,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
     @Test
     public void givernAValidQuery_whenCallsListGenreAndResultIsEmpty_shouldReturnGenres() {
         // given
-        final var genres = List.<Genre>of();
+        final var genres = List.<GenrePreview>of();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalogo.application.genre.update.patch;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public class PatchGenreUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultPatchGenreUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenOnlyAName_whenCallsPatchGenre_shouldPatchOnlyTheName() {
+        final var expectedId = GenreID.from("123");
+        final var expectedName = "Acao";
+
+        final var aCommand = PatchGenreCommand.with(expectedId.getValue(), expectedName, null);
+
+        when(genreGateway.patch(any(), any()))
+                .thenReturn(true);
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+
+        Mockito.verify(genreGateway, times(0)).findById(any());
+        Mockito.verify(genreGateway, times(1)).patch(eq(expectedId), argThat(aPatch ->
+                Objects.equals(expectedName, aPatch.name()) && Objects.isNull(aPatch.active())));
+    }
+
+    @Test
+    public void givenAnEmptyName_whenCallsPatchGenre_shouldThrowNotificationException() {
+        final var expectedErrorMessage = "'name' should not be empty";
+        final var expectedErrorCount = 1;
+
+        final var aCommand = PatchGenreCommand.with("123", " ", false);
+
+        final var actualException = assertThrows(NotificationException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorCount, actualException.getErrors().size());
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        Mockito.verify(genreGateway, times(0)).patch(any(), any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsPatchGenre_shouldThrowNotFound() {
+        final var expectedErrorMessage = "Genre with ID 123 was not found";
+
+        final var aCommand = PatchGenreCommand.with("123", null, true);
+
+        when(genreGateway.patch(any(), any()))
+                .thenReturn(false);
+
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -21,12 +21,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -59,6 +62,9 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Spy
+    private ExecutorService mediaStoreExecutor = Executors.newCachedThreadPool();
+
     @Override
     protected List<Object> getMocks() {
         return List.of(videoGateway, castMemberGateway, categoryGateway, genreGateway, mediaResourceGateway);
@@ -1020,6 +1026,45 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(mediaResourceGateway).clearResources(any());
     }
 
+    @Test
+    public void givenAFailingMediaStore_whenCallsCreateVideo_shouldClearResourcesAndNotCreateTheVideo() {
+        // given
+        final var expectedErrorMessage = "An error on create video was observed";
+
+        final var aCommand = CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(VideoMediaType.VIDEO),
+                Fixture.Videos.resource(VideoMediaType.BANNER),
+                Fixture.Videos.resource(VideoMediaType.TRAILER),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF)
+        );
+
+        when(mediaResourceGateway.storeImage(any(), any()))
+                .thenThrow(new RuntimeException("Storage unavailable"));
+
+        // when
+        final var actualResult = assertThrows(InternalErrorException.class, () -> {
+            this.useCase.execute(aCommand);
+        });
+
+        // then
+        assertTrue(actualResult.getMessage().startsWith(expectedErrorMessage));
+        assertEquals("Storage unavailable", actualResult.getCause().getMessage());
+
+        verify(mediaResourceGateway).clearResources(any());
+        verify(videoGateway, times(0)).create(any());
+    }
+
     private void mockImageMedia() {
         when(mediaResourceGateway.storeImage(any(), any()))
                 .thenAnswer(t -> {
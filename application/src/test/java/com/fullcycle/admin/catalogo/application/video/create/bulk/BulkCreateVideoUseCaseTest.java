@@ -0,0 +1,197 @@
+package com.fullcycle.admin.catalogo.application.video.create.bulk;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.video.create.CreateVideoCommand;
+import com.fullcycle.admin.catalogo.application.video.create.bulk.BulkCreateVideoCommand.Line;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkCreateVideoUseCaseTest extends UseCaseTest {
+
+    private DefaultBulkCreateVideoUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, castMemberGateway, categoryGateway, genreGateway);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        this.useCase = new DefaultBulkCreateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, videoGateway, 2);
+    }
+
+    @Test
+    public void givenValidLinesInTwoChunks_whenCallsBulkCreate_shouldLookupEachAggregateOncePerChunk() {
+        // given
+        final var aulas = Fixture.Categories.aulas().getId();
+        final var lives = Fixture.Categories.lives().getId();
+        final var tech = Fixture.Genres.tech().getId();
+        final var wesley = Fixture.CastMembers.wesley().getId();
+
+        final var lines = List.of(
+                Line.valid(1, aCommand(Set.of(aulas), Set.of(tech), Set.of(wesley))),
+                Line.valid(2, aCommand(Set.of(aulas, lives), Set.of(tech), Set.of(wesley))),
+                Line.valid(3, aCommand(Set.of(lives), Set.of(), Set.of()))
+        );
+
+        when(categoryGateway.existsByIds(any()))
+                .thenAnswer(invocation -> toList(invocation.getArgument(0)));
+
+        when(genreGateway.existsByIds(any()))
+                .thenAnswer(invocation -> toList(invocation.getArgument(0)));
+
+        when(castMemberGateway.existsByIds(any()))
+                .thenAnswer(invocation -> toList(invocation.getArgument(0)));
+
+        when(videoGateway.createAll(any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(BulkCreateVideoCommand.with(lines.iterator()));
+
+        // then
+        assertEquals(3, actualOutput.created());
+        assertTrue(actualOutput.errors().isEmpty());
+
+        verify(categoryGateway, times(1)).existsByIds(argThat(ids -> Set.of(aulas, lives).equals(ids)));
+        verify(categoryGateway, times(1)).existsByIds(argThat(ids -> Set.of(lives).equals(ids)));
+        verify(genreGateway, times(1)).existsByIds(argThat(ids -> Set.of(tech).equals(ids)));
+        verify(castMemberGateway, times(1)).existsByIds(argThat(ids -> Set.of(wesley).equals(ids)));
+        verify(videoGateway, times(1)).createAll(argThat(videos -> videos.size() == 2));
+        verify(videoGateway, times(1)).createAll(argThat(videos -> videos.size() == 1));
+    }
+
+    @Test
+    public void givenInvalidLines_whenCallsBulkCreate_shouldReportErrorsPerLine() {
+        // given
+        final var aulas = Fixture.Categories.aulas().getId();
+        final var missing = CategoryID.from("123");
+
+        final var expectedErrorMessage = "Some categories could not be found: 123";
+
+        final var lines = List.of(
+                Line.invalid(1, "Malformed JSON"),
+                Line.valid(2, aCommand(Set.of(aulas, missing), Set.of(), Set.of())),
+                Line.valid(3, aCommand(Set.of(aulas), Set.of(), Set.of()))
+        );
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of(aulas));
+
+        when(videoGateway.createAll(any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        // Tamanho padrao de lote: as tres linhas no mesmo lote
+        final var aUseCase = new DefaultBulkCreateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, videoGateway);
+
+        // when
+        final var actualOutput = aUseCase.execute(BulkCreateVideoCommand.with(lines.iterator()));
+
+        // then
+        assertEquals(1, actualOutput.created());
+        assertEquals(2, actualOutput.errors().size());
+        assertEquals(1, actualOutput.errors().get(0).line());
+        assertEquals(List.of("Malformed JSON"), actualOutput.errors().get(0).messages());
+        assertEquals(2, actualOutput.errors().get(1).line());
+        assertEquals(List.of(expectedErrorMessage), actualOutput.errors().get(1).messages());
+
+        verify(categoryGateway, times(1)).existsByIds(any());
+        verify(videoGateway, times(1)).createAll(argThat(videos -> videos.size() == 1));
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsBulkCreate_shouldReportEveryLineOfTheChunk() {
+        // given
+        final var expectedErrorMessage = "An error on create video was observed: gateway error";
+
+        final var lines = List.of(
+                Line.valid(1, aCommand(Set.of(), Set.of(), Set.of())),
+                Line.valid(2, aCommand(Set.of(), Set.of(), Set.of())),
+                Line.valid(3, aCommand(Set.of(), Set.of(), Set.of()))
+        );
+
+        when(videoGateway.createAll(argThat(videos -> videos != null && videos.size() == 2)))
+                .thenThrow(new IllegalStateException("gateway error"));
+
+        when(videoGateway.createAll(argThat(videos -> videos != null && videos.size() == 1)))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(BulkCreateVideoCommand.with(lines.iterator()));
+
+        // then
+        assertEquals(1, actualOutput.created());
+        assertEquals(2, actualOutput.errors().size());
+        assertEquals(1, actualOutput.errors().get(0).line());
+        assertEquals(List.of(expectedErrorMessage), actualOutput.errors().get(0).messages());
+        assertEquals(2, actualOutput.errors().get(1).line());
+
+        verify(categoryGateway, times(0)).existsByIds(any());
+        verify(genreGateway, times(0)).existsByIds(any());
+        verify(castMemberGateway, times(0)).existsByIds(any());
+    }
+
+    private CreateVideoCommand aCommand(
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> members
+    ) {
+        return CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                asString(categories),
+                asString(genres),
+                asString(members),
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    private static <T> List<T> toList(final Iterable<T> ids) {
+        final var list = new ArrayList<T>();
+        ids.forEach(list::add);
+        return list;
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.application.video.media;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class ParallelMediaStoreTest extends UseCaseTest {
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaResourceGateway);
+    }
+
+    @Test
+    public void givenAnInterruptedCallerRunningTheTasks_whenCallsStoreAll_shouldKeepTheInterruptStatus() {
+        // given
+        final var expectedBanner = ImageMedia.with("abc", "banner.png", "/raw/banner.png");
+        final var aResource = VideoResource.with(VideoMediaType.BANNER, Fixture.Videos.resource(VideoMediaType.BANNER));
+
+        when(mediaResourceGateway.storeImage(any(), any())).thenReturn(expectedBanner);
+
+        // Executor que roda a tarefa na propria thread, como a CallerRunsPolicy com o pool cheio
+        final var target = new ParallelMediaStore(mediaResourceGateway, Runnable::run);
+
+        // when
+        Thread.currentThread().interrupt();
+        final ParallelMediaStore.Medias actualMedias;
+        final boolean actualInterrupted;
+        try {
+            actualMedias = target.storeAll(VideoID.unique(), List.of(aResource));
+        } finally {
+            actualInterrupted = Thread.interrupted();
+        }
+
+        // then
+        assertTrue(actualInterrupted);
+        assertEquals(expectedBanner, actualMedias.banner());
+    }
+}
@@ -9,9 +9,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
@@ -30,7 +32,7 @@ public class GetMediaUseCaseTest extends UseCaseTest {
     }
 
     @Test
-    public void givenVideoIdAndType_whenIsValidCmd_shouldReturnResource() {
+    public void givenVideoIdAndType_whenIsValidCmd_shouldReturnResource() throws IOException {
         // given
         final var expectedId = VideoID.unique();
         final var expectedType = Fixture.Videos.mediaType();
@@ -46,7 +48,11 @@ public class GetMediaUseCaseTest extends UseCaseTest {
 
         // then
         assertEquals(expectedResource.name(), actualResult.name());
-        assertEquals(expectedResource.content(), actualResult.content());
+        assertEquals(expectedResource.length(), actualResult.length());
+        assertEquals(expectedResource.checksum(), actualResult.checksum());
+        try (final var actualContent = actualResult.content().open()) {
+            assertArrayEquals(expectedResource.content(), actualContent.readAllBytes());
+        }
         assertEquals(expectedResource.contentType(), actualResult.contentType());
     }
 
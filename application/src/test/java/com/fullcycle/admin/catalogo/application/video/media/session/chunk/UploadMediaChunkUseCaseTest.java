@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.chunk;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UploadMediaChunkUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultUploadMediaChunkUseCase useCase;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaResourceGateway, mediaUploadGateway);
+    }
+
+    @Test
+    public void givenTheNextChunk_whenCallsUploadChunk_shouldSendItAndAdvanceTheUpload() {
+        // given
+        final var anUpload = upload(10).start("session-0");
+        final var aChunk = chunk(10);
+        final var expectedSession = "session-1";
+        // A sessao enviada e lida na chamada: depois do append o mesmo objeto ja tem a sessao nova
+        final var actualSentSession = new AtomicReference<String>();
+
+        when(mediaUploadGateway.findById(any())).thenReturn(Optional.of(anUpload));
+        when(mediaResourceGateway.uploadChunk(any(), any())).thenAnswer(call -> {
+            actualSentSession.set(call.<MediaUpload>getArgument(0).getSession());
+            return expectedSession;
+        });
+        when(mediaUploadGateway.updateProgress(any(), anyLong())).thenReturn(true);
+
+        // when
+        final var actualOutput = useCase.execute(UploadMediaChunkCommand.with(anUpload.getId().getValue(), 0, aChunk));
+
+        // then
+        assertEquals(10, actualOutput.uploaded());
+        assertTrue(actualOutput.completed());
+
+        assertEquals("session-0", actualSentSession.get());
+        verify(mediaResourceGateway, times(1)).uploadChunk(eq(anUpload), eq(aChunk));
+        verify(mediaUploadGateway, times(1)).updateProgress(argThat(it -> Objects.equals(expectedSession, it.getSession())), eq(0L));
+    }
+
+    @Test
+    public void givenAConcurrentChunkWithTheSameOffset_whenCallsUploadChunk_shouldNotAdvanceTheUploadTwice() {
+        // given
+        final var anUpload = upload(10).start("session-0");
+        final var expectedErrorMessage = "Chunk offset 0 was already uploaded by another request";
+
+        when(mediaUploadGateway.findById(any())).thenReturn(Optional.of(anUpload));
+        when(mediaResourceGateway.uploadChunk(any(), any())).thenReturn("session-1");
+        when(mediaUploadGateway.updateProgress(any(), anyLong())).thenReturn(false);
+
+        final var aCmd = UploadMediaChunkCommand.with(anUpload.getId().getValue(), 0, chunk(4));
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(aCmd));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaUploadGateway, times(1)).updateProgress(any(), eq(0L));
+    }
+
+    @Test
+    public void givenAWrongOffset_whenCallsUploadChunk_shouldNotSendIt() {
+        // given
+        final var anUpload = upload(10).start("session-0");
+        final var expectedErrorMessage = "Chunk offset 4 doesn't match the 0 bytes already uploaded";
+
+        when(mediaUploadGateway.findById(any())).thenReturn(Optional.of(anUpload));
+
+        final var aCmd = UploadMediaChunkCommand.with(anUpload.getId().getValue(), 4, chunk(6));
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(aCmd));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaResourceGateway, never()).uploadChunk(any(), any());
+        verify(mediaUploadGateway, never()).updateProgress(any(), anyLong());
+    }
+
+    private static MediaUpload upload(final long aLength) {
+        return MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", "1a2b3c4d", aLength);
+    }
+
+    private static Resource chunk(final int aLength) {
+        return Resource.with("abc", new byte[aLength], "application/octet-stream", "chunk");
+    }
+}
@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.complete;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CompleteMediaUploadUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCompleteMediaUploadUseCase useCase;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaResourceGateway, mediaUploadGateway, videoGateway);
+    }
+
+    @Test
+    public void givenAFullyUploadedTrailer_whenCallsComplete_shouldLinkItToTheVideo() {
+        // given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        final var anUpload = MediaUpload.newUpload(aVideo.getId(), expectedType, "trailer.mp4", "video/mp4", "1a2b3c4d", 10)
+                .start("session-0")
+                .append(0, 10, "session-1");
+
+        when(mediaUploadGateway.findById(any())).thenReturn(Optional.of(anUpload));
+        when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+        when(mediaResourceGateway.completeUpload(any())).thenReturn(expectedMedia);
+        when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(anUpload.getId().getValue());
+
+        // then
+        assertEquals(aVideo.getId().getValue(), actualOutput.videoId());
+        assertEquals(expectedType, actualOutput.mediaType());
+
+        verify(videoGateway, times(1)).update(argThat(actualVideo ->
+                Objects.equals(expectedMedia, actualVideo.getTrailer().get())
+                        && actualVideo.getVideo().isEmpty()
+        ));
+        verify(mediaUploadGateway, times(1)).deleteById(eq(anUpload.getId()));
+    }
+
+    @Test
+    public void givenAnUnfinishedUpload_whenCallsComplete_shouldReturnError() {
+        // given
+        final var anUpload = MediaUpload.newUpload(Fixture.Videos.systemDesign().getId(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", "1a2b3c4d", 10)
+                .start("session-0")
+                .append(0, 4, "session-1");
+        final var expectedErrorMessage = "Upload %s is missing 6 of 10 bytes".formatted(anUpload.getId().getValue());
+
+        when(mediaUploadGateway.findById(any())).thenReturn(Optional.of(anUpload));
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(anUpload.getId().getValue()));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaResourceGateway, never()).completeUpload(any());
+        verify(videoGateway, never()).update(any());
+    }
+}
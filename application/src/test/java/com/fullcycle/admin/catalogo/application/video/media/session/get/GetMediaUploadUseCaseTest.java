@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.get;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class GetMediaUploadUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetMediaUploadUseCase useCase;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaUploadGateway);
+    }
+
+    @Test
+    public void givenAnUploadInProgress_whenCallsGet_shouldReturnItsProgress() {
+        // given
+        final var anUpload = MediaUpload.newUpload(VideoID.unique(), VideoMediaType.TRAILER, "trailer.mp4", "video/mp4", "1a2b3c4d", 10)
+                .start("session-0")
+                .append(0, 4, "session-1");
+
+        when(mediaUploadGateway.findById(any())).thenReturn(Optional.of(anUpload));
+
+        // when
+        final var actualOutput = useCase.execute(anUpload.getId().getValue());
+
+        // then
+        assertEquals(anUpload.getId().getValue(), actualOutput.uploadId());
+        assertEquals(VideoMediaType.TRAILER, actualOutput.mediaType());
+        assertEquals(10, actualOutput.length());
+        assertEquals(4, actualOutput.uploaded());
+        assertFalse(actualOutput.completed());
+    }
+
+    @Test
+    public void givenAnUnknownUpload_whenCallsGet_shouldReturnNotFound() {
+        // given
+        final var expectedId = MediaUploadID.unique();
+        final var expectedErrorMessage = "MediaUpload with ID %s was not found".formatted(expectedId.getValue());
+
+        when(mediaUploadGateway.findById(any())).thenReturn(Optional.empty());
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
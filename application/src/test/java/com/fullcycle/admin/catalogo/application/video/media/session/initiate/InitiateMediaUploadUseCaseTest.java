@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.initiate;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class InitiateMediaUploadUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultInitiateMediaUploadUseCase useCase;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaResourceGateway, mediaUploadGateway, videoGateway);
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsInitiate_shouldStartTheStorageSessionAndPersistIt() {
+        // given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedLength = 5L * 1024 * 1024 * 1024;
+        final var expectedSession = "session-0";
+
+        when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+        when(mediaResourceGateway.initiateUpload(any())).thenReturn(expectedSession);
+        when(mediaUploadGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        final var aCmd = InitiateMediaUploadCommand.with(expectedId.getValue(), "video", "video.mp4", "video/mp4", "1a2b3c4d", expectedLength);
+
+        // when
+        final var actualOutput = useCase.execute(aCmd);
+
+        // then
+        assertEquals(expectedId.getValue(), actualOutput.videoId());
+        assertEquals(expectedType, actualOutput.mediaType());
+        assertEquals(expectedLength, actualOutput.length());
+        assertEquals(0, actualOutput.uploaded());
+        assertFalse(actualOutput.completed());
+
+        verify(mediaUploadGateway, times(1)).create(argThat(anUpload ->
+                Objects.equals(expectedId, anUpload.getVideoId())
+                        && Objects.equals(expectedSession, anUpload.getSession())
+                        && Objects.equals(actualOutput.uploadId(), anUpload.getId().getValue())
+        ));
+    }
+
+    @Test
+    public void givenAnUnknownVideo_whenCallsInitiate_shouldReturnNotFound() {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
+
+        when(videoGateway.findById(any())).thenReturn(Optional.empty());
+
+        final var aCmd = InitiateMediaUploadCommand.with(expectedId.getValue(), "trailer", "trailer.mp4", "video/mp4", "1a2b3c4d", 10);
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(aCmd));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaResourceGateway, never()).initiateUpload(any());
+        verify(mediaUploadGateway, never()).create(any());
+    }
+}
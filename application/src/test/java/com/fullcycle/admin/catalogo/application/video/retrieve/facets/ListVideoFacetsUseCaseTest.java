@@ -0,0 +1,86 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.facets;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ListVideoFacetsUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListVideoFacetsUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListVideoFacets_shouldReturnCounts() {
+        // given
+        final var aMember = CastMemberID.unique();
+        final var aCategory = CategoryID.unique();
+        final var aGenre = GenreID.unique();
+
+        final var facets = new VideoFacets(
+                Map.of(aMember, 2L),
+                Map.of(aCategory, 3L),
+                Map.of(aGenre, 1L),
+                Map.of(Rating.L, 4L, Rating.AGE_18, 1L)
+        );
+
+        when(videoGateway.facets(any()))
+                .thenReturn(facets);
+
+        final var aQuery = new VideoSearchQuery(0, 10, "A", "title", "asc", Set.of(), Set.of(aCategory), Set.of());
+
+        // when
+        final var actualOutput = useCase.execute(aQuery);
+
+        // then
+        assertEquals(Map.of(aMember.getValue(), 2L), actualOutput.castMembers());
+        assertEquals(Map.of(aCategory.getValue(), 3L), actualOutput.categories());
+        assertEquals(Map.of(aGenre.getValue(), 1L), actualOutput.genres());
+        assertEquals(Map.of("L", 4L, "18", 1L), actualOutput.ratings());
+
+        verify(videoGateway).facets(eq(aQuery));
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListVideoFacetsAndGatewayThrowsRandomError_shouldReturnException() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+
+        when(videoGateway.facets(any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of());
+
+        // when
+        final var actualException = assertThrows(IllegalStateException.class, () -> useCase.execute(aQuery));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
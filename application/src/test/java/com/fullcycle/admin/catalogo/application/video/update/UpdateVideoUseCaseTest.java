@@ -23,6 +23,7 @@ import com.fullcycle.admin.catalogo.domain.video.VideoResource;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 import java.time.Year;
 import java.util.ArrayList;
@@ -30,6 +31,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -63,6 +66,9 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Spy
+    private ExecutorService mediaStoreExecutor = Executors.newCachedThreadPool();
+
     @Override
     protected List<Object> getMocks() {
         return List.of(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway);
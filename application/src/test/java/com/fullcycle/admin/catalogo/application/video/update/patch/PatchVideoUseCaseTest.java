@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalogo.application.video.update.patch;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public class PatchVideoUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultPatchVideoUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenOnlyPublished_whenCallsPatchVideo_shouldPatchWithoutLoadingTheVideo() {
+        final var expectedId = VideoID.from("123");
+
+        final var aCommand = PatchVideoCommand.with(expectedId.getValue(), null, null, null, null, null, true, null);
+
+        when(videoGateway.patch(any(), any()))
+                .thenReturn(true);
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+
+        Mockito.verify(videoGateway, times(0)).findById(any());
+        Mockito.verify(videoGateway, times(1)).patch(eq(expectedId), argThat(aPatch ->
+                Boolean.TRUE.equals(aPatch.published())
+                        && Objects.isNull(aPatch.title())
+                        && Objects.isNull(aPatch.description())
+                        && Objects.isNull(aPatch.launchedAt())
+                        && Objects.isNull(aPatch.duration())
+                        && Objects.isNull(aPatch.opened())
+                        && Objects.isNull(aPatch.rating())));
+    }
+
+    @Test
+    public void givenARatingAndYear_whenCallsPatchVideo_shouldConvertThem() {
+        final var expectedId = VideoID.from("123");
+
+        final var aCommand = PatchVideoCommand.with(expectedId.getValue(), null, null, 2022, null, null, null, "L");
+
+        when(videoGateway.patch(any(), any()))
+                .thenReturn(true);
+
+        useCase.execute(aCommand);
+
+        Mockito.verify(videoGateway, times(1)).patch(eq(expectedId), argThat(aPatch ->
+                Objects.equals(Rating.L, aPatch.rating()) && aPatch.launchedAt().getValue() == 2022));
+    }
+
+    @Test
+    public void givenAnEmptyTitleAndUnknownRating_whenCallsPatchVideo_shouldThrowNotificationException() {
+        final var expectedErrorCount = 2;
+        final var expectedFirstError = "'title' should not be empty";
+        final var expectedSecondError = "'rating' is invalid";
+
+        final var aCommand = PatchVideoCommand.with("123", " ", null, null, null, null, null, "XPTO");
+
+        final var actualException = assertThrows(NotificationException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorCount, actualException.getErrors().size());
+        assertEquals(expectedFirstError, actualException.getErrors().get(0).message());
+        assertEquals(expectedSecondError, actualException.getErrors().get(1).message());
+
+        Mockito.verify(videoGateway, times(0)).patch(any(), any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsPatchVideo_shouldThrowNotFound() {
+        final var expectedErrorMessage = "Video with ID 123 was not found";
+
+        final var aCommand = PatchVideoCommand.with("123", null, null, null, null, null, false, null);
+
+        when(videoGateway.patch(any(), any()))
+                .thenReturn(false);
+
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
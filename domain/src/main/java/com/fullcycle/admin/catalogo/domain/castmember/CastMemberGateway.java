@@ -5,6 +5,7 @@ import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CastMemberGateway {
 
@@ -12,11 +13,17 @@ public interface CastMemberGateway {
 
     void deleteById(CastMemberID anId);
 
+    int deleteAllById(Iterable<CastMemberID> ids);
+
     Optional<CastMember> findById(CastMemberID anId);
 
     CastMember update(CastMember aMember);
 
+    boolean patch(CastMemberID anId, CastMemberPatch aPatch);
+
     Pagination<CastMember> findAll(SearchQuery aQuery);
 
+    void exportAll(Consumer<CastMemberPreview> aConsumer);
+
     List<CastMemberID> existsByIds(Iterable<CastMemberID> ids);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.domain.castmember;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+
+import java.time.Instant;
+
+// Alteracao parcial de um membro do elenco: campos nulos nao sao alterados
+public record CastMemberPatch(String name, CastMemberType type, Instant updatedAt) {
+
+    public static CastMemberPatch with(final String aName, final CastMemberType aType) {
+        return new CastMemberPatch(aName, aType, InstantUtils.now());
+    }
+
+    public void validate(final ValidationHandler handler) {
+        new CastMemberPatchValidator(this, handler).validate();
+    }
+}
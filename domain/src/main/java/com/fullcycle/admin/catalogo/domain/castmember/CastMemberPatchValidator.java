@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.domain.castmember;
+
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.Validator;
+
+public class CastMemberPatchValidator extends Validator {
+
+    private final CastMemberPatch patch;
+
+    public CastMemberPatchValidator(final CastMemberPatch aPatch, final ValidationHandler aHandler) {
+        super(aHandler);
+        this.patch = aPatch;
+    }
+
+    @Override
+    public void validate() {
+        if (this.patch.name() != null)
+            CastMemberValidator.checkName(this.patch.name(), this.validationHandler());
+    }
+}
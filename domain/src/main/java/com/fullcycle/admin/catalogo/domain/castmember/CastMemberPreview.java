@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.domain.castmember;
+
+import java.time.Instant;
+
+public record CastMemberPreview(
+        CastMemberID id,
+        String name,
+        CastMemberType type,
+        Instant createdAt
+) {
+
+    // Usado pelas projecoes, que leem o id direto da coluna
+    public CastMemberPreview(
+            final String id,
+            final String name,
+            final CastMemberType type,
+            final Instant createdAt
+    ) {
+        this(CastMemberID.from(id), name, type, createdAt);
+    }
+
+    public CastMemberPreview(final CastMember aMember) {
+        this(aMember.getId(), aMember.getName(), aMember.getType(), aMember.getCreatedAt());
+    }
+}
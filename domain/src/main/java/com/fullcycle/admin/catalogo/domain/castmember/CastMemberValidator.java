@@ -23,20 +23,23 @@ public class CastMemberValidator extends Validator {
     }
 
     private void checkNameConstraints() {
-        final var name = this.castMember.getName();
+        checkName(this.castMember.getName(), this.validationHandler());
+    }
+
+    static void checkName(final String name, final ValidationHandler handler) {
         if (name == null) {
-            this.validationHandler().append(new com.fullcycle.admin.catalogo.domain.validation.Error("'name' should not be null"));
+            handler.append(new Error("'name' should not be null"));
             return;
         }
 
         if (name.isBlank()) {
-            this.validationHandler().append(new com.fullcycle.admin.catalogo.domain.validation.Error("'name' should not be empty"));
+            handler.append(new Error("'name' should not be empty"));
             return;
         }
 
         final var length = name.trim().length();
         if (length > NAME_MAX_LENGTH || length < NAME_MIN_LENGTH)
-            this.validationHandler().append(new Error("'name' must be between 3 and 255 characters"));
+            handler.append(new Error("'name' must be between 3 and 255 characters"));
     }
 
     private void checkTypeConstraints() {
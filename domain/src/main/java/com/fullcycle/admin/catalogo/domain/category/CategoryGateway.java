@@ -5,6 +5,7 @@ import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
 
@@ -12,11 +13,17 @@ public interface CategoryGateway {
 
     Category update(Category aCategory);
 
+    boolean patch(CategoryID anId, CategoryPatch aPatch);
+
     Optional<Category> findById(CategoryID anId);
 
-    Pagination<Category> findAll(SearchQuery aQuery);
+    Pagination<CategoryPreview> findAll(SearchQuery aQuery);
+
+    void exportAll(Consumer<CategoryPreview> aConsumer);
 
     void deleteById(CategoryID anId);
 
+    int deleteAllById(Iterable<CategoryID> ids);
+
     List<CategoryID> existsByIds(Iterable<CategoryID> ids);
 }
\ No newline at end of file
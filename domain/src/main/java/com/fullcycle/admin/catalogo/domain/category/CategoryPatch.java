@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+
+import java.time.Instant;
+
+// Alteracao parcial de uma categoria: campos nulos nao sao alterados
+public record CategoryPatch(String name, String description, Boolean active, Instant updatedAt) {
+
+    public static CategoryPatch with(final String aName, final String aDescription, final Boolean isActive) {
+        return new CategoryPatch(aName, aDescription, isActive, InstantUtils.now());
+    }
+
+    public void validate(final ValidationHandler handler) {
+        new CategoryPatchValidator(this, handler).validate();
+    }
+}
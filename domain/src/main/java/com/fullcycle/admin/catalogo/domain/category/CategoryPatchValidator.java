@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.Validator;
+
+// Aplica as regras do CategoryValidator apenas aos campos presentes na alteracao
+public class CategoryPatchValidator extends Validator {
+
+    private final CategoryPatch patch;
+
+    public CategoryPatchValidator(final CategoryPatch aPatch, final ValidationHandler aHandler) {
+        super(aHandler);
+        this.patch = aPatch;
+    }
+
+    @Override
+    public void validate() {
+        if (this.patch.name() != null)
+            CategoryValidator.checkName(this.patch.name(), this.validationHandler());
+    }
+}
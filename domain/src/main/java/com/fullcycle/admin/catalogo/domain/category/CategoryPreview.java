@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+public record CategoryPreview(
+        CategoryID id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant deletedAt
+) {
+
+    // Usado pelas projecoes da listagem, que leem o id direto da coluna
+    public CategoryPreview(
+            final String id,
+            final String name,
+            final String description,
+            final boolean active,
+            final Instant createdAt,
+            final Instant deletedAt
+    ) {
+        this(CategoryID.from(id), name, description, active, createdAt, deletedAt);
+    }
+
+    public CategoryPreview(final Category aCategory) {
+        this(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getDeletedAt()
+        );
+    }
+}
@@ -21,19 +21,22 @@ public class CategoryValidator extends Validator {
     }
 
     private void checkNameConstraints() {
-        final var name = this.category.getName();
+        checkName(this.category.getName(), this.validationHandler());
+    }
+
+    static void checkName(final String name, final ValidationHandler handler) {
         if (name == null) {
-            this.validationHandler().append(new Error("'name' should not be null"));
+            handler.append(new Error("'name' should not be null"));
             return;
         }
 
         if (name.isBlank()) {
-            this.validationHandler().append(new Error("'name' should not be empty"));
+            handler.append(new Error("'name' should not be empty"));
             return;
         }
 
         final var length = name.trim().length();
         if (length > NAME_MAX_LENGTH || length < NAME_MIN_LENGTH)
-            this.validationHandler().append(new Error("'name' must be between 3 and 255 characters"));
+            handler.append(new Error("'name' must be between 3 and 255 characters"));
     }
 }
@@ -5,6 +5,7 @@ import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GenreGateway {
 
@@ -12,11 +13,17 @@ public interface GenreGateway {
 
     void deleteById(GenreID anId);
 
+    int deleteAllById(Iterable<GenreID> ids);
+
     Optional<Genre> findById(GenreID anId);
 
     Genre update(Genre aGenre);
 
-    Pagination<Genre> findAll(SearchQuery aQuery);
+    boolean patch(GenreID anId, GenrePatch aPatch);
+
+    Pagination<GenrePreview> findAll(SearchQuery aQuery);
+
+    void exportAll(Consumer<GenrePreview> aConsumer);
 
     List<GenreID> existsByIds(Iterable<GenreID> ids);
 }
\ No newline at end of file
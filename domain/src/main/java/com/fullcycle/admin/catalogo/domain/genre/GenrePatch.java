@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+
+import java.time.Instant;
+
+// Alteracao parcial de um genero: campos nulos nao sao alterados. As categorias continuam no update completo.
+public record GenrePatch(String name, Boolean active, Instant updatedAt) {
+
+    public static GenrePatch with(final String aName, final Boolean isActive) {
+        return new GenrePatch(aName, isActive, InstantUtils.now());
+    }
+
+    public void validate(final ValidationHandler handler) {
+        new GenrePatchValidator(this, handler).validate();
+    }
+}
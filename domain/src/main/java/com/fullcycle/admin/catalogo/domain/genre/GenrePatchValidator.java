@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.Validator;
+
+public class GenrePatchValidator extends Validator {
+
+    private final GenrePatch patch;
+
+    public GenrePatchValidator(final GenrePatch aPatch, final ValidationHandler aHandler) {
+        super(aHandler);
+        this.patch = aPatch;
+    }
+
+    @Override
+    public void validate() {
+        if (this.patch.name() != null)
+            GenreValidator.checkName(this.patch.name(), this.validationHandler());
+    }
+}
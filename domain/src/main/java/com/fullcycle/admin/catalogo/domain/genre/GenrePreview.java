@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.time.Instant;
+import java.util.List;
+
+public record GenrePreview(
+        GenreID id,
+        String name,
+        boolean active,
+        List<CategoryID> categories,
+        Instant createdAt,
+        Instant deletedAt
+) {
+
+    // Usado pelas projecoes da listagem; as categorias sao carregadas depois, em uma unica consulta por pagina
+    public GenrePreview(
+            final String id,
+            final String name,
+            final boolean active,
+            final Instant createdAt,
+            final Instant deletedAt
+    ) {
+        this(GenreID.from(id), name, active, List.of(), createdAt, deletedAt);
+    }
+
+    public GenrePreview(final Genre aGenre) {
+        this(
+                aGenre.getId(),
+                aGenre.getName(),
+                aGenre.isActive(),
+                aGenre.getCategories(),
+                aGenre.getCreatedAt(),
+                aGenre.getDeletedAt()
+        );
+    }
+
+    public GenrePreview withCategories(final List<CategoryID> categories) {
+        return new GenrePreview(id, name, active, List.copyOf(categories), createdAt, deletedAt);
+    }
+}
@@ -22,19 +22,22 @@ public class GenreValidator extends Validator {
     }
 
     private void checkNameConstraints() {
-        final var name = this.genre.getName();
+        checkName(this.genre.getName(), this.validationHandler());
+    }
+
+    static void checkName(final String name, final ValidationHandler handler) {
         if (name == null) {
-            this.validationHandler().append(new Error("'name' should not be null"));
+            handler.append(new Error("'name' should not be null"));
             return;
         }
 
         if (name.isBlank()) {
-            this.validationHandler().append(new Error("'name' should not be empty"));
+            handler.append(new Error("'name' should not be empty"));
             return;
         }
 
         final var length = name.trim().length();
         if (length > NAME_MAX_LENGTH || length < NAME_MIN_LENGTH)
-            this.validationHandler().append(new Error("'name' must be between 1 and 255 characters"));
+            handler.append(new Error("'name' must be between 1 and 255 characters"));
     }
 }
\ No newline at end of file
@@ -7,13 +7,23 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        boolean hasNext,
+        String nextCursor
 ) {
+
+    // Total desconhecido: a busca foi feita sem COUNT (slice) ou sem estatisticas da tabela
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, (currentPage + 1L) * perPage < total, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items()
                 .stream()
                 .map(mapper)
                 .toList();
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, hasNext(), nextCursor());
     }
 }
\ No newline at end of file
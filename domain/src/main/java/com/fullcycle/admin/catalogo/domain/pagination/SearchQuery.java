@@ -5,6 +5,23 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        TotalMode totalMode
 ) {
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, TotalMode.EXACT);
+    }
+
+    public SearchQuery {
+        if (totalMode == null) {
+            totalMode = TotalMode.EXACT;
+        }
+    }
 }
\ No newline at end of file
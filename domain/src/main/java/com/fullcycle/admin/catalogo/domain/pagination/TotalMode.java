@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum TotalMode {
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static Optional<TotalMode> of(final String value) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(value))
+                .findFirst();
+    }
+
+    // Usado pelos parametros 'total' das listagens: um valor desconhecido vira erro de validacao
+    public static TotalMode from(final String value) {
+        return of(value)
+                .orElseThrow(() -> DomainException.with(new Error("Invalid total mode %s".formatted(value))));
+    }
+}
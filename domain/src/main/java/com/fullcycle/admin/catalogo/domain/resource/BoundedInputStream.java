@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalogo.domain.resource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Devolve no maximo 'remaining' bytes do stream original
+class BoundedInputStream extends FilterInputStream {
+
+    private long remaining;
+
+    BoundedInputStream(final InputStream in, final long length) {
+        super(in);
+        this.remaining = length;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (this.remaining <= 0) {
+            return -1;
+        }
+
+        final var value = super.read();
+        if (value >= 0) {
+            this.remaining--;
+        }
+        return value;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (this.remaining <= 0) {
+            return -1;
+        }
+
+        final var read = super.read(b, off, (int) Math.min(len, this.remaining));
+        if (read > 0) {
+            this.remaining -= read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        final var skipped = super.skip(Math.min(n, this.remaining));
+        this.remaining -= skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(super.available(), this.remaining);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
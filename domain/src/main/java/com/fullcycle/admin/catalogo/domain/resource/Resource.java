@@ -2,33 +2,129 @@ package com.fullcycle.admin.catalogo.domain.resource;
 
 import com.fullcycle.admin.catalogo.domain.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Arrays;
 import java.util.Objects;
 
+// Um arquivo de midia com tamanho e checksum conhecidos. O conteudo pode estar em memoria (imagens pequenas,
+// testes) ou ser lido sob demanda de um stream, para que videos de varios GB passem pelo sistema sem
+// serem carregados inteiros no heap.
 public class Resource extends ValueObject {
 
     private final String checksum;
-    private final byte[] content;
+    private final long length;
+    private final byte[] bytes;
+    private final ResourceContent content;
     private final String contentType;
     private final String name;
 
-    private Resource(final String checksum, final byte[] content, final String contentType, final String name) {
+    private Resource(
+            final String checksum,
+            final long length,
+            final byte[] bytes,
+            final ResourceContent content,
+            final String contentType,
+            final String name
+    ) {
         this.checksum = Objects.requireNonNull(checksum);
+        this.length = length;
+        this.bytes = bytes;
         this.content = Objects.requireNonNull(content);
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
+
+        if (length < 0) {
+            throw new IllegalArgumentException("'length' must not be negative");
+        }
     }
 
     public static Resource with(final String checksum, final byte[] content, final String contentType, final String name) {
-        return new Resource(checksum, content, contentType, name);
+        Objects.requireNonNull(content);
+        return new Resource(checksum, content.length, content, () -> new ByteArrayInputStream(content), contentType, name);
+    }
+
+    public static Resource with(
+            final String checksum,
+            final long length,
+            final ResourceContent content,
+            final String contentType,
+            final String name
+    ) {
+        return new Resource(checksum, length, null, content, contentType, name);
     }
 
     public String checksum() {
         return checksum;
     }
 
+    public long length() {
+        return length;
+    }
+
+    // Carrega o conteudo inteiro na memoria: use openStream() ou openChannel() para midias grandes
     public byte[] content() {
-        return content;
+        if (this.bytes != null) {
+            return this.bytes;
+        }
+
+        try (final var in = this.content.open()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InputStream openStream() {
+        try {
+            return this.content.open();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Abre somente o intervalo pedido, usado nos downloads com Range
+    public InputStream openStream(final long offset, final long length) {
+        if (offset < 0 || length < 0 || offset + length > this.length) {
+            throw new IllegalArgumentException("Range %d+%d is outside of the resource length %d".formatted(offset, length, this.length));
+        }
+
+        if (this.bytes != null) {
+            return new ByteArrayInputStream(this.bytes, (int) offset, (int) length);
+        }
+
+        try {
+            return this.content.open(offset, length);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Escreve o intervalo pedido direto na resposta, sem passar por um InputStream quando o storage permite
+    public long transferTo(final long offset, final long length, final OutputStream out) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > this.length) {
+            throw new IllegalArgumentException("Range %d+%d is outside of the resource length %d".formatted(offset, length, this.length));
+        }
+
+        if (this.bytes != null) {
+            out.write(this.bytes, (int) offset, (int) length);
+            return length;
+        }
+
+        return this.content.transferTo(offset, length, out);
+    }
+
+    public ReadableByteChannel openChannel() {
+        return Channels.newChannel(openStream());
+    }
+
+    public boolean isInMemory() {
+        return this.bytes != null;
     }
 
     public String contentType() {
@@ -42,11 +138,11 @@ public class Resource extends ValueObject {
     @Override
     public boolean equals(Object object) {
         if (!(object instanceof Resource resource)) return false;
-        return Objects.equals(checksum, resource.checksum) && Objects.deepEquals(content, resource.content) && Objects.equals(contentType, resource.contentType) && Objects.equals(name, resource.name);
+        return length == resource.length && Objects.equals(checksum, resource.checksum) && Objects.deepEquals(bytes, resource.bytes) && Objects.equals(contentType, resource.contentType) && Objects.equals(name, resource.name);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(checksum, Arrays.hashCode(content), contentType, name);
+        return Objects.hash(checksum, length, Arrays.hashCode(bytes), contentType, name);
     }
-}
\ No newline at end of file
+}
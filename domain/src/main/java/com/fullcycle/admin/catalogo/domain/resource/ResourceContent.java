@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalogo.domain.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+// Origem do conteudo de um Resource. Quem chama open() fecha o stream; quando a origem e o corpo de uma
+// requisicao HTTP o conteudo so pode ser lido uma vez
+@FunctionalInterface
+public interface ResourceContent {
+
+    InputStream open() throws IOException;
+
+    // Le apenas os bytes [offset, offset + length). A implementacao padrao descarta os bytes anteriores ao
+    // offset; storages com leitura posicional (GCS, arquivo local) sobrescrevem para nao ler o que nao e usado
+    default InputStream open(final long offset, final long length) throws IOException {
+        final var in = open();
+        try {
+            in.skipNBytes(offset);
+        } catch (final IOException e) {
+            in.close();
+            throw e;
+        }
+        return new BoundedInputStream(in, length);
+    }
+
+    // Copia os bytes [offset, offset + length) para 'out'. Storages em arquivo sobrescrevem com
+    // FileChannel.transferTo, que copia fora do heap
+    default long transferTo(final long offset, final long length, final OutputStream out) throws IOException {
+        try (final var in = open(offset, length)) {
+            return in.transferTo(out);
+        }
+    }
+}
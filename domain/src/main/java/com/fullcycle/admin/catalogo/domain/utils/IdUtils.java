@@ -1,13 +1,49 @@
 package com.fullcycle.admin.catalogo.domain.utils;
 
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class IdUtils {
 
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION = 0x7L << SEQUENCE_BITS;
+    private static final long VARIANT = 0x2L << 62;
+    private static final long RANDOM_MASK = (1L << 62) - 1;
+
+    // Milissegundos (48 bits) seguidos de uma sequencia (12 bits) dentro do mesmo milissegundo
+    private static final AtomicLong LAST = new AtomicLong();
+
     private IdUtils() {
     }
 
+    // UUIDv7 em 32 caracteres hexadecimais: os ids crescem com o tempo, entao os inserts caem no fim do indice
+    // da chave primaria em vez de posicoes aleatorias. A sequencia deixa os ids do mesmo processo estritamente
+    // crescentes; se estourar, avanca para o proximo milissegundo. Sem locks: so um CAS no estado compartilhado.
     public static String uuid() {
-        return UUID.randomUUID().toString().toLowerCase().replace("-", "");
+        final var now = System.currentTimeMillis() << SEQUENCE_BITS;
+        final var state = LAST.updateAndGet(last -> Math.max(now, last + 1));
+
+        final var millis = state >>> SEQUENCE_BITS;
+        final var sequence = state & ((1L << SEQUENCE_BITS) - 1);
+
+        // ThreadLocalRandom nao disputa o SecureRandom compartilhado do UUID.randomUUID()
+        final var random = ThreadLocalRandom.current().nextLong();
+
+        final var high = (millis << 16) | VERSION | sequence;
+        final var low = VARIANT | (random & RANDOM_MASK);
+
+        final var chars = new char[32];
+        toHex(high, chars, 0);
+        toHex(low, chars, 16);
+        return new String(chars);
+    }
+
+    private static void toHex(long value, final char[] chars, final int offset) {
+        for (int i = offset + 15; i >= offset; i--) {
+            chars[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
     }
-}
\ No newline at end of file
+}
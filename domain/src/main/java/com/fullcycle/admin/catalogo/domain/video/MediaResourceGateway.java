@@ -13,4 +13,11 @@ public interface MediaResourceGateway {
     Optional<Resource> getResource(VideoID anId, VideoMediaType type);
 
     void clearResources(VideoID anId);
+
+    // Upload em partes: cada chamada devolve o novo estado da sessao no storage, guardado no MediaUpload
+    String initiateUpload(MediaUpload anUpload);
+
+    String uploadChunk(MediaUpload anUpload, Resource aChunk);
+
+    AudioVideoMedia completeUpload(MediaUpload anUpload);
 }
\ No newline at end of file
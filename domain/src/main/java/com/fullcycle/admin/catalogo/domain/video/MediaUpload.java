@@ -0,0 +1,169 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+
+import java.time.Instant;
+import java.util.Objects;
+
+// Sessao de upload em partes de um video ou trailer. 'uploaded' e quantos bytes o storage ja confirmou e
+// 'session' identifica a sessao no storage para retomar o envio (ex.: URI do upload resumable do GCS)
+public class MediaUpload extends AggregateRoot<MediaUploadID> {
+
+    private final VideoID videoId;
+    private final VideoMediaType type;
+    private final String name;
+    private final String contentType;
+    private final String checksum;
+    private final long length;
+    private long uploaded;
+    private String session;
+    private final Instant createdAt;
+    private Instant updatedAt;
+
+    protected MediaUpload(
+            final MediaUploadID anId,
+            final VideoID aVideoId,
+            final VideoMediaType aType,
+            final String aName,
+            final String aContentType,
+            final String aChecksum,
+            final long aLength,
+            final long anUploaded,
+            final String aSession,
+            final Instant aCreationDate,
+            final Instant aUpdateDate
+    ) {
+        super(anId);
+        this.videoId = Objects.requireNonNull(aVideoId);
+        this.type = aType;
+        this.name = aName;
+        this.contentType = aContentType;
+        this.checksum = aChecksum;
+        this.length = aLength;
+        this.uploaded = anUploaded;
+        this.session = Objects.requireNonNull(aSession);
+        this.createdAt = Objects.requireNonNull(aCreationDate);
+        this.updatedAt = Objects.requireNonNull(aUpdateDate);
+        selfValidate();
+    }
+
+    public static MediaUpload newUpload(
+            final VideoID aVideoId,
+            final VideoMediaType aType,
+            final String aName,
+            final String aContentType,
+            final String aChecksum,
+            final long aLength
+    ) {
+        final var now = InstantUtils.now();
+        return new MediaUpload(MediaUploadID.unique(), aVideoId, aType, aName, aContentType, aChecksum, aLength, 0, "", now, now);
+    }
+
+    public static MediaUpload with(
+            final MediaUploadID anId,
+            final VideoID aVideoId,
+            final VideoMediaType aType,
+            final String aName,
+            final String aContentType,
+            final String aChecksum,
+            final long aLength,
+            final long anUploaded,
+            final String aSession,
+            final Instant aCreationDate,
+            final Instant aUpdateDate
+    ) {
+        return new MediaUpload(anId, aVideoId, aType, aName, aContentType, aChecksum, aLength, anUploaded, aSession, aCreationDate, aUpdateDate);
+    }
+
+    public MediaUpload start(final String aSession) {
+        this.session = Objects.requireNonNull(aSession);
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    // Chamado antes de enviar a parte ao storage: partes fora de ordem ou repetidas sao recusadas e o
+    // cliente consulta o status para saber de onde retomar
+    public void checkChunk(final long anOffset, final long aChunkLength) {
+        if (anOffset != this.uploaded) {
+            throw DomainException.with(new Error("Chunk offset %d doesn't match the %d bytes already uploaded"
+                    .formatted(anOffset, this.uploaded)));
+        }
+
+        if (aChunkLength <= 0 || aChunkLength > this.length - this.uploaded) {
+            throw DomainException.with(new Error("Chunk of %d bytes at offset %d exceeds the media length %d"
+                    .formatted(aChunkLength, anOffset, this.length)));
+        }
+    }
+
+    public MediaUpload append(final long anOffset, final long aChunkLength, final String aSession) {
+        checkChunk(anOffset, aChunkLength);
+        this.uploaded += aChunkLength;
+        this.session = Objects.requireNonNull(aSession);
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    public boolean isComplete() {
+        return this.uploaded == this.length;
+    }
+
+    public VideoID getVideoId() {
+        return videoId;
+    }
+
+    public VideoMediaType getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public long getUploaded() {
+        return uploaded;
+    }
+
+    public String getSession() {
+        return session;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public void validate(final ValidationHandler aHandler) {
+        new MediaUploadValidator(this, aHandler).validate();
+    }
+
+    private void selfValidate() {
+        final var notification = Notification.create();
+        validate(notification);
+
+        if (notification.hasError()) {
+            throw new NotificationException("Failed to create a Aggregate MediaUpload", notification);
+        }
+    }
+}
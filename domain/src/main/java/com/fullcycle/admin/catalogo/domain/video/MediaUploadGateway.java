@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.util.Optional;
+
+public interface MediaUploadGateway {
+
+    MediaUpload create(MediaUpload anUpload);
+
+    void deleteById(MediaUploadID anId);
+
+    Optional<MediaUpload> findById(MediaUploadID anId);
+
+    // Grava o progresso so se a sessao ainda estiver em aPreviousUploaded; false quando outra requisicao
+    // ja avancou (ou removeu) a sessao
+    boolean updateProgress(MediaUpload anUpload, long aPreviousUploaded);
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+
+import java.util.Objects;
+
+public class MediaUploadID extends Identifier {
+    private final String value;
+
+    private MediaUploadID(final String value) {
+        this.value = Objects.requireNonNull(value);
+    }
+
+    public static MediaUploadID from(final String anId) {
+        return new MediaUploadID(anId.toLowerCase());
+    }
+
+    public static MediaUploadID unique() {
+        return MediaUploadID.from(IdUtils.uuid());
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+        final MediaUploadID that = (MediaUploadID) object;
+        return Objects.equals(getValue(), that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getValue());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.Validator;
+
+public class MediaUploadValidator extends Validator {
+
+    private final MediaUpload upload;
+
+    protected MediaUploadValidator(final MediaUpload anUpload, final ValidationHandler aHandler) {
+        super(aHandler);
+        this.upload = anUpload;
+    }
+
+    @Override
+    public void validate() {
+        checkTypeConstraints();
+        checkRequired(this.upload.getName(), "name");
+        checkRequired(this.upload.getContentType(), "contentType");
+        checkRequired(this.upload.getChecksum(), "checksum");
+        checkLengthConstraints();
+    }
+
+    // Imagens sao pequenas e continuam no upload de uma unica requisicao
+    private void checkTypeConstraints() {
+        final var type = this.upload.getType();
+        if (type == null) {
+            this.validationHandler().append(new Error("'type' should not be null"));
+            return;
+        }
+
+        if (type != VideoMediaType.VIDEO && type != VideoMediaType.TRAILER) {
+            this.validationHandler().append(new Error("'type' must be VIDEO or TRAILER"));
+        }
+    }
+
+    private void checkRequired(final String value, final String field) {
+        if (value == null || value.isBlank()) {
+            this.validationHandler().append(new Error("'%s' should not be empty".formatted(field)));
+        }
+    }
+
+    private void checkLengthConstraints() {
+        if (this.upload.getLength() <= 0) {
+            this.validationHandler().append(new Error("'length' must be greater than 0"));
+        }
+    }
+}
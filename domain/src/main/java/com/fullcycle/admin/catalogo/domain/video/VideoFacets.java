@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+
+import java.util.Map;
+
+// Quantidade de videos por valor de cada filtro da busca. A contagem de uma dimensao
+// considera os demais filtros da consulta, mas nao a selecao da propria dimensao.
+public record VideoFacets(
+        Map<CastMemberID, Long> castMembers,
+        Map<CategoryID, Long> categories,
+        Map<GenreID, Long> genres,
+        Map<Rating, Long> ratings
+) {
+
+    public VideoFacets {
+        castMembers = Map.copyOf(castMembers);
+        categories = Map.copyOf(categories);
+        genres = Map.copyOf(genres);
+        ratings = Map.copyOf(ratings);
+    }
+}
@@ -2,17 +2,26 @@ package com.fullcycle.admin.catalogo.domain.video;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface VideoGateway {
 
     Video create(Video video);
 
+    List<Video> createAll(List<Video> videos);
+
     void deleteById(VideoID anId);
 
+    int deleteAllById(Iterable<VideoID> ids);
+
     Optional<Video> findById(VideoID anInd);
 
     Video update(Video aVideo);
 
+    boolean patch(VideoID anId, VideoPatch aPatch);
+
     Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
+
+    VideoFacets facets(VideoSearchQuery aQuery);
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+
+import java.time.Instant;
+import java.time.Year;
+
+// Alteracao parcial dos campos escalares de um video: campos nulos nao sao alterados.
+// Relacionamentos e midias continuam no update completo.
+public record VideoPatch(
+        String title,
+        String description,
+        Year launchedAt,
+        Double duration,
+        Boolean opened,
+        Boolean published,
+        Rating rating,
+        Instant updatedAt
+) {
+
+    public static VideoPatch with(
+            final String aTitle,
+            final String aDescription,
+            final Year aLaunchYear,
+            final Double aDuration,
+            final Boolean wasOpened,
+            final Boolean wasPublished,
+            final Rating aRating
+    ) {
+        return new VideoPatch(aTitle, aDescription, aLaunchYear, aDuration, wasOpened, wasPublished, aRating, InstantUtils.now());
+    }
+
+    public void validate(final ValidationHandler handler) {
+        new VideoPatchValidator(this, handler).validate();
+    }
+}
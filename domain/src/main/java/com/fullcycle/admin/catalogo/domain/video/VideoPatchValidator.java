@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.Validator;
+
+public class VideoPatchValidator extends Validator {
+
+    private final VideoPatch patch;
+
+    public VideoPatchValidator(final VideoPatch aPatch, final ValidationHandler aHandler) {
+        super(aHandler);
+        this.patch = aPatch;
+    }
+
+    @Override
+    public void validate() {
+        if (this.patch.title() != null)
+            VideoValidator.checkTitle(this.patch.title(), this.validationHandler());
+
+        if (this.patch.description() != null)
+            VideoValidator.checkDescription(this.patch.description(), this.validationHandler());
+    }
+}
@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.domain.video;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 
 import java.util.Set;
 
@@ -14,6 +15,52 @@ public record VideoSearchQuery(
         String direction,
         Set<CastMemberID> castMembers,
         Set<CategoryID> categories,
-        Set<GenreID> genres
+        Set<GenreID> genres,
+        String cursor,
+        TotalMode totalMode
 ) {
+
+    // Ordena pela relevancia da busca textual em vez de uma coluna
+    public static final String RELEVANCE = "relevance";
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> castMembers,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres
+    ) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, null);
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> castMembers,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, cursor, null);
+    }
+
+    // Sem modo explicito o keyset nao conta: o COUNT(*) percorreria as linhas que o cursor evita ler.
+    // Com OFFSET o total exato continua sendo o padrao
+    public VideoSearchQuery {
+        if (totalMode == null) {
+            totalMode = cursor != null ? TotalMode.NONE : TotalMode.EXACT;
+        }
+    }
+
+    // Um cursor vazio inicia a paginacao por keyset a partir do primeiro registro;
+    // sem cursor a busca continua usando OFFSET.
+    public boolean isKeyset() {
+        return cursor != null;
+    }
 }
\ No newline at end of file
@@ -25,37 +25,43 @@ public class VideoValidator extends Validator {
     }
 
     private void checkTitleConstraints() {
-        final var title = this.video.getTitle();
+        checkTitle(this.video.getTitle(), this.validationHandler());
+    }
+
+    private void checkDescriptionConstraints() {
+        checkDescription(this.video.getDescription(), this.validationHandler());
+    }
+
+    static void checkTitle(final String title, final ValidationHandler handler) {
         if (title == null) {
-            this.validationHandler().append(new Error("'title' should not be null"));
+            handler.append(new Error("'title' should not be null"));
             return;
         }
 
         if (title.isBlank()) {
-            this.validationHandler().append(new Error("'title' should not be empty"));
+            handler.append(new Error("'title' should not be empty"));
             return;
         }
 
         final var length = title.trim().length();
         if (length > TITLE_MAX_LEGTH)
-            this.validationHandler().append(new Error("'title' must be between 1 and 255 characters"));
+            handler.append(new Error("'title' must be between 1 and 255 characters"));
     }
 
-    private void checkDescriptionConstraints() {
-        final var description = this.video.getDescription();
+    static void checkDescription(final String description, final ValidationHandler handler) {
         if (description == null) {
-            this.validationHandler().append(new Error("'description' should not be null"));
+            handler.append(new Error("'description' should not be null"));
             return;
         }
 
         if (description.isBlank()) {
-            this.validationHandler().append(new Error("'description' should not be empty"));
+            handler.append(new Error("'description' should not be empty"));
             return;
         }
 
         final var length = description.trim().length();
         if (length > DESCRIPTION_MAX_LEGTH)
-            this.validationHandler().append(new Error("'description' must be between 1 and 4000 characters"));
+            handler.append(new Error("'description' must be between 1 and 4000 characters"));
     }
 
     private void checkLaunchedAtConstraints() {
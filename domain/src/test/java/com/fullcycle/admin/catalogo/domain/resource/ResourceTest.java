@@ -0,0 +1,103 @@
+package com.fullcycle.admin.catalogo.domain.resource;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResourceTest {
+
+    @Test
+    public void givenBytes_whenCallsWith_shouldReturnAnInMemoryResource() throws IOException {
+        // given
+        final var expectedContent = "Conteudo".getBytes();
+
+        // when
+        final var actualResource = Resource.with("abc", expectedContent, "image/png", "banner");
+
+        // then
+        assertTrue(actualResource.isInMemory());
+        assertEquals(expectedContent.length, actualResource.length());
+        assertArrayEquals(expectedContent, actualResource.content());
+        try (final var in = actualResource.openStream()) {
+            assertArrayEquals(expectedContent, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void givenAStream_whenCallsWith_shouldNotOpenItUntilRead() throws IOException {
+        // given
+        final var expectedContent = "Conteudo do video".getBytes();
+        final var actualOpens = new AtomicInteger();
+
+        // when
+        final var actualResource = Resource.with("abc", expectedContent.length, () -> {
+            actualOpens.incrementAndGet();
+            return new ByteArrayInputStream(expectedContent);
+        }, "video/mp4", "video");
+
+        // then
+        assertFalse(actualResource.isInMemory());
+        assertEquals(expectedContent.length, actualResource.length());
+        assertEquals(0, actualOpens.get());
+
+        try (final var channel = actualResource.openChannel()) {
+            final var buffer = ByteBuffer.allocate(expectedContent.length);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            }
+            assertArrayEquals(expectedContent, buffer.array());
+        }
+        assertEquals(1, actualOpens.get());
+    }
+
+    @Test
+    public void givenANegativeLength_whenCallsWith_shouldThrowAnError() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Resource.with("abc", -1, () -> new ByteArrayInputStream(new byte[0]), "video/mp4", "video"));
+    }
+
+    @Test
+    public void givenARange_whenCallsOpenStream_shouldReadOnlyThatRange() throws IOException {
+        // given
+        final var expectedContent = "0123456789".getBytes();
+
+        final var inMemory = Resource.with("abc", expectedContent, "video/mp4", "video");
+        final var streamed = Resource.with("abc", expectedContent.length, () -> new ByteArrayInputStream(expectedContent), "video/mp4", "video");
+
+        // when / then
+        for (final var actualResource : new Resource[]{inMemory, streamed}) {
+            try (final var in = actualResource.openStream(3, 4)) {
+                assertArrayEquals("3456".getBytes(), in.readAllBytes());
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> streamed.openStream(8, 3));
+    }
+
+    @Test
+    public void givenARange_whenCallsTransferTo_shouldWriteOnlyThatRange() throws IOException {
+        // given
+        final var expectedContent = "0123456789".getBytes();
+
+        final var inMemory = Resource.with("abc", expectedContent, "video/mp4", "video");
+        final var streamed = Resource.with("abc", expectedContent.length, () -> new ByteArrayInputStream(expectedContent), "video/mp4", "video");
+
+        // when / then
+        for (final var actualResource : new Resource[]{inMemory, streamed}) {
+            final var out = new ByteArrayOutputStream();
+            assertEquals(4, actualResource.transferTo(3, 4, out));
+            assertArrayEquals("3456".getBytes(), out.toByteArray());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> inMemory.transferTo(8, 3, new ByteArrayOutputStream()));
+    }
+}
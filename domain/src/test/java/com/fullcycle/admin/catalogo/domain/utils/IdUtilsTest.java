@@ -0,0 +1,69 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+public class IdUtilsTest {
+
+    @Test
+    public void givenNoParams_whenCallsUuid_thenReturnA32CharsHexVersion7Uuid() {
+        final var actualId = IdUtils.uuid();
+
+        Assertions.assertEquals(32, actualId.length());
+        Assertions.assertTrue(actualId.matches("[0-9a-f]{32}"));
+
+        final var actualUuid = UUID.fromString(actualId.replaceFirst("(.{8})(.{4})(.{4})(.{4})(.{12})", "$1-$2-$3-$4-$5"));
+        Assertions.assertEquals(7, actualUuid.version());
+        Assertions.assertEquals(2, actualUuid.variant());
+    }
+
+    @Test
+    public void givenSequentialCalls_whenCallsUuid_thenIdsAreStrictlyIncreasing() {
+        var previous = IdUtils.uuid();
+        for (int i = 0; i < 100_000; i++) {
+            final var actual = IdUtils.uuid();
+            final var expectedGreaterThan = previous;
+            Assertions.assertTrue(actual.compareTo(expectedGreaterThan) > 0, () -> actual + " <= " + expectedGreaterThan);
+            previous = actual;
+        }
+    }
+
+    @Test
+    public void givenConcurrentCalls_whenCallsUuid_thenIdsAreUnique() throws InterruptedException {
+        final var expectedThreads = 8;
+        final var expectedIdsPerThread = 20_000;
+
+        final Set<String> actualIds = ConcurrentHashMap.newKeySet();
+        final var start = new CountDownLatch(1);
+        final var threads = new ArrayList<Thread>();
+
+        for (int i = 0; i < expectedThreads; i++) {
+            final var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < expectedIdsPerThread; j++) {
+                    actualIds.add(IdUtils.uuid());
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for (final var thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(expectedThreads * expectedIdsPerThread, actualIds.size());
+    }
+}
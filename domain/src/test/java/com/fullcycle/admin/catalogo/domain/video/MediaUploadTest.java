@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MediaUploadTest {
+
+    @Test
+    public void givenValidParams_whenCallsNewUpload_shouldReturnAnEmptyUpload() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedLength = 10L;
+
+        // when
+        final var actualUpload = MediaUpload.newUpload(expectedVideoId, expectedType, "video.mp4", "video/mp4", "1a2b3c4d", expectedLength);
+
+        // then
+        assertNotNull(actualUpload.getId());
+        assertEquals(expectedVideoId, actualUpload.getVideoId());
+        assertEquals(expectedType, actualUpload.getType());
+        assertEquals(expectedLength, actualUpload.getLength());
+        assertEquals(0, actualUpload.getUploaded());
+        assertEquals("", actualUpload.getSession());
+        assertFalse(actualUpload.isComplete());
+    }
+
+    @Test
+    public void givenAnImageType_whenCallsNewUpload_shouldReturnError() {
+        // given
+        final var expectedErrorMessage = "'type' must be VIDEO or TRAILER";
+
+        // when
+        final var actualException = assertThrows(NotificationException.class,
+                () -> MediaUpload.newUpload(VideoID.unique(), VideoMediaType.BANNER, "banner.png", "image/png", "1a2b3c4d", 10));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenChunksInOrder_whenCallsAppend_shouldAdvanceUntilComplete() {
+        // given
+        final var anUpload = MediaUpload.newUpload(VideoID.unique(), VideoMediaType.TRAILER, "trailer.mp4", "video/mp4", "1a2b3c4d", 10)
+                .start("session-0");
+
+        // when
+        anUpload.append(0, 6, "session-1");
+        anUpload.append(6, 4, "session-2");
+
+        // then
+        assertEquals(10, anUpload.getUploaded());
+        assertEquals("session-2", anUpload.getSession());
+        assertTrue(anUpload.isComplete());
+    }
+
+    @Test
+    public void givenAnOutOfOrderOrOversizedChunk_whenCallsAppend_shouldReturnError() {
+        // given
+        final var anUpload = MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", "1a2b3c4d", 10)
+                .start("session-0");
+        anUpload.append(0, 4, "session-1");
+
+        // when
+        final var actualRepeated = assertThrows(DomainException.class, () -> anUpload.append(0, 4, "session-2"));
+        final var actualOversized = assertThrows(DomainException.class, () -> anUpload.append(4, 7, "session-2"));
+
+        // then
+        assertEquals("Chunk offset 0 doesn't match the 4 bytes already uploaded", actualRepeated.getMessage());
+        assertEquals("Chunk of 7 bytes at offset 4 exceeds the media length 10", actualOversized.getMessage());
+        assertEquals(4, anUpload.getUploaded());
+        assertEquals("session-1", anUpload.getSession());
+    }
+}
@@ -0,0 +1,153 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Compara o filtro por categorias (OR) e genero (AND) no VideoFacetIndex com os EXISTS
+// da busca no banco, sobre as mesmas tabelas de juncao e indices reversos das migrations.
+// Executar com: ./gradlew :infrastructure:jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VideoFacetIndexBenchmark {
+
+    private static final int CATEGORIES = 50;
+    private static final int GENRES = 30;
+    private static final int CAST_MEMBERS = 500;
+
+    @Param({"10000", "100000"})
+    public int videos;
+
+    private VideoFacetIndex index;
+    private Connection connection;
+    private PreparedStatement existsQuery;
+
+    private List<Set<String>> categories;
+    private List<Set<String>> genres;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        final var random = new Random(42);
+
+        final var videoIds = new ArrayList<String>(videos);
+        final var castMemberFacets = new ArrayList<VideoFacet>();
+        final var categoryFacets = new ArrayList<VideoFacet>();
+        final var genreFacets = new ArrayList<VideoFacet>();
+
+        for (int i = 0; i < videos; i++) {
+            final var videoId = id("v", i);
+            videoIds.add(videoId);
+            pick(random, 3, CAST_MEMBERS).forEach(n -> castMemberFacets.add(new VideoFacet(videoId, id("m", n))));
+            pick(random, 2, CATEGORIES).forEach(n -> categoryFacets.add(new VideoFacet(videoId, id("c", n))));
+            pick(random, 2, GENRES).forEach(n -> genreFacets.add(new VideoFacet(videoId, id("g", n))));
+        }
+
+        this.index = new VideoFacetIndex();
+        this.index.rebuild(videoIds, castMemberFacets, categoryFacets, genreFacets);
+
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:facets;MODE=MYSQL;DATABASE_TO_LOWER=TRUE");
+        try (final var statement = this.connection.createStatement()) {
+            statement.execute("CREATE TABLE videos (id CHAR(32) NOT NULL PRIMARY KEY)");
+            statement.execute("CREATE TABLE videos_categories (video_id CHAR(32) NOT NULL, category_id CHAR(32) NOT NULL, CONSTRAINT idx_vcs_video_category UNIQUE (video_id, category_id))");
+            statement.execute("CREATE TABLE videos_genres (video_id CHAR(32) NOT NULL, genre_id CHAR(32) NOT NULL, CONSTRAINT idx_vgs_video_genre UNIQUE (video_id, genre_id))");
+            statement.execute("CREATE INDEX idx_vcs_category_video ON videos_categories (category_id, video_id)");
+            statement.execute("CREATE INDEX idx_vgs_genre_video ON videos_genres (genre_id, video_id)");
+        }
+
+        insert("INSERT INTO videos (id) VALUES (?)", videoIds.stream().map(id -> new VideoFacet(id, null)).toList());
+        insert("INSERT INTO videos_categories (video_id, category_id) VALUES (?, ?)", categoryFacets);
+        insert("INSERT INTO videos_genres (video_id, genre_id) VALUES (?, ?)", genreFacets);
+
+        this.existsQuery = this.connection.prepareStatement("""
+                SELECT v.id FROM videos v
+                WHERE EXISTS (SELECT 1 FROM videos_categories c WHERE c.video_id = v.id AND c.category_id IN (?, ?))
+                AND EXISTS (SELECT 1 FROM videos_genres g WHERE g.video_id = v.id AND g.genre_id IN (?))
+                """);
+
+        // Um filtro diferente a cada chamada: com os mesmos parametros e tabelas inalteradas o H2 devolve o
+        // resultado anterior sem executar a consulta
+        this.categories = new ArrayList<>(GENRES);
+        this.genres = new ArrayList<>(GENRES);
+        for (int n = 0; n < GENRES; n++) {
+            this.categories.add(Set.of(id("c", n), id("c", n + 1)));
+            this.genres.add(Set.of(id("g", n)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        this.connection.close();
+    }
+
+    @Benchmark
+    public Set<String> bitmap() {
+        final var n = nextFilter();
+        return this.index.filter(null, this.categories.get(n), this.genres.get(n), Integer.MAX_VALUE).orElseThrow();
+    }
+
+    @Benchmark
+    public Set<String> sqlExists() throws SQLException {
+        final var n = nextFilter();
+        this.existsQuery.setString(1, id("c", n));
+        this.existsQuery.setString(2, id("c", n + 1));
+        this.existsQuery.setString(3, id("g", n));
+
+        final var ids = new HashSet<String>();
+        try (final var rs = this.existsQuery.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getString(1));
+            }
+        }
+        return ids;
+    }
+
+    private int nextFilter() {
+        this.next = (this.next + 1) % GENRES;
+        return this.next;
+    }
+
+    private void insert(final String sql, final List<VideoFacet> rows) throws SQLException {
+        try (final var statement = this.connection.prepareStatement(sql)) {
+            for (final var row : rows) {
+                statement.setString(1, row.videoId());
+                if (row.facetId() != null) {
+                    statement.setString(2, row.facetId());
+                }
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static Set<Integer> pick(final Random random, final int count, final int bound) {
+        final var picked = new HashSet<Integer>();
+        while (picked.size() < count) {
+            picked.add(random.nextInt(bound));
+        }
+        return picked;
+    }
+
+    private static String id(final String prefix, final int n) {
+        return String.format("%s%031d", prefix, n);
+    }
+}
@@ -4,6 +4,8 @@ import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.DeleteCategoriesResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.PatchCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,6 +16,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -21,6 +24,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Set;
 
 @Tag(name = "Categories")
 @RequestMapping(value = "categories")
@@ -50,9 +56,21 @@ public interface CategoryAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") final String total
     );
 
+    @Operation(summary = "Export all categories as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfuly"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @GetMapping(
+            value = "export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    ResponseEntity<StreamingResponseBody> exportCategories();
+
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category retrieved successfuly"),
@@ -78,6 +96,20 @@ public interface CategoryAPI {
     )
     ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateCategoryRequest input);
 
+    @Operation(summary = "Partially update a category by it's identifier, only the informed fields are changed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Category updated successfuly"),
+            @ApiResponse(responseCode = "404", description = "Category was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @PatchMapping(
+            value = "{id}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> patchById(@PathVariable(name = "id") String id, @RequestBody PatchCategoryRequest input);
+
     @DeleteMapping(value = "{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Delete a category by it's identifier")
@@ -87,4 +119,16 @@ public interface CategoryAPI {
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
     void deleteById(@PathVariable(name = "id") String id);
-}
\ No newline at end of file
+
+    @DeleteMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Delete many categories by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Deleted successfuly, unknown identifiers are ignored"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    DeleteCategoriesResponse deleteAllById(@RequestBody Set<String> ids);
+}
@@ -2,8 +2,10 @@ package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.DeleteGenresResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreResponse;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.PatchGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,6 +16,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -21,6 +24,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Set;
 
 @RequestMapping(value = "genres")
 @Tag(name = "Genre")
@@ -50,9 +56,21 @@ public interface GenreAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") final String total
     );
 
+    @GetMapping(
+            value = "export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Export all genres as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfuly"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
     @GetMapping(
             value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -78,6 +96,20 @@ public interface GenreAPI {
     })
     ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateGenreRequest input);
 
+    @PatchMapping(
+            value = "{id}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Partially update a genre by it's identifier, only the informed fields are changed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Genre updated successfuly"),
+            @ApiResponse(responseCode = "404", description = "Genre was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> patchById(@PathVariable(name = "id") String id, @RequestBody PatchGenreRequest input);
+
     @DeleteMapping(value = "{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Delete a genre by it's identifier")
@@ -87,4 +119,16 @@ public interface GenreAPI {
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
     void deleteById(@PathVariable(name = "id") String id);
-}
\ No newline at end of file
+
+    @DeleteMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Delete many genres by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Deleted successfuly, unknown identifiers are ignored"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    DeleteGenresResponse deleteAllById(@RequestBody Set<String> ids);
+}
@@ -0,0 +1,195 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.video.models.BulkCreateVideoResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.DeleteVideosResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.PatchVideoRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoFacetsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.Set;
+
+@Tag(name = "Video")
+@RequestMapping(value = "videos")
+public interface VideoAPI {
+
+    // CRC32C do arquivo em hexadecimal, conferido pelo storage ao final do upload
+    String CHECKSUM_HEADER = "X-Checksum-Crc32c";
+
+    // Tamanho total do arquivo enviado em partes; o Content-Length de cada PUT e o tamanho da parte
+    String UPLOAD_LENGTH_HEADER = "X-Upload-Content-Length";
+
+    @Operation(summary = "Create videos in bulk from a NDJSON body, one video per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lines processed, invalid ones are reported with their line number"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    BulkCreateVideoResponse bulkCreate(InputStream body);
+
+    @Operation(summary = "Delete many videos by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Deleted successfuly, unknown identifiers are ignored"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @DeleteMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    DeleteVideosResponse deleteAllById(@RequestBody Set<String> ids);
+
+    @Operation(summary = "Partially update a video by it's identifier, only the informed fields are changed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Video updated successfuly"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @PatchMapping(
+            value = "{id}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> patchById(@PathVariable(name = "id") String id, @RequestBody PatchVideoRequest input);
+
+    @Operation(summary = "Count videos by cast member, category, genre and rating")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Facets counted successfuly"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @GetMapping(
+            value = "facets",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    VideoFacetsResponse facets(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "cast_members", required = false, defaultValue = "") final Set<String> castMembers,
+            @RequestParam(name = "categories", required = false, defaultValue = "") final Set<String> categories,
+            @RequestParam(name = "genres", required = false, defaultValue = "") final Set<String> genres
+    );
+
+    @Operation(summary = "Upload a media of a video, the request body is the raw file and is streamed to the storage")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media uploaded successfuly"),
+            @ApiResponse(responseCode = "404", description = "Video or media type was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @PostMapping(
+            value = "{id}/medias/{type}",
+            consumes = MediaType.ALL_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> uploadMediaByType(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(name = HttpHeaders.CONTENT_LENGTH) long contentLength,
+            @RequestHeader(name = CHECKSUM_HEADER) String checksum,
+            @RequestHeader(name = HttpHeaders.CONTENT_DISPOSITION, required = false) String contentDisposition,
+            InputStream body
+    );
+
+    @Operation(summary = "Download a media of a video, honoring Range and If-Range for partial and multi-range responses")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Whole media returned"),
+            @ApiResponse(responseCode = "206", description = "Requested byte ranges returned"),
+            @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "416", description = "None of the requested ranges can be satisfied"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @GetMapping(value = "{id}/medias/{type}")
+    ResponseEntity<StreamingResponseBody> getMediaByType(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange
+    );
+
+    @Operation(summary = "Start a resumable upload of a video or trailer, sent afterwards in chunks")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload session created"),
+            @ApiResponse(responseCode = "404", description = "Video or media type was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @PostMapping(
+            value = "{id}/medias/{type}/uploads",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> initiateMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(name = UPLOAD_LENGTH_HEADER) long uploadLength,
+            @RequestHeader(name = CHECKSUM_HEADER) String checksum,
+            @RequestHeader(name = HttpHeaders.CONTENT_DISPOSITION, required = false) String contentDisposition
+    );
+
+    @Operation(summary = "Send the chunk starting at the given offset, checked against its own CRC32C")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk stored, the response has the bytes uploaded so far"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "422", description = "Offset, length or checksum doesn't match the upload"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @PutMapping(
+            value = "uploads/{uploadId}",
+            consumes = MediaType.ALL_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> uploadMediaChunk(
+            @PathVariable(name = "uploadId") String uploadId,
+            @RequestParam(name = "offset") long offset,
+            @RequestHeader(name = HttpHeaders.CONTENT_LENGTH) long contentLength,
+            @RequestHeader(name = CHECKSUM_HEADER) String checksum,
+            InputStream body
+    );
+
+    @Operation(summary = "Get the progress of a resumable upload, used to know where to resume from")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload retrieved successfuly"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @GetMapping(
+            value = "uploads/{uploadId}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> getMediaUpload(@PathVariable(name = "uploadId") String uploadId);
+
+    @Operation(summary = "Finish a resumable upload with all bytes sent, linking the media to the video")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media uploaded successfuly"),
+            @ApiResponse(responseCode = "404", description = "Upload or video was not found"),
+            @ApiResponse(responseCode = "422", description = "The upload still has bytes missing"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @PostMapping(
+            value = "uploads/{uploadId}/complete",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> completeMediaUpload(@PathVariable(name = "uploadId") String uploadId);
+}
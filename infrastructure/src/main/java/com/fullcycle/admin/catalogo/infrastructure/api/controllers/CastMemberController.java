@@ -3,23 +3,34 @@ package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberCommand;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.delete.DeleteCastMembersUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberCommand;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.update.patch.PatchCastMemberCommand;
+import com.fullcycle.admin.catalogo.application.castmember.update.patch.PatchCastMemberUseCase;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.api.CastMemberAPI;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.models.DeleteCastMembersResponse;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.models.PatchCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.presenter.CastMemberPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Ndjson;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.Objects;
+import java.util.Set;
 
 @RestController
 public class CastMemberController implements CastMemberAPI {
@@ -27,19 +38,28 @@ public class CastMemberController implements CastMemberAPI {
     private final CreateCastMemberUseCase createCastMemberUseCase;
     private final GetCastMemberByIdUseCase getCastMemberByIdUseCase;
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
+    private final PatchCastMemberUseCase patchCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
+    private final DeleteCastMembersUseCase deleteCastMembersUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final ExportCastMembersUseCase exportCastMembersUseCase;
 
     public CastMemberController(final CreateCastMemberUseCase createCastMemberUseCase,
                                 final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
                                 final UpdateCastMemberUseCase updateCastMemberUseCase,
+                                final PatchCastMemberUseCase patchCastMemberUseCase,
                                 final DeleteCastMemberUseCase deleteCastMemberUseCase,
-                                final ListCastMembersUseCase listCastMembersUseCase) {
+                                final DeleteCastMembersUseCase deleteCastMembersUseCase,
+                                final ListCastMembersUseCase listCastMembersUseCase,
+                                final ExportCastMembersUseCase exportCastMembersUseCase) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
+        this.patchCastMemberUseCase = Objects.requireNonNull(patchCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
+        this.deleteCastMembersUseCase = Objects.requireNonNull(deleteCastMembersUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.exportCastMembersUseCase = Objects.requireNonNull(exportCastMembersUseCase);
     }
 
     @Override
@@ -56,11 +76,19 @@ public class CastMemberController implements CastMemberAPI {
                                                    final int page,
                                                    final int perPage,
                                                    final String sort,
-                                                   final String direction) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+                                                   final String direction,
+                                                   final String total) {
+        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, TotalMode.from(total)))
                 .map(CastMemberPresenter::present);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(Ndjson.stream(this.exportCastMembersUseCase::execute, CastMemberPresenter::present));
+    }
+
     @Override
     public CastMemberResponse getById(final String id) {
         return CastMemberPresenter.present(this.getCastMemberByIdUseCase.execute(id));
@@ -75,8 +103,22 @@ public class CastMemberController implements CastMemberAPI {
         return ResponseEntity.ok(output);
     }
 
+    @Override
+    public ResponseEntity<?> patchById(final String id, final PatchCastMemberRequest aBody) {
+        final var aCommand = PatchCastMemberCommand.with(id, aBody.name(), aBody.type());
+
+        final var output = this.patchCastMemberUseCase.execute(aCommand);
+
+        return ResponseEntity.ok(output);
+    }
+
     @Override
     public void deleteById(final String id) {
         this.deleteCastMemberUseCase.execute(id);
     }
-}
\ No newline at end of file
+
+    @Override
+    public DeleteCastMembersResponse deleteAllById(final Set<String> ids) {
+        return new DeleteCastMembersResponse(this.deleteCastMembersUseCase.execute(ids).deleted());
+    }
+}
@@ -3,26 +3,38 @@ package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
-import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.application.category.update.patch.PatchCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.update.patch.PatchCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.update.patch.PatchCategoryUseCase;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.api.CategoryAPI;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.DeleteCategoriesResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.PatchCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Ndjson;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 
 @RestController
@@ -31,21 +43,30 @@ public class CategoryController implements CategoryAPI {
     private final CreateCategoryUseCase createCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
+    private final PatchCategoryUseCase patchCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final DeleteCategoriesUseCase deleteCategoriesUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
+            final PatchCategoryUseCase patchCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final DeleteCategoriesUseCase deleteCategoriesUseCase,
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.patchCategoryUseCase = Objects.requireNonNull(patchCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
     }
 
     @Override
@@ -63,11 +84,18 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(final String search, int page, int perPage, String sort, final String direction) {
-        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+    public Pagination<CategoryListResponse> listCategories(final String search, int page, int perPage, String sort, final String direction, final String total) {
+        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, TotalMode.from(total)))
                 .map(CategoryApiPresenter::present);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(Ndjson.stream(this.exportCategoriesUseCase::execute, CategoryApiPresenter::present));
+    }
+
     @Override
     public CategoryResponse getById(final String id) {
         return CategoryApiPresenter.present
@@ -88,8 +116,26 @@ public class CategoryController implements CategoryAPI {
                 .fold(onError, onSuccess);
     }
 
+    @Override
+    public ResponseEntity<?> patchById(final String id, final PatchCategoryRequest input) {
+        final var aCommand = PatchCategoryCommand.with(id, input.name(), input.description(), input.active());
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+                ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<PatchCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+
+        return this.patchCategoryUseCase.execute(aCommand)
+                .fold(onError, onSuccess);
+    }
+
     @Override
     public void deleteById(final String anId) {
         this.deleteCategoryUseCase.execute(anId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public DeleteCategoriesResponse deleteAllById(final Set<String> ids) {
+        return new DeleteCategoriesResponse(this.deleteCategoriesUseCase.execute(ids).deleted());
+    }
+}
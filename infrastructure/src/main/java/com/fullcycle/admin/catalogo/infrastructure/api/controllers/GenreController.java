@@ -3,38 +3,55 @@ package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreCommand;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreCommand;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.update.patch.PatchGenreCommand;
+import com.fullcycle.admin.catalogo.application.genre.update.patch.PatchGenreUseCase;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.api.GenreAPI;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Ndjson;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.DeleteGenresResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreResponse;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.PatchGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.Set;
 
 @RestController
 public class GenreController implements GenreAPI {
 
     private final CreateGenreUseCase createGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
+    private final DeleteGenresUseCase deleteGenresUseCase;
     private final GetGenreByIdUseCase getGenreByIdUseCase;
     private final ListGenreUseCase listGenreUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
+    private final PatchGenreUseCase patchGenreUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
 
-    public GenreController(final CreateGenreUseCase createGenreUseCase, final DeleteGenreUseCase deleteGenreUseCase, final GetGenreByIdUseCase getGenreByIdUseCase, final ListGenreUseCase listGenreUseCase, final UpdateGenreUseCase updateGenreUseCase) {
+    public GenreController(final CreateGenreUseCase createGenreUseCase, final DeleteGenreUseCase deleteGenreUseCase, final DeleteGenresUseCase deleteGenresUseCase, final GetGenreByIdUseCase getGenreByIdUseCase, final ListGenreUseCase listGenreUseCase, final UpdateGenreUseCase updateGenreUseCase, final PatchGenreUseCase patchGenreUseCase, final ExportGenresUseCase exportGenresUseCase) {
         this.createGenreUseCase = createGenreUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
+        this.deleteGenresUseCase = deleteGenresUseCase;
         this.getGenreByIdUseCase = getGenreByIdUseCase;
         this.listGenreUseCase = listGenreUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
+        this.patchGenreUseCase = patchGenreUseCase;
+        this.exportGenresUseCase = exportGenresUseCase;
     }
 
     @Override
@@ -51,11 +68,18 @@ public class GenreController implements GenreAPI {
     }
 
     @Override
-    public Pagination<GenreListResponse> list(final String search, final int page, final int perPage, final String sort, final String direction) {
-        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+    public Pagination<GenreListResponse> list(final String search, final int page, final int perPage, final String sort, final String direction, final String total) {
+        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, TotalMode.from(total)))
                 .map(GenreApiPresenter::present);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(Ndjson.stream(this.exportGenresUseCase::execute, GenreApiPresenter::present));
+    }
+
     @Override
     public GenreResponse getById(final String id) {
         return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
@@ -75,8 +99,22 @@ public class GenreController implements GenreAPI {
         return ResponseEntity.ok(output);
     }
 
+    @Override
+    public ResponseEntity<?> patchById(final String id, final PatchGenreRequest input) {
+        final var aCommand = PatchGenreCommand.with(id, input.name(), input.active());
+
+        final var output = this.patchGenreUseCase.execute(aCommand);
+
+        return ResponseEntity.ok(output);
+    }
+
     @Override
     public void deleteById(final String id) {
         this.deleteGenreUseCase.execute(id);
     }
-}
\ No newline at end of file
+
+    @Override
+    public DeleteGenresResponse deleteAllById(final Set<String> ids) {
+        return new DeleteGenresResponse(this.deleteGenresUseCase.execute(ids).deleted());
+    }
+}
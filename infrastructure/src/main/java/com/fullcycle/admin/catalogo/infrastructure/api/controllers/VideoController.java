@@ -0,0 +1,291 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.application.video.create.CreateVideoCommand;
+import com.fullcycle.admin.catalogo.application.video.create.bulk.BulkCreateVideoCommand;
+import com.fullcycle.admin.catalogo.application.video.create.bulk.BulkCreateVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideosUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.chunk.UploadMediaChunkCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.chunk.UploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.complete.CompleteMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.get.GetMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.initiate.InitiateMediaUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.initiate.InitiateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.ListVideoFacetsUseCase;
+import com.fullcycle.admin.catalogo.application.video.update.patch.PatchVideoCommand;
+import com.fullcycle.admin.catalogo.application.video.update.patch.PatchVideoUseCase;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.api.VideoAPI;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.BulkCreateVideoResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.DeleteVideosResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.PatchVideoRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoFacetsResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.presenters.MediaApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
+@RestController
+public class VideoController implements VideoAPI {
+
+    private final BulkCreateVideoUseCase bulkCreateVideoUseCase;
+    private final DeleteVideosUseCase deleteVideosUseCase;
+    private final PatchVideoUseCase patchVideoUseCase;
+    private final ListVideoFacetsUseCase listVideoFacetsUseCase;
+    private final UploadMediaUseCase uploadMediaUseCase;
+    private final GetMediaUseCase getMediaUseCase;
+    private final InitiateMediaUploadUseCase initiateMediaUploadUseCase;
+    private final UploadMediaChunkUseCase uploadMediaChunkUseCase;
+    private final GetMediaUploadUseCase getMediaUploadUseCase;
+    private final CompleteMediaUploadUseCase completeMediaUploadUseCase;
+
+    public VideoController(
+            final BulkCreateVideoUseCase bulkCreateVideoUseCase,
+            final DeleteVideosUseCase deleteVideosUseCase,
+            final PatchVideoUseCase patchVideoUseCase,
+            final ListVideoFacetsUseCase listVideoFacetsUseCase,
+            final UploadMediaUseCase uploadMediaUseCase,
+            final GetMediaUseCase getMediaUseCase,
+            final InitiateMediaUploadUseCase initiateMediaUploadUseCase,
+            final UploadMediaChunkUseCase uploadMediaChunkUseCase,
+            final GetMediaUploadUseCase getMediaUploadUseCase,
+            final CompleteMediaUploadUseCase completeMediaUploadUseCase
+    ) {
+        this.bulkCreateVideoUseCase = Objects.requireNonNull(bulkCreateVideoUseCase);
+        this.deleteVideosUseCase = Objects.requireNonNull(deleteVideosUseCase);
+        this.patchVideoUseCase = Objects.requireNonNull(patchVideoUseCase);
+        this.listVideoFacetsUseCase = Objects.requireNonNull(listVideoFacetsUseCase);
+        this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
+        this.initiateMediaUploadUseCase = Objects.requireNonNull(initiateMediaUploadUseCase);
+        this.uploadMediaChunkUseCase = Objects.requireNonNull(uploadMediaChunkUseCase);
+        this.getMediaUploadUseCase = Objects.requireNonNull(getMediaUploadUseCase);
+        this.completeMediaUploadUseCase = Objects.requireNonNull(completeMediaUploadUseCase);
+    }
+
+    @Override
+    public BulkCreateVideoResponse bulkCreate(final InputStream body) {
+        // Le o corpo linha a linha conforme o caso de uso consome os lotes; linhas em branco sao ignoradas
+        try (final var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            final var lineNumber = new AtomicLong();
+            final var lines = reader.lines()
+                    .map(json -> toLine(lineNumber.incrementAndGet(), json))
+                    .filter(Objects::nonNull)
+                    .iterator();
+
+            return VideoApiPresenter.present(this.bulkCreateVideoUseCase.execute(BulkCreateVideoCommand.with(lines)));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public DeleteVideosResponse deleteAllById(final Set<String> ids) {
+        return new DeleteVideosResponse(this.deleteVideosUseCase.execute(ids).deleted());
+    }
+
+    @Override
+    public ResponseEntity<?> patchById(final String id, final PatchVideoRequest input) {
+        final var aCommand = PatchVideoCommand.with(
+                id,
+                input.title(),
+                input.description(),
+                input.yearLaunched(),
+                input.duration(),
+                input.opened(),
+                input.published(),
+                input.rating()
+        );
+
+        final var output = this.patchVideoUseCase.execute(aCommand);
+
+        return ResponseEntity.ok(output);
+    }
+
+    @Override
+    public VideoFacetsResponse facets(
+            final String search,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        // Paginacao e ordenacao nao se aplicam as contagens
+        final var aQuery = new VideoSearchQuery(
+                0,
+                0,
+                search,
+                "title",
+                "asc",
+                mapTo(castMembers, CastMemberID::from),
+                mapTo(categories, CategoryID::from),
+                mapTo(genres, GenreID::from)
+        );
+
+        return VideoApiPresenter.present(this.listVideoFacetsUseCase.execute(aQuery));
+    }
+
+    @Override
+    public ResponseEntity<?> uploadMediaByType(
+            final String id,
+            final String type,
+            final String contentType,
+            final long contentLength,
+            final String checksum,
+            final String contentDisposition,
+            final InputStream body
+    ) {
+        final var aType = VideoMediaType.of(type)
+                .orElseThrow(() -> NotFoundException.with(new Error("Media type %s doesn't exists".formatted(type))));
+
+        final var aName = contentDisposition != null ? ContentDisposition.parse(contentDisposition).getFilename() : null;
+
+        // O corpo segue como stream ate o storage, sem passar por um byte[] do tamanho do arquivo
+        final var aResource = Resource.with(
+                checksum,
+                contentLength,
+                () -> body,
+                mimeType(contentType),
+                aName != null ? aName : aType.name().toLowerCase()
+        );
+
+        final var output = this.uploadMediaUseCase.execute(UploadMediaCommand.with(id, VideoResource.with(aType, aResource)));
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s".formatted(id, aType.name())))
+                .body(output);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> getMediaByType(
+            final String id,
+            final String type,
+            final String range,
+            final String ifRange
+    ) {
+        final var output = this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+        return MediaApiPresenter.present(output, range, ifRange);
+    }
+
+    @Override
+    public ResponseEntity<?> initiateMediaUpload(
+            final String id,
+            final String type,
+            final String contentType,
+            final long uploadLength,
+            final String checksum,
+            final String contentDisposition
+    ) {
+        final var aName = contentDisposition != null ? ContentDisposition.parse(contentDisposition).getFilename() : null;
+
+        final var aCommand = InitiateMediaUploadCommand.with(
+                id,
+                type,
+                aName != null ? aName : type.toLowerCase(),
+                mimeType(contentType),
+                checksum,
+                uploadLength
+        );
+
+        final var output = this.initiateMediaUploadUseCase.execute(aCommand);
+
+        return ResponseEntity
+                .created(URI.create("/videos/uploads/%s".formatted(output.uploadId())))
+                .body(output);
+    }
+
+    @Override
+    public ResponseEntity<?> uploadMediaChunk(
+            final String uploadId,
+            final long offset,
+            final long contentLength,
+            final String checksum,
+            final InputStream body
+    ) {
+        // Nome e tipo vem da sessao; a parte carrega apenas o proprio tamanho e CRC32C
+        final var aChunk = Resource.with(checksum, contentLength, () -> body, MediaType.APPLICATION_OCTET_STREAM_VALUE, uploadId);
+        return ResponseEntity.ok(this.uploadMediaChunkUseCase.execute(UploadMediaChunkCommand.with(uploadId, offset, aChunk)));
+    }
+
+    @Override
+    public ResponseEntity<?> getMediaUpload(final String uploadId) {
+        return ResponseEntity.ok(this.getMediaUploadUseCase.execute(uploadId));
+    }
+
+    @Override
+    public ResponseEntity<?> completeMediaUpload(final String uploadId) {
+        final var output = this.completeMediaUploadUseCase.execute(uploadId);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s".formatted(output.videoId(), output.mediaType().name())))
+                .body(output);
+    }
+
+    private static BulkCreateVideoCommand.Line toLine(final long aNumber, final String json) {
+        if (json.isBlank()) {
+            return null;
+        }
+
+        final CreateVideoRequest aRequest;
+        try {
+            aRequest = Json.readValue(json, CreateVideoRequest.class);
+        } catch (final RuntimeException e) {
+            return BulkCreateVideoCommand.Line.invalid(aNumber, "Malformed JSON");
+        }
+
+        return BulkCreateVideoCommand.Line.valid(aNumber, CreateVideoCommand.with(
+                aRequest.title(),
+                aRequest.description(),
+                aRequest.yearLaunched(),
+                aRequest.duration(),
+                aRequest.isOpened(),
+                aRequest.isPublished(),
+                aRequest.rating(),
+                aRequest.categories(),
+                aRequest.genres(),
+                aRequest.castMembers(),
+                null,
+                null,
+                null,
+                null,
+                null
+        ));
+    }
+
+    // A midia guarda so type/subtype: clientes costumam acrescentar parametros como charset ao Content-Type
+    private static String mimeType(final String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        final var aType = MediaType.parseMediaType(contentType);
+        return aType.getType() + "/" + aType.getSubtype();
+    }
+}
@@ -3,40 +3,98 @@ package com.fullcycle.admin.catalogo.infrastructure.castmember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberPatch;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberPreview;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberNameIndex;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberSearchCache;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationsUtils;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ColumnUpdate;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.RefreshableIndex;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.TableStatistics;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.TableVersions;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.google.common.collect.Lists;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
 @Component
-public class CastMemberMySQLGateway implements CastMemberGateway {
+public class CastMemberMySQLGateway implements CastMemberGateway, RefreshableIndex {
 
-    private final CastMemberRepository castMemberRepository;
+    // Acima disso o IN com os ids do indice ficaria grande demais: a busca volta para o LIKE no banco
+    private static final int MAX_TERM_IDS = 1_000;
+
+    // Limita a quantidade de parametros do IN em cada DELETE
+    private static final int DELETE_BATCH_SIZE = 1000;
 
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private final CastMemberRepository castMemberRepository;
+    private final TableStatistics tableStatistics;
+    private final TableVersions tableVersions;
+    private final CastMemberNameIndex nameIndex;
+    private final CastMemberSearchCache searchCache;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final TableStatistics tableStatistics,
+            final TableVersions tableVersions,
+            final CastMemberNameIndex nameIndex,
+            final CastMemberSearchCache searchCache
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.tableStatistics = Objects.requireNonNull(tableStatistics);
+        this.tableVersions = Objects.requireNonNull(tableVersions);
+        this.nameIndex = Objects.requireNonNull(nameIndex);
+        this.searchCache = Objects.requireNonNull(searchCache);
     }
 
     @Override
     public CastMember create(final CastMember aMember) {
-        return save(aMember);
+        // persist direto: o save faria merge e consultaria o id antes do INSERT
+        return this.castMemberRepository.persist(CastMemberJpaEntity.from(aMember))
+                .toAggregate();
     }
 
     @Override
+    @Transactional
     public void deleteById(final CastMemberID aMemberId) {
-        final var anId = aMemberId.getValue();
-        if (this.castMemberRepository.existsById(anId))
-            this.castMemberRepository.deleteById(anId);
+        deleteAllById(List.of(aMemberId));
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllById(final Iterable<CastMemberID> memberIDs) {
+        final var ids = StreamSupport.stream(memberIDs.spliterator(), false)
+                .map(CastMemberID::getValue)
+                .distinct()
+                .toList();
+
+        var deleted = 0;
+        for (final var batch : Lists.partition(ids, DELETE_BATCH_SIZE)) {
+            deleted += this.castMemberRepository.deleteAllByIdIn(batch);
+        }
+
+        // O DELETE em JPQL nao passa pelos listeners da entidade: indice e cache sao atualizados aqui
+        if (deleted > 0) {
+            afterCommit(() -> {
+                ids.forEach(this.nameIndex::remove);
+                this.searchCache.invalidate();
+            });
+        }
+        return deleted;
     }
 
     @Override
@@ -51,20 +109,59 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    @Transactional
+    public boolean patch(final CastMemberID anId, final CastMemberPatch aPatch) {
+        final var anUpdate = ColumnUpdate.of(CastMemberJpaEntity.class, anId.getValue());
+        if (aPatch.name() != null) anUpdate.set("name", aPatch.name());
+        if (aPatch.type() != null) anUpdate.set("type", aPatch.type());
+        anUpdate.set("updatedAt", aPatch.updatedAt());
+
+        if (this.castMemberRepository.update(anUpdate) == 0) {
+            return false;
+        }
+
+        // O UPDATE em criteria nao passa pelos listeners da entidade: indice e cache sao atualizados aqui
+        afterCommit(() -> {
+            if (aPatch.name() != null) this.nameIndex.put(new NameEntry(anId.getValue(), aPatch.name()));
+            this.searchCache.invalidate();
+        });
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
+        return this.searchCache.get(aQuery, () -> search(aQuery));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(final Consumer<CastMemberPreview> aConsumer) {
+        try (final var previews = this.castMemberRepository.streamAllPreviews()) {
+            previews.forEach(aConsumer);
+        }
+    }
+
+    private Pagination<CastMember> search(final SearchQuery aQuery) {
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
                 Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        final var where = Optional.ofNullable(aQuery.terms())
+        final var terms = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
                 .orElse(null);
 
-        final var pageResult = castMemberRepository.findAll(where, page);
+        if (terms != null) {
+            return findAllByTerms(aQuery, terms, page);
+        }
+
+        if (aQuery.totalMode() != TotalMode.EXACT) {
+            return findAllSlice(aQuery, page);
+        }
 
+        final var pageResult = this.castMemberRepository.findAll(page);
         return new Pagination<>(
                 pageResult.getNumber(),
                 pageResult.getSize(),
@@ -73,6 +170,73 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         );
     }
 
+    private Pagination<CastMember> findAllByTerms(final SearchQuery aQuery, final String terms, final PageRequest page) {
+        final var result = this.nameIndex.search(terms, MAX_TERM_IDS);
+        if (result.isEmpty()) {
+            return findAllByLike(aQuery, terms, page);
+        }
+
+        final var ids = result.get();
+        if (ids.isEmpty()) {
+            return new Pagination<>(page.getPageNumber(), page.getPageSize(), 0, List.of());
+        }
+
+        final var items = this.castMemberRepository.findAllByIdIn(ids, page).stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+
+        return new Pagination<>(page.getPageNumber(), page.getPageSize(), ids.size(), items);
+    }
+
+    private Pagination<CastMember> findAllByLike(final SearchQuery aQuery, final String terms, final PageRequest page) {
+        final var aTerms = SqlUtils.like(SqlUtils.upper(terms));
+
+        if (aQuery.totalMode() == TotalMode.EXACT) {
+            final var pageResult = this.castMemberRepository.findAllByTerms(aTerms, page);
+            return new Pagination<>(
+                    pageResult.getNumber(),
+                    pageResult.getSize(),
+                    pageResult.getTotalElements(),
+                    pageResult.map(CastMemberJpaEntity::toAggregate).toList()
+            );
+        }
+
+        // A estimativa da tabela nao vale para um filtro: sem total exato o total fica desconhecido
+        final var sliceResult = this.castMemberRepository.findAllSliceByTerms(aTerms, page);
+        return new Pagination<>(
+                sliceResult.getNumber(),
+                sliceResult.getSize(),
+                Pagination.UNKNOWN_TOTAL,
+                sliceResult.map(CastMemberJpaEntity::toAggregate).toList(),
+                sliceResult.hasNext(),
+                null
+        );
+    }
+
+    private Pagination<CastMember> findAllSlice(final SearchQuery aQuery, final PageRequest page) {
+        final var sliceResult = this.castMemberRepository.findAllBy(page);
+
+        final var total = aQuery.totalMode() == TotalMode.ESTIMATED
+                ? this.tableStatistics.estimatedRows("cast_members")
+                : Pagination.UNKNOWN_TOTAL;
+
+        return new Pagination<>(
+                sliceResult.getNumber(),
+                sliceResult.getSize(),
+                total,
+                sliceResult.map(CastMemberJpaEntity::toAggregate).toList(),
+                sliceResult.hasNext(),
+                null
+        );
+    }
+
+    // Versao e linhas lidas na mesma transacao, para que a versao guardada corresponda ao que foi carregado
+    @Override
+    @Transactional(readOnly = true)
+    public void refreshIndex() {
+        this.nameIndex.refresh(this.tableVersions.version("cast_members"), this.castMemberRepository::findAllNames);
+    }
+
     @Override
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> castMemberIDs) {
         final var ids = StreamSupport.stream(castMemberIDs.spliterator(), false)
@@ -88,8 +252,4 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         return this.castMemberRepository.save(CastMemberJpaEntity.from(aMember))
                 .toAggregate();
     }
-
-    private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationsUtils.like("name", terms);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.infrastructure.castmember.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record DeleteCastMembersResponse(
+        @JsonProperty("deleted") int deleted
+) {}
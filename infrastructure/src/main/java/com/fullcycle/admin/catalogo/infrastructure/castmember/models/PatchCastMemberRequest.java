@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.infrastructure.castmember.models;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+
+// Campos ausentes (ou nulos) nao sao alterados
+public record PatchCastMemberRequest(String name, CastMemberType type) {
+}
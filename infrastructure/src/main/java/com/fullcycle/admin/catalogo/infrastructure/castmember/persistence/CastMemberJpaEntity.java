@@ -3,9 +3,15 @@ package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Type;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.Id;
@@ -13,10 +19,16 @@ import javax.persistence.Table;
 import java.time.Instant;
 
 @Entity(name = "CastMember")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CastMemberJpaEntity.CACHE_REGION)
+@EntityListeners({CastMemberNameIndex.Listener.class, CastMemberSearchCache.Listener.class})
 @Table(name = "cast_members")
 public class CastMemberJpaEntity {
 
+    public static final String CACHE_REGION = "cast_members";
+
     @Id
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "name", nullable = false)
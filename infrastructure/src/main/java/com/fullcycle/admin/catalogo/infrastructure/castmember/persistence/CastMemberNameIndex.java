@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.NameIndex;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.util.Objects;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+@Component
+public class CastMemberNameIndex extends NameIndex {
+
+    public static class Listener {
+
+        private final CastMemberNameIndex index;
+
+        public Listener(final CastMemberNameIndex index) {
+            this.index = Objects.requireNonNull(index);
+        }
+
+        @PostPersist
+        @PostUpdate
+        public void onSave(final CastMemberJpaEntity aMember) {
+            final var anEntry = new NameEntry(aMember.getId(), aMember.getName());
+            afterCommit(() -> this.index.put(anEntry));
+        }
+
+        @PostRemove
+        public void onRemove(final CastMemberJpaEntity aMember) {
+            final var anId = aMember.getId();
+            afterCommit(() -> this.index.remove(anId));
+        }
+    }
+}
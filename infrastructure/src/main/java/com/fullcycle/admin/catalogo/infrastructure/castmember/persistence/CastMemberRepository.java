@@ -1,18 +1,58 @@
 package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
 
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberPreview;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ColumnUpdateRepository;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.PersistRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
-    Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> specification, Pageable page);
+public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String>, PersistRepository<CastMemberJpaEntity>, ColumnUpdateRepository {
 
+    Slice<CastMemberJpaEntity> findAllBy(Pageable page);
+
+    List<CastMemberJpaEntity> findAllByIdIn(Collection<String> ids, Pageable page);
+
+    // Busca por termos no banco quando o indice em memoria nao resolve (termo curto ou amplo demais)
+    @Query(
+            value = "SELECT c FROM CastMember c WHERE UPPER(c.name) LIKE :terms",
+            countQuery = "SELECT COUNT(c) FROM CastMember c WHERE UPPER(c.name) LIKE :terms"
+    )
+    Page<CastMemberJpaEntity> findAllByTerms(@Param("terms") String terms, Pageable page);
+
+    @Query(value = "SELECT c FROM CastMember c WHERE UPPER(c.name) LIKE :terms")
+    Slice<CastMemberJpaEntity> findAllSliceByTerms(@Param("terms") String terms, Pageable page);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.domain.castmember.CastMemberPreview(c.id, c.name, c.type, c.createdAt) FROM CastMember c")
+    Stream<CastMemberPreview> streamAllPreviews();
+
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry(c.id, c.name) FROM CastMember c")
+    List<NameEntry> findAllNames();
+
+    // Cache de consulta: invalidado pelo Hibernate a cada escrita na tabela
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "cast_members.exists")})
     @Query(value = "SELECT c.id FROM CastMember c WHERE c.id IN :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
-}
\ No newline at end of file
+
+    // Sem carregar as entidades, em um unico comando
+    @Modifying
+    @Query(value = "DELETE FROM CastMember x WHERE x.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<String> ids);
+}
@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.SearchQueryCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.time.Duration;
+import java.util.Objects;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+@Component
+public class CastMemberSearchCache extends SearchQueryCache<Pagination<CastMember>> {
+
+    public CastMemberSearchCache(
+            @Value("${search.cache.max-size:1000}") final long maxSize,
+            @Value("${search.cache.ttl:30s}") final Duration ttl
+    ) {
+        super("cast_members", maxSize, ttl);
+    }
+
+    public static class Listener {
+
+        private final CastMemberSearchCache cache;
+
+        public Listener(final CastMemberSearchCache cache) {
+            this.cache = Objects.requireNonNull(cache);
+        }
+
+        @PostPersist
+        @PostUpdate
+        @PostRemove
+        public void onChange(final Object anEntity) {
+            afterCommit(this.cache::invalidate);
+        }
+    }
+}
@@ -3,32 +3,76 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPatch;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryNameIndex;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySearchCache;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationsUtils;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreCategoriesCache;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreSearchCache;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ColumnUpdate;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.RefreshableIndex;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.TableStatistics;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.TableVersions;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.google.common.collect.Lists;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
 @Component
-public class CategoryMySQLGateway implements CategoryGateway {
+public class CategoryMySQLGateway implements CategoryGateway, RefreshableIndex {
+
+    // Acima disso o IN com os ids do indice ficaria grande demais: a busca volta para o LIKE no banco
+    private static final int MAX_TERM_IDS = 1_000;
+
+    // Limita a quantidade de parametros do IN em cada DELETE
+    private static final int DELETE_BATCH_SIZE = 1000;
 
     private final CategoryRepository repository;
+    private final TableStatistics tableStatistics;
+    private final TableVersions tableVersions;
+    private final CategoryNameIndex nameIndex;
+    private final CategorySearchCache searchCache;
+    private final GenreSearchCache genreSearchCache;
+    private final GenreCategoriesCache genreCategoriesCache;
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final TableStatistics tableStatistics,
+            final TableVersions tableVersions,
+            final CategoryNameIndex nameIndex,
+            final CategorySearchCache searchCache,
+            final GenreSearchCache genreSearchCache,
+            final GenreCategoriesCache genreCategoriesCache
+    ) {
         this.repository = repository;
+        this.tableStatistics = Objects.requireNonNull(tableStatistics);
+        this.tableVersions = Objects.requireNonNull(tableVersions);
+        this.nameIndex = Objects.requireNonNull(nameIndex);
+        this.searchCache = Objects.requireNonNull(searchCache);
+        this.genreSearchCache = Objects.requireNonNull(genreSearchCache);
+        this.genreCategoriesCache = Objects.requireNonNull(genreCategoriesCache);
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        // persist direto: o save faria merge e consultaria o id antes do INSERT
+        return this.repository.persist(CategoryJpaEntity.from(aCategory)).toAggregate();
     }
 
     @Override
@@ -36,6 +80,36 @@ public class CategoryMySQLGateway implements CategoryGateway {
         return save(aCategory);
     }
 
+    @Override
+    @Transactional
+    public boolean patch(final CategoryID anId, final CategoryPatch aPatch) {
+        final var anUpdate = ColumnUpdate.of(CategoryJpaEntity.class, anId.getValue());
+        if (aPatch.name() != null) anUpdate.set("name", aPatch.name());
+        if (aPatch.description() != null) anUpdate.set("description", aPatch.description());
+
+        // Mesmas regras de Category.activate/deactivate: desativar preserva o deletedAt existente
+        if (Boolean.TRUE.equals(aPatch.active())) anUpdate.set("active", true).set("deletedAt", null);
+        if (Boolean.FALSE.equals(aPatch.active())) anUpdate.set("active", false).setIfNull("deletedAt", aPatch.updatedAt());
+
+        anUpdate.set("updatedAt", aPatch.updatedAt());
+
+        if (this.repository.update(anUpdate) == 0) {
+            return false;
+        }
+
+        // O UPDATE em criteria nao passa pelos listeners da entidade: indice e caches sao atualizados aqui
+        final var anEntry = aPatch.name() != null || aPatch.description() != null
+                ? this.repository.findNameById(anId.getValue())
+                : Optional.<NameEntry>empty();
+
+        afterCommit(() -> {
+            anEntry.ifPresent(this.nameIndex::put);
+            this.searchCache.invalidate();
+            this.genreSearchCache.invalidate();
+        });
+        return true;
+    }
+
     private Category save(final Category aCategory) {
         return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
     }
@@ -47,7 +121,20 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
-    public Pagination<Category> findAll(final SearchQuery aQuery) {
+    @Transactional(readOnly = true)
+    public Pagination<CategoryPreview> findAll(final SearchQuery aQuery) {
+        return this.searchCache.get(aQuery, () -> search(aQuery));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(final Consumer<CategoryPreview> aConsumer) {
+        try (final var previews = this.repository.streamAllPreviews()) {
+            previews.forEach(aConsumer);
+        }
+    }
+
+    private Pagination<CategoryPreview> search(final SearchQuery aQuery) {
         // Paginacao
         final var page = PageRequest.of(
                 aQuery.page(),
@@ -55,30 +142,124 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        //Busca dinamica pelo criterio terms (name ou description)
-        final var specifications = Optional.ofNullable(aQuery.terms())
+        //Busca pelo criterio terms (name ou description) no indice em memoria, o banco so monta a pagina atual
+        final var terms = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
-                .map(str ->
-                        SpecificationsUtils.
-                                <CategoryJpaEntity>like("name", str)
-                                .or(SpecificationsUtils.like("description", str))
-                )
                 .orElse(null);
 
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
+        if (terms != null) {
+            return findAllByTerms(aQuery, terms, page);
+        }
+
+        if (aQuery.totalMode() != TotalMode.EXACT) {
+            return findAllSlice(aQuery, page);
+        }
+
+        // A listagem nao precisa do agregado: a projecao evita hidratar e rastrear entidades
+        final var pageResult = this.repository.findAllPreviews(page);
         return new Pagination<>(
                 pageResult.getNumber(),
                 pageResult.getSize(),
                 pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+                pageResult.getContent()
+        );
+    }
+
+    private Pagination<CategoryPreview> findAllByTerms(final SearchQuery aQuery, final String terms, final PageRequest page) {
+        final var result = this.nameIndex.search(terms, MAX_TERM_IDS);
+        if (result.isEmpty()) {
+            return findAllByLike(aQuery, terms, page);
+        }
+
+        final var ids = result.get();
+        if (ids.isEmpty()) {
+            return new Pagination<>(page.getPageNumber(), page.getPageSize(), 0, List.of());
+        }
+
+        final var items = this.repository.findAllPreviewsByIdIn(ids, page);
+
+        return new Pagination<>(page.getPageNumber(), page.getPageSize(), ids.size(), items);
+    }
+
+    private Pagination<CategoryPreview> findAllByLike(final SearchQuery aQuery, final String terms, final PageRequest page) {
+        final var aTerms = SqlUtils.like(SqlUtils.upper(terms));
+
+        if (aQuery.totalMode() == TotalMode.EXACT) {
+            final var pageResult = this.repository.findAllPreviewsByTerms(aTerms, page);
+            return new Pagination<>(
+                    pageResult.getNumber(),
+                    pageResult.getSize(),
+                    pageResult.getTotalElements(),
+                    pageResult.getContent()
+            );
+        }
+
+        // A estimativa da tabela nao vale para um filtro: sem total exato o total fica desconhecido
+        final var sliceResult = this.repository.findAllPreviewsSliceByTerms(aTerms, page);
+        return new Pagination<>(
+                sliceResult.getNumber(),
+                sliceResult.getSize(),
+                Pagination.UNKNOWN_TOTAL,
+                sliceResult.getContent(),
+                sliceResult.hasNext(),
+                null
         );
+    }
+
+    private Pagination<CategoryPreview> findAllSlice(final SearchQuery aQuery, final PageRequest page) {
+        final var sliceResult = this.repository.findAllPreviewsSlice(page);
 
+        final var total = aQuery.totalMode() == TotalMode.ESTIMATED
+                ? this.tableStatistics.estimatedRows("categories")
+                : Pagination.UNKNOWN_TOTAL;
+
+        return new Pagination<>(
+                sliceResult.getNumber(),
+                sliceResult.getSize(),
+                total,
+                sliceResult.getContent(),
+                sliceResult.hasNext(),
+                null
+        );
     }
 
+    // Versao e linhas lidas na mesma transacao, para que a versao guardada corresponda ao que foi carregado
     @Override
+    @Transactional(readOnly = true)
+    public void refreshIndex() {
+        this.nameIndex.refresh(this.tableVersions.version("categories"), this.repository::findAllNames);
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final CategoryID anId) {
-        final String anIdValue = anId.getValue();
-        if (this.repository.existsById(anIdValue)) this.repository.deleteById(anIdValue);
+        deleteAllById(List.of(anId));
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllById(final Iterable<CategoryID> categoryIDs) {
+        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+                .map(CategoryID::getValue)
+                .distinct()
+                .toList();
+
+        var deleted = 0;
+        for (final var batch : Lists.partition(ids, DELETE_BATCH_SIZE)) {
+            deleted += this.repository.deleteAllByIdIn(batch);
+        }
+
+        // O DELETE em JPQL nao passa pelos listeners da entidade: indice e caches sao atualizados aqui.
+        // A busca de generos tambem muda, pois as linhas de genres_categories caem em cascata.
+        if (deleted > 0) {
+            afterCommit(() -> {
+                ids.forEach(this.nameIndex::remove);
+                this.searchCache.invalidate();
+                this.genreSearchCache.invalidate();
+                this.genreCategoriesCache.evict();
+            });
+        }
+        return deleted;
     }
 
     @Override
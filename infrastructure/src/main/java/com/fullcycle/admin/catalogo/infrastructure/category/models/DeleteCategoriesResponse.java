@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record DeleteCategoriesResponse(
+        @JsonProperty("deleted") int deleted
+) {}
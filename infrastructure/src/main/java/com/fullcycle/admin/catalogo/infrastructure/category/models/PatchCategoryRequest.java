@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// Campos ausentes (ou nulos) nao sao alterados
+public record PatchCategoryRequest(
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("is_active") Boolean active
+) {
+}
@@ -2,17 +2,32 @@ package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreSearchCache;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Type;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.Id;
 import javax.persistence.Table;
 import java.time.Instant;
 
 @Entity(name = "Category")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CategoryJpaEntity.CACHE_REGION)
+// Remover uma categoria apaga em cascata as linhas de genres_categories, por isso tambem invalida a busca de generos
+@EntityListeners({CategoryNameIndex.Listener.class, CategorySearchCache.Listener.class, GenreSearchCache.Listener.class})
 @Table(name = "categories")
 public class CategoryJpaEntity {
+
+    public static final String CACHE_REGION = "categories";
+
     @Id
+    @Type(type = BinaryIdType.NAME)
     @Column(name = "id", nullable = false)
     private String id;
     @Column(name = "name", nullable = false)
@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.NameIndex;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.util.Objects;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+@Component
+public class CategoryNameIndex extends NameIndex {
+
+    // Instanciado pelo Hibernate via SpringBeanContainer, entao qualquer escrita pelo repositorio atualiza o indice
+    public static class Listener {
+
+        private final CategoryNameIndex index;
+
+        public Listener(final CategoryNameIndex index) {
+            this.index = Objects.requireNonNull(index);
+        }
+
+        @PostPersist
+        @PostUpdate
+        public void onSave(final CategoryJpaEntity aCategory) {
+            final var anEntry = new NameEntry(aCategory.getId(), aCategory.getName(), aCategory.getDescription());
+            afterCommit(() -> this.index.put(anEntry));
+        }
+
+        @PostRemove
+        public void onRemove(final CategoryJpaEntity aCategory) {
+            final var anId = aCategory.getId();
+            afterCommit(() -> this.index.remove(anId));
+        }
+    }
+}
@@ -1,18 +1,73 @@
 package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ColumnUpdateRepository;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.PersistRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
-    Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, PersistRepository<CategoryJpaEntity>, ColumnUpdateRepository {
 
+    // Projecoes da listagem: sem entidades gerenciadas, sem snapshot de dirty checking
+    @Query(
+            value = "SELECT new com.fullcycle.admin.catalogo.domain.category.CategoryPreview(c.id, c.name, c.description, c.active, c.createdAt, c.deletedAt) FROM Category c",
+            countQuery = "SELECT COUNT(c) FROM Category c"
+    )
+    Page<CategoryPreview> findAllPreviews(Pageable page);
+
+    // Sem COUNT: o Spring Data busca um registro a mais para preencher o hasNext do Slice
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.domain.category.CategoryPreview(c.id, c.name, c.description, c.active, c.createdAt, c.deletedAt) FROM Category c")
+    Slice<CategoryPreview> findAllPreviewsSlice(Pageable page);
+
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.domain.category.CategoryPreview(c.id, c.name, c.description, c.active, c.createdAt, c.deletedAt) FROM Category c WHERE c.id IN :ids")
+    List<CategoryPreview> findAllPreviewsByIdIn(@Param("ids") Collection<String> ids, Pageable page);
+
+    // Busca por termos no banco quando o indice em memoria nao resolve (termo curto ou amplo demais)
+    @Query(
+            value = "SELECT new com.fullcycle.admin.catalogo.domain.category.CategoryPreview(c.id, c.name, c.description, c.active, c.createdAt, c.deletedAt) FROM Category c WHERE UPPER(c.name) LIKE :terms OR UPPER(c.description) LIKE :terms",
+            countQuery = "SELECT COUNT(c) FROM Category c WHERE UPPER(c.name) LIKE :terms OR UPPER(c.description) LIKE :terms"
+    )
+    Page<CategoryPreview> findAllPreviewsByTerms(@Param("terms") String terms, Pageable page);
+
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.domain.category.CategoryPreview(c.id, c.name, c.description, c.active, c.createdAt, c.deletedAt) FROM Category c WHERE UPPER(c.name) LIKE :terms OR UPPER(c.description) LIKE :terms")
+    Slice<CategoryPreview> findAllPreviewsSliceByTerms(@Param("terms") String terms, Pageable page);
+
+    // Cursor somente leitura para a exportacao: o driver traz as linhas em lotes e nada fica no contexto de persistencia
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.domain.category.CategoryPreview(c.id, c.name, c.description, c.active, c.createdAt, c.deletedAt) FROM Category c")
+    Stream<CategoryPreview> streamAllPreviews();
+
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry(c.id, c.name, c.description) FROM Category c")
+    List<NameEntry> findAllNames();
+
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry(c.id, c.name, c.description) FROM Category c WHERE c.id = :id")
+    Optional<NameEntry> findNameById(@Param("id") String id);
+
+    // Cache de consulta: invalidado pelo Hibernate a cada escrita na tabela
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "categories.exists")})
     @Query(value = "SELECT c.id FROM Category c WHERE c.id IN :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
-}
\ No newline at end of file
+
+    // Sem carregar as entidades; as linhas de genres_categories saem pelo ON DELETE CASCADE
+    @Modifying
+    @Query(value = "DELETE FROM Category x WHERE x.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<String> ids);
+}
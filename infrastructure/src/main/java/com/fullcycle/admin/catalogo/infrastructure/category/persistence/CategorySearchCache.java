@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryPreview;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.SearchQueryCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.time.Duration;
+import java.util.Objects;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+@Component
+public class CategorySearchCache extends SearchQueryCache<Pagination<CategoryPreview>> {
+
+    public CategorySearchCache(
+            @Value("${search.cache.max-size:1000}") final long maxSize,
+            @Value("${search.cache.ttl:30s}") final Duration ttl
+    ) {
+        super("categories", maxSize, ttl);
+    }
+
+    public static class Listener {
+
+        private final CategorySearchCache cache;
+
+        public Listener(final CategorySearchCache cache) {
+            this.cache = Objects.requireNonNull(cache);
+        }
+
+        @PostPersist
+        @PostUpdate
+        @PostRemove
+        public void onChange(final Object anEntity) {
+            afterCommit(this.cache::invalidate);
+        }
+    }
+}
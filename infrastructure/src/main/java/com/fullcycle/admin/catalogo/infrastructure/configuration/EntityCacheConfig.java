@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.database.EntityCacheProperties;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+// Cache de segundo nivel do Hibernate (JCache/Ehcache). As regioes declaradas em entity.cache.regions
+// sao criadas aqui com limite de entradas e TTL; as demais (ex.: timestamps do cache de consultas)
+// o Hibernate cria sem limite. Hits, misses e puts saem como metricas cache.* com a tag cache=<regiao>.
+@Configuration
+public class EntityCacheConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "entity.cache")
+    public EntityCacheProperties entityCacheProperties() {
+        return new EntityCacheProperties();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(final EntityCacheProperties props) {
+        var config = ConfigurationBuilder.newConfigurationBuilder();
+        for (final var region : props.getRegions().entrySet()) {
+            config = config.withCache(region.getKey(), CacheConfigurationBuilder
+                    .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(region.getValue().getMaxEntries()))
+                    .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(region.getValue().getTtl())));
+        }
+
+        // URI unico: o provider guarda os gerenciadores por URI e cada contexto Spring precisa do seu
+        final var provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        final var cacheManager = provider.getCacheManager(URI.create("urn:entity-cache:" + UUID.randomUUID()), config.build());
+
+        props.getRegions().keySet().forEach(region -> cacheManager.enableStatistics(region, true));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(final CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    @Bean
+    public MeterBinder entityCacheMetrics(final CacheManager entityCacheManager, final EntityCacheProperties props) {
+        return registry -> props.getRegions().keySet().forEach(region ->
+                JCacheMetrics.monitor(registry, entityCacheManager.getCache(region)));
+    }
+}
@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.database.ReplicaProperties;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ReplicaLagMonitor;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+// Com database.replica.enabled o DataSource da aplicacao passa a ser o roteador e o pool
+// autoconfigurado do Spring deixa de ser criado. O primario continua lendo spring.datasource.
+@Configuration
+@ConditionalOnProperty(value = "database.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "database.replica")
+    public ReplicaProperties replicaProperties() {
+        return new ReplicaProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties props) {
+        return props.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "database.replica.hikari")
+    public HikariDataSource replicaDataSource(final ReplicaProperties props) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(props.getUrl())
+                .username(props.getUsername())
+                .password(props.getPassword())
+                .build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") final DataSource replica,
+            final ReplicaProperties props
+    ) {
+        return new ReplicaLagMonitor(replica, props.getMaxLag(), props.getLagCheckInterval());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final DataSource primary,
+            @Qualifier("replicaDataSource") final DataSource replica,
+            final ReplicaLagMonitor lagMonitor
+    ) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, lagMonitor));
+    }
+}
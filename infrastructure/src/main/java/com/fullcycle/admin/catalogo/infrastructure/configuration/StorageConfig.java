@@ -4,14 +4,18 @@ import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.goog
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.impl.GCStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.FileSystemStorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
 import com.google.cloud.storage.Storage;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.nio.file.Path;
+
 @Configuration
 public class StorageConfig {
 
@@ -21,16 +25,24 @@ public class StorageConfig {
         return new StorageProperties();
     }
 
+    // storage.catalogo-videos.provider=filesystem troca o GCS/memoria pelo disco local, em qualquer profile
+    @Bean
+    @ConditionalOnProperty(prefix = "storage.catalogo-videos", name = "provider", havingValue = "filesystem")
+    public StorageService fileSystemStorageAPI(final StorageProperties props) {
+        return new FileSystemStorageService(Path.of(props.getDirectory()), props.getUploadRetention());
+    }
+
     @Bean
     @Profile({"production", "development"})
+    @ConditionalOnMissingBean
     public StorageService gcStorageAPI(
             final GoogleStorageProperties props,
             final Storage storage
     ) {
-        return new GCStorageService(props.getBucket(), storage);
+        return new GCStorageService(props.getBucket(), props.getChunkSize(), storage);
     }
 
-    @Bean
+    @Bean(destroyMethod = "close")
     @ConditionalOnMissingBean
     public StorageService localStorageAPI() {
         return new InMemoryStorageService();
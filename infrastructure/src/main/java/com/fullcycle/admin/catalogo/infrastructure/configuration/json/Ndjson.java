@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.json;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Escreve um objeto JSON por linha direto no corpo da resposta, sem montar a colecao em memoria
+public final class Ndjson {
+
+    private static final int NEW_LINE = '\n';
+
+    private Ndjson() {
+    }
+
+    public static <T, R> StreamingResponseBody stream(
+            final Consumer<Consumer<T>> aSource,
+            final Function<T, R> aPresenter
+    ) {
+        return out -> aSource.accept(item -> write(out, aPresenter.apply(item)));
+    }
+
+    private static void write(final OutputStream out, final Object aValue) {
+        try {
+            out.write(Json.writeValueAsBytes(aValue));
+            out.write(NEW_LINE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
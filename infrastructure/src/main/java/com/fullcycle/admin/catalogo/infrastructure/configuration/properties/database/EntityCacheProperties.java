@@ -0,0 +1,69 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class EntityCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityCacheProperties.class);
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    public EntityCacheProperties() {
+    }
+
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, Region> regions) {
+        this.regions = regions;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCacheProperties{" +
+                "regions=" + regions +
+                '}';
+    }
+
+    public static class Region {
+
+        private long maxEntries = 1000;
+        private Duration ttl = Duration.ofMinutes(10);
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        @Override
+        public String toString() {
+            return "Region{" +
+                    "maxEntries=" + maxEntries +
+                    ", ttl=" + ttl +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ReplicaProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaProperties.class);
+
+    private String url;
+    private String username;
+    private String password;
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    public ReplicaProperties() {
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public Duration getLagCheckInterval() {
+        return lagCheckInterval;
+    }
+
+    public void setLagCheckInterval(Duration lagCheckInterval) {
+        this.lagCheckInterval = lagCheckInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicaProperties{" +
+                "url='" + url + '\'' +
+                ", username='" + username + '\'' +
+                ", maxLag=" + maxLag +
+                ", lagCheckInterval=" + lagCheckInterval +
+                '}';
+    }
+}
@@ -15,6 +15,7 @@ public class GoogleStorageProperties implements InitializingBean {
     private int retryMaxAttempts;
     private int retryMaxDelay;
     private double retryMultiplier;
+    private int chunkSize;
 
     public String getBucket() {
         return bucket;
@@ -72,6 +73,14 @@ public class GoogleStorageProperties implements InitializingBean {
         this.retryMultiplier = retryMultiplier;
     }
 
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         log.debug(toString());
@@ -87,6 +96,7 @@ public class GoogleStorageProperties implements InitializingBean {
                 ", retryMaxAttempts=" + retryMaxAttempts +
                 ", retryMaxDelay=" + retryMaxDelay +
                 ", retryMultiplier=" + retryMultiplier +
+                ", chunkSize=" + chunkSize +
                 '}';
     }
 }
\ No newline at end of file
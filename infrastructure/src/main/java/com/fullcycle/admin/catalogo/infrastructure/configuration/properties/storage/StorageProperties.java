@@ -4,12 +4,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 
+import java.time.Duration;
+
 public class StorageProperties implements InitializingBean {
 
     private final Logger log = LoggerFactory.getLogger(StorageProperties.class);
 
     private String locationPattern;
     private String filenamePattern;
+    private int parallelStores = 5;
+    private String provider;
+    private String directory;
+    private Duration uploadRetention = Duration.ofDays(7);
 
     public StorageProperties() {
     }
@@ -30,6 +36,38 @@ public class StorageProperties implements InitializingBean {
         this.filenamePattern = filenamePattern;
     }
 
+    public int getParallelStores() {
+        return parallelStores;
+    }
+
+    public void setParallelStores(int parallelStores) {
+        this.parallelStores = parallelStores;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public void setProvider(String provider) {
+        this.provider = provider;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public Duration getUploadRetention() {
+        return uploadRetention;
+    }
+
+    public void setUploadRetention(Duration uploadRetention) {
+        this.uploadRetention = uploadRetention;
+    }
+
     @Override
     public void afterPropertiesSet() {
         log.debug(toString());
@@ -40,6 +78,10 @@ public class StorageProperties implements InitializingBean {
         return "StorageProperties{" +
                 "locationPattern='" + locationPattern + '\'' +
                 ", filenamePattern='" + filenamePattern + '\'' +
+                ", parallelStores=" + parallelStores +
+                ", provider='" + provider + '\'' +
+                ", directory='" + directory + '\'' +
+                ", uploadRetention=" + uploadRetention +
                 '}';
     }
 }
\ No newline at end of file
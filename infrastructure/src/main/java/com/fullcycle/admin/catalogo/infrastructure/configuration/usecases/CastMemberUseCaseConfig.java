@@ -3,13 +3,19 @@ package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.delete.DefaultDeleteCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.delete.DeleteCastMembersUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.export.DefaultExportCastMembersUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.update.patch.DefaultPatchCastMemberUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.update.patch.PatchCastMemberUseCase;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,6 +41,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultDeleteCastMemberUseCase(castMemberGateway);
     }
 
+    @Bean
+    public DeleteCastMembersUseCase deleteCastMembersUseCase() {
+        return new DefaultDeleteCastMembersUseCase(castMemberGateway);
+    }
+
     @Bean
     public GetCastMemberByIdUseCase getCastMemberByIdUseCase() {
         return new DefaultGetCastMemberByIdUseCase(castMemberGateway);
@@ -45,8 +56,18 @@ public class CastMemberUseCaseConfig {
         return new DefaultListCastMembersUseCase(castMemberGateway);
     }
 
+    @Bean
+    public ExportCastMembersUseCase exportCastMembersUseCase() {
+        return new DefaultExportCastMembersUseCase(castMemberGateway);
+    }
+
     @Bean
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
         return new DefaultUpdateCastMemberUseCase(castMemberGateway);
     }
+
+    @Bean
+    public PatchCastMemberUseCase patchCastMemberUseCase() {
+        return new DefaultPatchCastMemberUseCase(castMemberGateway);
+    }
 }
\ No newline at end of file
@@ -3,13 +3,19 @@ package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.patch.DefaultPatchCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.patch.PatchCategoryUseCase;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,6 +39,11 @@ public class CategoryUseCaseConfig {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public PatchCategoryUseCase patchCategoryUseCase() {
+        return new DefaultPatchCategoryUseCase(categoryGateway);
+    }
+
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
@@ -43,8 +54,18 @@ public class CategoryUseCaseConfig {
         return new DefaultListCategoriesUseCase(categoryGateway);
     }
 
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
+
+    @Bean
+    public DeleteCategoriesUseCase deleteCategoriesUseCase() {
+        return new DefaultDeleteCategoriesUseCase(categoryGateway);
+    }
 }
\ No newline at end of file
@@ -3,12 +3,18 @@ package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.DefaultCreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DefaultDeleteGenresUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.export.DefaultExportGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.DefaultGetGenreByIdUsecase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.DefaultListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.update.DefaultUpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.update.patch.DefaultPatchGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.update.patch.PatchGenreUseCase;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import org.springframework.context.annotation.Bean;
@@ -37,6 +43,11 @@ public class GenreUseCaseConfig {
         return new DefaultDeleteGenreUseCase(genreGateway);
     }
 
+    @Bean
+    public DeleteGenresUseCase deleteGenresUseCase() {
+        return new DefaultDeleteGenresUseCase(genreGateway);
+    }
+
     @Bean
     public GetGenreByIdUseCase getGenreByIdUseCase() {
         return new DefaultGetGenreByIdUsecase(genreGateway);
@@ -47,8 +58,18 @@ public class GenreUseCaseConfig {
         return new DefaultListGenreUseCase(genreGateway);
     }
 
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase() {
+        return new DefaultExportGenresUseCase(genreGateway);
+    }
+
     @Bean
     public DefaultUpdateGenreUseCase defaultUpdateGenreUseCase() {
         return new DefaultUpdateGenreUseCase(categoryGateway, genreGateway);
     }
+
+    @Bean
+    public PatchGenreUseCase patchGenreUseCase() {
+        return new DefaultPatchGenreUseCase(genreGateway);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.create.DefaultCreateVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.create.bulk.BulkCreateVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.create.bulk.DefaultBulkCreateVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.delete.DefaultDeleteVideosUseCase;
+import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideosUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.DefaultGetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.chunk.DefaultUploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.chunk.UploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.complete.CompleteMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.complete.DefaultCompleteMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.get.DefaultGetMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.get.GetMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.initiate.DefaultInitiateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.initiate.InitiateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultUploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.DefaultListVideoFacetsUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.ListVideoFacetsUseCase;
+import com.fullcycle.admin.catalogo.application.video.update.DefaultUpdateVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.update.patch.DefaultPatchVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.update.patch.PatchVideoUseCase;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class VideoUseCaseConfig implements DisposableBean {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final VideoGateway videoGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+    private final ExecutorService mediaStoreExecutor;
+
+    public VideoUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final VideoGateway videoGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final MediaUploadGateway mediaUploadGateway,
+            final StorageProperties storageProperties
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.mediaStoreExecutor = mediaStoreExecutor(storageProperties.getParallelStores());
+    }
+
+    @Override
+    public void destroy() {
+        this.mediaStoreExecutor.shutdown();
+    }
+
+    @Bean
+    public CreateVideoUseCase createVideoUseCase() {
+        return new DefaultCreateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway, videoGateway, mediaStoreExecutor);
+    }
+
+    @Bean
+    public UpdateVideoUseCase updateVideoUseCase() {
+        return new DefaultUpdateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway, videoGateway, mediaStoreExecutor);
+    }
+
+    @Bean
+    public BulkCreateVideoUseCase bulkCreateVideoUseCase() {
+        return new DefaultBulkCreateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, videoGateway);
+    }
+
+    @Bean
+    public DeleteVideosUseCase deleteVideosUseCase() {
+        return new DefaultDeleteVideosUseCase(videoGateway);
+    }
+
+    @Bean
+    public ListVideoFacetsUseCase listVideoFacetsUseCase() {
+        return new DefaultListVideoFacetsUseCase(videoGateway);
+    }
+
+    @Bean
+    public PatchVideoUseCase patchVideoUseCase() {
+        return new DefaultPatchVideoUseCase(videoGateway);
+    }
+
+    @Bean
+    public UploadMediaUseCase uploadMediaUseCase() {
+        return new DefaultUploadMediaUseCase(mediaResourceGateway, videoGateway);
+    }
+
+    @Bean
+    public GetMediaUseCase getMediaUseCase() {
+        return new DefaultGetMediaUseCase(mediaResourceGateway);
+    }
+
+    @Bean
+    public InitiateMediaUploadUseCase initiateMediaUploadUseCase() {
+        return new DefaultInitiateMediaUploadUseCase(mediaResourceGateway, mediaUploadGateway, videoGateway);
+    }
+
+    @Bean
+    public UploadMediaChunkUseCase uploadMediaChunkUseCase() {
+        return new DefaultUploadMediaChunkUseCase(mediaResourceGateway, mediaUploadGateway);
+    }
+
+    @Bean
+    public GetMediaUploadUseCase getMediaUploadUseCase() {
+        return new DefaultGetMediaUploadUseCase(mediaUploadGateway);
+    }
+
+    @Bean
+    public CompleteMediaUploadUseCase completeMediaUploadUseCase() {
+        return new DefaultCompleteMediaUploadUseCase(mediaResourceGateway, mediaUploadGateway, videoGateway);
+    }
+
+    // Pool proprio e nao um bean Executor, que desligaria o applicationTaskExecutor do Spring Boot usado
+    // pelos downloads em streaming. A fila e limitada e, cheia, a thread da requisicao grava a midia ela mesma
+    private static ExecutorService mediaStoreExecutor(final int parallelStores) {
+        final var threads = Math.max(1, parallelStores);
+        final var sequence = new AtomicInteger();
+        final var executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(threads * 20),
+                aRunnable -> {
+                    final var aThread = new Thread(aRunnable, "media-store-" + sequence.incrementAndGet());
+                    aThread.setDaemon(true);
+                    return aThread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
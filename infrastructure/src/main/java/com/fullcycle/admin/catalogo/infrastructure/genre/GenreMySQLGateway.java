@@ -1,45 +1,103 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre;
 
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePatch;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreCategoryEntry;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreNameIndex;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreSearchCache;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationsUtils;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ColumnUpdate;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.RefreshableIndex;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.TableStatistics;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.TableVersions;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.google.common.collect.Lists;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import static org.springframework.data.jpa.domain.Specification.where;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
 
 @Component
-public class GenreMySQLGateway implements GenreGateway {
+public class GenreMySQLGateway implements GenreGateway, RefreshableIndex {
+
+    // Acima disso o IN com os ids do indice ficaria grande demais: a busca volta para o LIKE no banco
+    private static final int MAX_TERM_IDS = 1_000;
+
+    // Limita a quantidade de parametros do IN em cada DELETE
+    private static final int DELETE_BATCH_SIZE = 1000;
 
     private final GenreRepository genreRepository;
+    private final TableStatistics tableStatistics;
+    private final TableVersions tableVersions;
+    private final GenreNameIndex nameIndex;
+    private final GenreSearchCache searchCache;
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final TableStatistics tableStatistics,
+            final TableVersions tableVersions,
+            final GenreNameIndex nameIndex,
+            final GenreSearchCache searchCache
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.tableStatistics = Objects.requireNonNull(tableStatistics);
+        this.tableVersions = Objects.requireNonNull(tableVersions);
+        this.nameIndex = Objects.requireNonNull(nameIndex);
+        this.searchCache = Objects.requireNonNull(searchCache);
     }
 
     @Override
     public Genre create(final Genre aGenre) {
-        return save(aGenre);
+        // persist direto: o save faria merge e consultaria o genero e cada categoria associada
+        return this.genreRepository.persist(GenreJpaEntity.from(aGenre)).toAggregate();
     }
 
     @Override
+    @Transactional
     public void deleteById(final GenreID anId) {
-        final var aGenreId = anId.getValue();
-        if (this.genreRepository.existsById(aGenreId)) {
-            this.genreRepository.deleteById(aGenreId);
+        deleteAllById(List.of(anId));
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllById(final Iterable<GenreID> genreIDs) {
+        final var ids = StreamSupport.stream(genreIDs.spliterator(), false)
+                .map(GenreID::getValue)
+                .distinct()
+                .toList();
+
+        var deleted = 0;
+        for (final var batch : Lists.partition(ids, DELETE_BATCH_SIZE)) {
+            deleted += this.genreRepository.deleteAllByIdIn(batch);
+        }
+
+        // O DELETE em JPQL nao passa pelos listeners da entidade: indice e cache sao atualizados aqui
+        if (deleted > 0) {
+            afterCommit(() -> {
+                ids.forEach(this.nameIndex::remove);
+                this.searchCache.invalidate();
+            });
         }
+        return deleted;
     }
 
     @Override
@@ -54,28 +112,179 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
-    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+    @Transactional
+    public boolean patch(final GenreID anId, final GenrePatch aPatch) {
+        final var anUpdate = ColumnUpdate.of(GenreJpaEntity.class, anId.getValue());
+        if (aPatch.name() != null) anUpdate.set("name", aPatch.name());
+
+        // Mesmas regras de Genre.activate/deactivate: desativar preserva o deletedAt existente
+        if (Boolean.TRUE.equals(aPatch.active())) anUpdate.set("active", true).set("deletedAt", null);
+        if (Boolean.FALSE.equals(aPatch.active())) anUpdate.set("active", false).setIfNull("deletedAt", aPatch.updatedAt());
+
+        anUpdate.set("updatedAt", aPatch.updatedAt());
+
+        if (this.genreRepository.update(anUpdate) == 0) {
+            return false;
+        }
+
+        // O UPDATE em criteria nao passa pelos listeners da entidade: indice e cache sao atualizados aqui
+        afterCommit(() -> {
+            if (aPatch.name() != null) this.nameIndex.put(new NameEntry(anId.getValue(), aPatch.name()));
+            this.searchCache.invalidate();
+        });
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<GenrePreview> findAll(final SearchQuery aQuery) {
+        return this.searchCache.get(aQuery, () -> search(aQuery));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(final Consumer<GenrePreview> aConsumer) {
+        try (final var rows = this.genreRepository.streamAllWithCategories()) {
+            // As linhas chegam ordenadas por genero: cada troca de id fecha o genero anterior
+            final var categories = new ArrayList<CategoryID>();
+            GenrePreview current = null;
+
+            for (final var it = rows.iterator(); it.hasNext(); ) {
+                final var row = it.next();
+                if (current != null && !current.id().getValue().equals(row.id())) {
+                    aConsumer.accept(current.withCategories(categories));
+                    categories.clear();
+                    current = null;
+                }
+                if (current == null) {
+                    current = row.toPreview();
+                }
+                if (row.categoryId() != null) {
+                    categories.add(CategoryID.from(row.categoryId()));
+                }
+            }
+
+            if (current != null) {
+                aConsumer.accept(current.withCategories(categories));
+            }
+        }
+    }
+
+    private Pagination<GenrePreview> search(final SearchQuery aQuery) {
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
                 Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        final var where = Optional.ofNullable(aQuery.terms())
+        final var terms = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
                 .orElse(null);
 
-        final var pageResults = genreRepository.findAll(where(where), page);
+        if (terms != null) {
+            return findAllByTerms(aQuery, terms, page);
+        }
+
+        if (aQuery.totalMode() != TotalMode.EXACT) {
+            return findAllSlice(aQuery, page);
+        }
+
+        // A listagem nao precisa do agregado: a projecao evita hidratar e rastrear entidades
+        final var pageResults = this.genreRepository.findAllPreviews(page);
 
         return new Pagination<>(
                 pageResults.getNumber(),
                 pageResults.getSize(),
                 pageResults.getTotalElements(),
-                pageResults.map(GenreJpaEntity::toAggregate).toList()
+                withCategories(pageResults.getContent())
+        );
+    }
+
+    private Pagination<GenrePreview> findAllByTerms(final SearchQuery aQuery, final String terms, final PageRequest page) {
+        final var result = this.nameIndex.search(terms, MAX_TERM_IDS);
+        if (result.isEmpty()) {
+            return findAllByLike(aQuery, terms, page);
+        }
+
+        final var ids = result.get();
+        if (ids.isEmpty()) {
+            return new Pagination<>(page.getPageNumber(), page.getPageSize(), 0, List.of());
+        }
+
+        final var items = this.genreRepository.findAllPreviewsByIdIn(ids, page);
+
+        return new Pagination<>(page.getPageNumber(), page.getPageSize(), ids.size(), withCategories(items));
+    }
+
+    private Pagination<GenrePreview> findAllByLike(final SearchQuery aQuery, final String terms, final PageRequest page) {
+        final var aTerms = SqlUtils.like(SqlUtils.upper(terms));
+
+        if (aQuery.totalMode() == TotalMode.EXACT) {
+            final var pageResult = this.genreRepository.findAllPreviewsByTerms(aTerms, page);
+            return new Pagination<>(
+                    pageResult.getNumber(),
+                    pageResult.getSize(),
+                    pageResult.getTotalElements(),
+                    withCategories(pageResult.getContent())
+            );
+        }
+
+        // A estimativa da tabela nao vale para um filtro: sem total exato o total fica desconhecido
+        final var sliceResult = this.genreRepository.findAllPreviewsSliceByTerms(aTerms, page);
+        return new Pagination<>(
+                sliceResult.getNumber(),
+                sliceResult.getSize(),
+                Pagination.UNKNOWN_TOTAL,
+                withCategories(sliceResult.getContent()),
+                sliceResult.hasNext(),
+                null
+        );
+    }
+
+    private Pagination<GenrePreview> findAllSlice(final SearchQuery aQuery, final PageRequest page) {
+        final var sliceResult = this.genreRepository.findAllPreviewsSlice(page);
+
+        final var total = aQuery.totalMode() == TotalMode.ESTIMATED
+                ? this.tableStatistics.estimatedRows("genres")
+                : Pagination.UNKNOWN_TOTAL;
+
+        return new Pagination<>(
+                sliceResult.getNumber(),
+                sliceResult.getSize(),
+                total,
+                withCategories(sliceResult.getContent()),
+                sliceResult.hasNext(),
+                null
         );
     }
 
+    private List<GenrePreview> withCategories(final List<GenrePreview> genres) {
+        if (genres.isEmpty()) {
+            return genres;
+        }
+
+        final var ids = genres.stream()
+                .map(genre -> genre.id().getValue())
+                .toList();
+
+        final var categories = this.genreRepository.findAllCategoriesByGenreIdIn(ids).stream()
+                .collect(Collectors.groupingBy(
+                        GenreCategoryEntry::genreId,
+                        Collectors.mapping(entry -> CategoryID.from(entry.categoryId()), Collectors.toList())
+                ));
+
+        return genres.stream()
+                .map(genre -> genre.withCategories(categories.getOrDefault(genre.id().getValue(), List.of())))
+                .toList();
+    }
+
+    // Versao e linhas lidas na mesma transacao, para que a versao guardada corresponda ao que foi carregado
+    @Override
+    @Transactional(readOnly = true)
+    public void refreshIndex() {
+        this.nameIndex.refresh(this.tableVersions.version("genres"), this.genreRepository::findAllNames);
+    }
+
     @Override
     public List<GenreID> existsByIds(final Iterable<GenreID> genreIDS) {
         final var ids = StreamSupport.stream(genreIDS.spliterator(), false)
@@ -87,10 +296,6 @@ public class GenreMySQLGateway implements GenreGateway {
                 .toList();
     }
 
-    private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationsUtils.like("name", terms);
-    }
-
     private Genre save(final Genre aGenre) {
         return this.genreRepository.save(GenreJpaEntity.from(aGenre)).toAggregate();
     }
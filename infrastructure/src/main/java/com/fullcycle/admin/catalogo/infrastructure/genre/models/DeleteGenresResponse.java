@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record DeleteGenresResponse(
+        @JsonProperty("deleted") int deleted
+) {}
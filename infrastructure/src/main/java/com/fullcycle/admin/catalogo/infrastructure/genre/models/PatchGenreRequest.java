@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// Campos ausentes (ou nulos) nao sao alterados
+public record PatchGenreRequest(
+        @JsonProperty("name") String name,
+        @JsonProperty("is_active") Boolean active
+) {
+}
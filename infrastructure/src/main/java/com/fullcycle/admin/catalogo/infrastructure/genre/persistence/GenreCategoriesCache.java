@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Objects;
+
+// Remover categorias apaga as linhas de genres_categories pelo ON DELETE CASCADE do banco, sem passar pelo
+// Hibernate. O DELETE de categorias so limpa a regiao de categorias, entao as colecoes de generos saem aqui.
+@Component
+public class GenreCategoriesCache {
+
+    private final SessionFactory sessionFactory;
+
+    public GenreCategoriesCache(final EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = Objects.requireNonNull(entityManagerFactory).unwrap(SessionFactory.class);
+    }
+
+    public void evict() {
+        final var cache = this.sessionFactory.getCache();
+        cache.evictCollectionData(GenreJpaEntity.CATEGORIES_ROLE);
+        cache.evictEntityData(GenreCategoryJpaEntity.class);
+    }
+}
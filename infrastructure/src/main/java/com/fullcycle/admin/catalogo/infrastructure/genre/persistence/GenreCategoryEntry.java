@@ -0,0 +1,4 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+public record GenreCategoryEntry(String genreId, String categoryId) {
+}
@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Type;
+
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import java.io.Serializable;
@@ -9,9 +12,11 @@ import java.util.Objects;
 public class GenreCategoryID implements Serializable {
 
     @Column(name = "genre_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String genreId;
 
     @Column(name = "category_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String categoryId;
 
     private GenreCategoryID() {}
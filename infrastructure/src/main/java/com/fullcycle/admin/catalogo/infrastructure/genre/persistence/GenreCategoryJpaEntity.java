@@ -2,6 +2,10 @@ package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.Cacheable;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.ManyToOne;
@@ -10,9 +14,13 @@ import javax.persistence.Table;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GenreCategoryJpaEntity.CACHE_REGION)
 @Table(name = "genres_categories")
 public class GenreCategoryJpaEntity {
 
+    public static final String CACHE_REGION = "genres_categories";
+
     @EmbeddedId
     private GenreCategoryID id;
 
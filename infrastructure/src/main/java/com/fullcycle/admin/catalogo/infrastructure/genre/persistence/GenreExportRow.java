@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
+
+import java.time.Instant;
+
+// Linha do LEFT JOIN entre genero e categorias usado pela exportacao; categoryId e nulo para generos sem categoria
+public record GenreExportRow(
+        String id,
+        String name,
+        boolean active,
+        Instant createdAt,
+        Instant deletedAt,
+        String categoryId
+) {
+
+    public GenrePreview toPreview() {
+        return new GenrePreview(id, name, active, createdAt, deletedAt);
+    }
+}
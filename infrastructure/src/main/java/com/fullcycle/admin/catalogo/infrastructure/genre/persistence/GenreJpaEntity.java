@@ -3,9 +3,15 @@ package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Type;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
@@ -18,10 +24,18 @@ import static javax.persistence.CascadeType.ALL;
 import static javax.persistence.FetchType.EAGER;
 
 @Entity(name = "Genre")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GenreJpaEntity.CACHE_REGION)
+@EntityListeners({GenreNameIndex.Listener.class, GenreSearchCache.Listener.class})
 @Table(name = "genres")
 public class GenreJpaEntity {
 
+    public static final String CACHE_REGION = "genres";
+    public static final String CATEGORIES_CACHE_REGION = "genres.categories";
+    public static final String CATEGORIES_ROLE = GenreJpaEntity.class.getName() + ".categories";
+
     @Id
+    @Type(type = BinaryIdType.NAME)
     @Column(name = "id", nullable = false)
     private String id;
 
@@ -31,6 +45,8 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
+    // A colecao em cache guarda so os ids; as linhas ficam na regiao de GenreCategoryJpaEntity
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CATEGORIES_CACHE_REGION)
     @OneToMany(mappedBy = "genre", cascade = ALL, fetch = EAGER, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
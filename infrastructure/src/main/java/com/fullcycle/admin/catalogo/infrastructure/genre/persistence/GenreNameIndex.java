@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.NameIndex;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.util.Objects;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+@Component
+public class GenreNameIndex extends NameIndex {
+
+    public static class Listener {
+
+        private final GenreNameIndex index;
+
+        public Listener(final GenreNameIndex index) {
+            this.index = Objects.requireNonNull(index);
+        }
+
+        @PostPersist
+        @PostUpdate
+        public void onSave(final GenreJpaEntity aGenre) {
+            final var anEntry = new NameEntry(aGenre.getId(), aGenre.getName());
+            afterCommit(() -> this.index.put(anEntry));
+        }
+
+        @PostRemove
+        public void onRemove(final GenreJpaEntity aGenre) {
+            final var anId = aGenre.getId();
+            afterCommit(() -> this.index.remove(anId));
+        }
+    }
+}
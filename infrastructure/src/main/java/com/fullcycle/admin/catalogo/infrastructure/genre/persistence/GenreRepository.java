@@ -1,18 +1,71 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ColumnUpdateRepository;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.PersistRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
-    Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, PersistRepository<GenreJpaEntity>, ColumnUpdateRepository {
 
+    @Query(
+            value = "SELECT new com.fullcycle.admin.catalogo.domain.genre.GenrePreview(g.id, g.name, g.active, g.createdAt, g.deletedAt) FROM Genre g",
+            countQuery = "SELECT COUNT(g) FROM Genre g"
+    )
+    Page<GenrePreview> findAllPreviews(Pageable page);
+
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.domain.genre.GenrePreview(g.id, g.name, g.active, g.createdAt, g.deletedAt) FROM Genre g")
+    Slice<GenrePreview> findAllPreviewsSlice(Pageable page);
+
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.domain.genre.GenrePreview(g.id, g.name, g.active, g.createdAt, g.deletedAt) FROM Genre g WHERE g.id IN :ids")
+    List<GenrePreview> findAllPreviewsByIdIn(@Param("ids") Collection<String> ids, Pageable page);
+
+    // Busca por termos no banco quando o indice em memoria nao resolve (termo curto ou amplo demais)
+    @Query(
+            value = "SELECT new com.fullcycle.admin.catalogo.domain.genre.GenrePreview(g.id, g.name, g.active, g.createdAt, g.deletedAt) FROM Genre g WHERE UPPER(g.name) LIKE :terms",
+            countQuery = "SELECT COUNT(g) FROM Genre g WHERE UPPER(g.name) LIKE :terms"
+    )
+    Page<GenrePreview> findAllPreviewsByTerms(@Param("terms") String terms, Pageable page);
+
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.domain.genre.GenrePreview(g.id, g.name, g.active, g.createdAt, g.deletedAt) FROM Genre g WHERE UPPER(g.name) LIKE :terms")
+    Slice<GenrePreview> findAllPreviewsSliceByTerms(@Param("terms") String terms, Pageable page);
+
+    // Categorias de todos os generos da pagina em uma unica consulta, evitando o N+1 da colecao
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreCategoryEntry(gc.id.genreId, gc.id.categoryId) FROM GenreCategoryJpaEntity gc WHERE gc.id.genreId IN :ids")
+    List<GenreCategoryEntry> findAllCategoriesByGenreIdIn(@Param("ids") Collection<String> ids);
+
+    // Uma linha por par genero/categoria, ordenada por genero para agrupar sem guardar o resultado em memoria
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreExportRow(g.id, g.name, g.active, g.createdAt, g.deletedAt, gc.id.categoryId) FROM Genre g LEFT JOIN g.categories gc ORDER BY g.id")
+    Stream<GenreExportRow> streamAllWithCategories();
+
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.infrastructure.persistence.NameEntry(g.id, g.name) FROM Genre g")
+    List<NameEntry> findAllNames();
+
+    // Cache de consulta: invalidado pelo Hibernate a cada escrita na tabela
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "genres.exists")})
     @Query(value = "SELECT g.id FROM Genre g WHERE g.id IN :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
-}
\ No newline at end of file
+
+    // Sem carregar as entidades; as linhas de genres_categories saem pelo ON DELETE CASCADE
+    @Modifying
+    @Query(value = "DELETE FROM Genre x WHERE x.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<String> ids);
+}
@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.SearchQueryCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.time.Duration;
+import java.util.Objects;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+@Component
+public class GenreSearchCache extends SearchQueryCache<Pagination<GenrePreview>> {
+
+    public GenreSearchCache(
+            @Value("${search.cache.max-size:1000}") final long maxSize,
+            @Value("${search.cache.ttl:30s}") final Duration ttl
+    ) {
+        super("genres", maxSize, ttl);
+    }
+
+    public static class Listener {
+
+        private final GenreSearchCache cache;
+
+        public Listener(final GenreSearchCache cache) {
+            this.cache = Objects.requireNonNull(cache);
+        }
+
+        @PostPersist
+        @PostUpdate
+        @PostRemove
+        public void onChange(final Object anEntity) {
+            afterCommit(this.cache::invalidate);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+// Os ids continuam como o hexadecimal de 32 caracteres no dominio e na API, mas o banco guarda os 16 bytes
+// em BINARY(16). E um tipo do Hibernate e nao um AttributeConverter porque o Hibernate 5 ignora @Convert
+// em atributos @Id. Consultas por um id que nao e hexadecimal (ex.: "123" vindo da URL) nao falham:
+// o valor vira mais de 16 bytes e simplesmente nao encontra nenhuma linha.
+public class BinaryIdType extends AbstractSingleColumnStandardBasicType<String> {
+
+    public static final String NAME = "com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType";
+
+    private static final int ID_BYTES = 16;
+    private static final HexFormat HEX = HexFormat.of();
+
+    public BinaryIdType() {
+        super(BinaryTypeDescriptor.INSTANCE, HexIdDescriptor.INSTANCE);
+    }
+
+    @Override
+    public String getName() {
+        return "binary-id";
+    }
+
+    public static byte[] toBytes(final String anId) {
+        if (anId.length() == ID_BYTES * 2 && anId.chars().allMatch(HexFormat::isHexDigit)) {
+            return HEX.parseHex(anId);
+        }
+
+        final var bytes = anId.getBytes(StandardCharsets.UTF_8);
+        return Arrays.copyOf(bytes, Math.max(bytes.length, ID_BYTES) + 1);
+    }
+
+    public static String toHex(final byte[] bytes) {
+        return HEX.formatHex(bytes);
+    }
+
+    // Implementa a interface direto: o AbstractTypeDescriptor se registraria como o descritor global de String
+    private static final class HexIdDescriptor implements JavaTypeDescriptor<String> {
+
+        private static final HexIdDescriptor INSTANCE = new HexIdDescriptor();
+
+        @Override
+        public Class<String> getJavaType() {
+            return String.class;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Class<String> getJavaTypeClass() {
+            return String.class;
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String string) {
+            return string;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (byte[].class.equals(type)) {
+                return (X) toBytes(value);
+            }
+            if (String.class.equals(type)) {
+                return (X) value;
+            }
+            throw new IllegalArgumentException("Unknown unwrap conversion requested: String to " + type.getName());
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof byte[] bytes) {
+                return toHex(bytes);
+            }
+            if (value instanceof String aString) {
+                return aString;
+            }
+            throw new IllegalArgumentException("Unknown wrap conversion requested: " + value.getClass().getName() + " to String");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+// UPDATE ... SET apenas das colunas informadas, filtrado pelo id (e por condicoes opcionais), sem carregar a entidade.
+// Como nao passa pelo contexto de persistencia, os listeners da entidade nao sao chamados.
+public final class ColumnUpdate<T> {
+
+    private final Class<T> type;
+    private final String id;
+    private final List<BiConsumer<CriteriaUpdate<T>, Context<T>>> assignments = new ArrayList<>();
+    private final List<Function<Context<T>, Predicate>> conditions = new ArrayList<>();
+
+    private ColumnUpdate(final Class<T> type, final String id) {
+        this.type = Objects.requireNonNull(type);
+        this.id = Objects.requireNonNull(id);
+    }
+
+    public static <T> ColumnUpdate<T> of(final Class<T> type, final String anId) {
+        return new ColumnUpdate<>(type, anId);
+    }
+
+    public ColumnUpdate<T> set(final String attribute, final Object value) {
+        this.assignments.add((update, ctx) -> update.set(ctx.root().get(attribute), value));
+        return this;
+    }
+
+    // Mantem o valor atual quando ele existe: SET col = COALESCE(col, ?)
+    public <V> ColumnUpdate<T> setIfNull(final String attribute, final V value) {
+        this.assignments.add((update, ctx) -> {
+            final var path = ctx.root().<V>get(attribute);
+            update.set(path, ctx.builder().coalesce(path, value));
+        });
+        return this;
+    }
+
+    // Condicao extra no WHERE, para atualizar so se a linha ainda tiver o valor lido (WHERE col = ?)
+    public ColumnUpdate<T> where(final String attribute, final Object value) {
+        this.conditions.add(ctx -> ctx.builder().equal(ctx.root().get(attribute), value));
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return this.assignments.isEmpty();
+    }
+
+    CriteriaUpdate<T> toCriteria(final CriteriaBuilder builder) {
+        final var update = builder.createCriteriaUpdate(this.type);
+        final var ctx = new Context<>(builder, update.from(this.type));
+        this.assignments.forEach(it -> it.accept(update, ctx));
+
+        final var predicates = new ArrayList<Predicate>();
+        predicates.add(builder.equal(ctx.root().get("id"), this.id));
+        this.conditions.forEach(it -> predicates.add(it.apply(ctx)));
+        return update.where(predicates.toArray(Predicate[]::new));
+    }
+
+    private record Context<T>(CriteriaBuilder builder, Root<T> root) {
+    }
+}
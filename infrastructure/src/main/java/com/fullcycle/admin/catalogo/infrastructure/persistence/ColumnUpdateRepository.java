@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.springframework.transaction.annotation.Transactional;
+
+// Fragmento dos repositorios para alteracoes parciais: um UPDATE so com as colunas alteradas
+public interface ColumnUpdateRepository {
+
+    // Retorna a quantidade de linhas encontradas pelo id e pelas condicoes (0 quando nenhuma atende)
+    @Transactional
+    int update(ColumnUpdate<?> anUpdate);
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+public class ColumnUpdateRepositoryImpl implements ColumnUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int update(final ColumnUpdate<?> anUpdate) {
+        if (anUpdate.isEmpty()) {
+            return 0;
+        }
+
+        final var builder = this.entityManager.getCriteriaBuilder();
+        return this.entityManager.createQuery(anUpdate.toCriteria(builder)).executeUpdate();
+    }
+}
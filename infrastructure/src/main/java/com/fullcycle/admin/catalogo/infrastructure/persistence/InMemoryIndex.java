@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// Base dos indices em memoria carregados do banco. Os listeners aplicam apenas as escritas desta instancia;
+// as de outras instancias chegam pelo refresh, que recarrega o indice quando a versao das tabelas muda
+// (ver SearchIndexRefresher). Antes da primeira carga o indice nao esta pronto e as buscas devem usar o banco.
+public abstract class InMemoryIndex<S> {
+
+    protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+    private Object version;
+    private List<Runnable> pending;
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    // Recarrega somente quando a versao lida do banco difere da versao da ultima carga
+    public synchronized void refresh(final Object aVersion, final Supplier<S> loader) {
+        if (this.ready && Objects.equals(aVersion, this.version)) {
+            return;
+        }
+        replace(aVersion, loader);
+    }
+
+    protected synchronized void replace(final Object aVersion, final Supplier<S> loader) {
+        write(() -> this.pending = new ArrayList<>());
+
+        final S snapshot;
+        try {
+            snapshot = loader.get();
+        } catch (final RuntimeException e) {
+            write(() -> this.pending = null);
+            throw e;
+        }
+
+        write(() -> {
+            reset(snapshot);
+            // Escritas confirmadas durante a leitura podem nao estar no snapshot: sao reaplicadas por cima
+            this.pending.forEach(Runnable::run);
+            this.pending = null;
+            this.version = aVersion;
+            this.ready = true;
+        });
+    }
+
+    // Alteracao feita por esta instancia, ja commitada. Fica registrada enquanto houver uma carga em andamento
+    protected void change(final Runnable aChange) {
+        write(() -> {
+            aChange.run();
+            if (this.pending != null) {
+                this.pending.add(aChange);
+            }
+        });
+    }
+
+    protected <T> T read(final Supplier<T> aReader) {
+        this.lock.readLock().lock();
+        try {
+            return aReader.get();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    // Substitui todo o conteudo do indice; chamado com o lock de escrita
+    protected abstract void reset(S snapshot);
+
+    private void write(final Runnable aWriter) {
+        this.lock.writeLock().lock();
+        try {
+            aWriter.run();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+}
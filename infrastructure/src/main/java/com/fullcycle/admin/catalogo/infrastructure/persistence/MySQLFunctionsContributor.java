@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+// Registra funcoes especificas do MySQL para uso na Criteria API / JPQL.
+// Configurado via hibernate.metadata_builder_contributor no application.yaml.
+public class MySQLFunctionsContributor implements MetadataBuilderContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(
+                MATCH_AGAINST,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "MATCH (?1, ?2) AGAINST (?3 IN NATURAL LANGUAGE MODE)")
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+// Projecao usada para alimentar o NameIndex sem carregar as entidades completas
+public record NameEntry(String id, String name, String description) {
+
+    public NameEntry(final String id, final String name) {
+        this(id, name, null);
+    }
+}
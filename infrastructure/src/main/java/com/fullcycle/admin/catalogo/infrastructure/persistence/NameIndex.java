@@ -0,0 +1,140 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Indice invertido em memoria por trigramas para a busca "contem" (equivalente ao UPPER(campo) LIKE %termo%).
+// Os trigramas do termo reduzem os candidatos e cada candidato e confirmado com contains, entao o resultado
+// e o mesmo do LIKE, ignorando maiusculas e acentos como a collation padrao do MySQL.
+public class NameIndex extends InMemoryIndex<List<NameEntry>> {
+
+    private static final int GRAM_SIZE = 3;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final Map<String, List<String>> documents = new HashMap<>();
+    private final Map<String, Set<String>> postings = new HashMap<>();
+
+    public void put(final NameEntry anEntry) {
+        change(() -> index(anEntry));
+    }
+
+    public void rebuild(final List<NameEntry> entries) {
+        replace(null, () -> entries);
+    }
+
+    public void remove(final String anId) {
+        change(() -> unindex(anId));
+    }
+
+    /**
+     * Resolve os ids cujos campos contem o termo. Retorna vazio quando o indice ainda nao foi carregado,
+     * quando o termo e menor que um trigrama (todo documento seria candidato) ou quando os resultados
+     * passam de maxResults, para que o chamador use o LIKE no banco em vez de um IN muito grande.
+     */
+    public Optional<Set<String>> search(final String terms, final int maxResults) {
+        final var term = normalize(terms.trim());
+        if (!isReady() || term.length() < GRAM_SIZE) {
+            return Optional.empty();
+        }
+
+        return read(() -> {
+            final var ids = new HashSet<String>();
+            for (final var id : candidates(term)) {
+                if (this.documents.get(id).stream().anyMatch(field -> field.contains(term))) {
+                    ids.add(id);
+                    if (ids.size() > maxResults) {
+                        return Optional.empty();
+                    }
+                }
+            }
+            return Optional.of(ids);
+        });
+    }
+
+    public int size() {
+        return read(this.documents::size);
+    }
+
+    @Override
+    protected void reset(final List<NameEntry> entries) {
+        this.documents.clear();
+        this.postings.clear();
+        entries.forEach(this::index);
+    }
+
+    private Set<String> candidates(final String term) {
+        final var lists = new ArrayList<Set<String>>();
+        for (final var gram : grams(term)) {
+            final var ids = this.postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        final var candidates = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+        return candidates;
+    }
+
+    private void index(final NameEntry anEntry) {
+        final var anId = Objects.requireNonNull(anEntry.id());
+
+        final var fields = new ArrayList<String>(2);
+        fields.add(normalize(anEntry.name()));
+        if (anEntry.description() != null) {
+            fields.add(normalize(anEntry.description()));
+        }
+
+        unindex(anId);
+        this.documents.put(anId, fields);
+        for (final var field : fields) {
+            for (final var gram : grams(field)) {
+                this.postings.computeIfAbsent(gram, key -> new HashSet<>()).add(anId);
+            }
+        }
+    }
+
+    private void unindex(final String anId) {
+        final var previous = this.documents.remove(anId);
+        if (previous == null) {
+            return;
+        }
+
+        for (final var field : previous) {
+            for (final var gram : grams(field)) {
+                final var ids = this.postings.get(gram);
+                if (ids != null && ids.remove(anId) && ids.isEmpty()) {
+                    this.postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(final String value) {
+        final var grams = new HashSet<String>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static String normalize(final String value) {
+        final var decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toUpperCase(Locale.ROOT);
+    }
+}
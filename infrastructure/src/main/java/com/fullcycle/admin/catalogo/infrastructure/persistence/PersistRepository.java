@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.springframework.transaction.annotation.Transactional;
+
+// Fragmento dos repositorios para inserir entidades novas. Como os ids sao atribuidos pelo dominio,
+// o save do Spring Data sempre faz merge, que executa um SELECT antes de cada INSERT.
+public interface PersistRepository<T> {
+
+    @Transactional
+    T persist(T entity);
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+// O persist tambem se propaga em cascata para as midias e tabelas de juncao sem consulta previa
+public class PersistRepositoryImpl<T> implements PersistRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public T persist(final T entity) {
+        this.entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,78 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Cache limitado por tamanho e TTL para o resultado das listagens. A chave leva a geracao atual, entao invalidar
+// e so incrementar o contador: as entradas antigas deixam de ser encontradas e saem por tamanho ou TTL.
+// Hits, misses e evictions sao publicados como metricas cache.* com a tag cache=<name>.
+public class QueryCache<Q, R> implements MeterBinder {
+
+    private final String name;
+    private final Cache<Key<Q>, R> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public QueryCache(final String name, final long maxSize, final Duration ttl) {
+        this.name = Objects.requireNonNull(name);
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public R get(final Q aQuery, final Supplier<R> loader) {
+        // Uma transacao de escrita pode enxergar dados ainda nao commitados, que nao devem ser compartilhados
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.get();
+        }
+
+        // A geracao e lida antes da consulta: se uma escrita terminar no meio, o resultado fica na geracao antiga
+        final var key = new Key<>(this.generation.get(), normalize(aQuery));
+
+        final var cached = this.cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var result = loader.get();
+        this.cache.put(key, result);
+        return result;
+    }
+
+    public void invalidate() {
+        this.generation.incrementAndGet();
+    }
+
+    public long generation() {
+        return this.generation.get();
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, this.cache, this.name);
+    }
+
+    // Consultas equivalentes devem gerar a mesma chave
+    protected Q normalize(final Q aQuery) {
+        return aQuery;
+    }
+
+    private record Key<Q>(long generation, Q query) {
+    }
+}
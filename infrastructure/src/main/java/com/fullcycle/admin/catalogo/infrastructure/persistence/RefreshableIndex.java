@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+// Dono de um indice em memoria que sabe recarrega-lo do banco quando a versao das tabelas mudou
+public interface RefreshableIndex {
+
+    void refreshIndex();
+}
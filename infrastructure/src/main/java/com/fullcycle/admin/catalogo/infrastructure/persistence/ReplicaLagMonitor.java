@@ -0,0 +1,115 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Mede o atraso da replica em segundo plano para que o roteamento nao consulte o banco a cada transacao.
+// Sem medicao valida (replicacao parada, servidor fora do ar ou banco desconhecido) a replica fica indisponivel.
+public class ReplicaLagMonitor implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private static final String MYSQL_LAG = "SHOW REPLICA STATUS";
+
+    // H2 nao replica, mas permite testar o roteamento localmente com duas URLs em memoria
+    private static final String H2_LAG = "SELECT 0 AS " + LAG_COLUMN;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+
+    private volatile String lagSql;
+    private volatile boolean available;
+    private ScheduledExecutorService executor;
+
+    public ReplicaLagMonitor(final DataSource replica, final Duration maxLag, final Duration checkInterval) {
+        this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(replica));
+        this.maxLag = Objects.requireNonNull(maxLag);
+        this.checkInterval = Objects.requireNonNull(checkInterval);
+    }
+
+    public boolean isReplicaAvailable() {
+        return this.available;
+    }
+
+    public void refresh() {
+        final var lag = currentLag();
+        final var isAvailable = lag != null && lag.compareTo(this.maxLag) <= 0;
+
+        if (isAvailable != this.available) {
+            if (isAvailable) {
+                log.info("Replica available, lag: {}", lag);
+            } else {
+                log.warn("Replica unavailable, lag: {}, max lag: {}. Read-only transactions go to the primary", lag, this.maxLag);
+            }
+        }
+        this.available = isAvailable;
+    }
+
+    private Duration currentLag() {
+        try {
+            final var sql = lagSql();
+            if (sql == null) {
+                return null;
+            }
+
+            return this.jdbcTemplate.query(sql, rs -> {
+                if (!rs.next()) {
+                    return null;
+                }
+                final var seconds = rs.getLong(LAG_COLUMN);
+                return rs.wasNull() ? null : Duration.ofSeconds(seconds);
+            });
+        } catch (final DataAccessException ex) {
+            log.debug("Could not read replica lag", ex);
+            return null;
+        }
+    }
+
+    private String lagSql() {
+        if (this.lagSql == null) {
+            final var product = this.jdbcTemplate.execute((ConnectionCallback<String>) conn ->
+                    conn.getMetaData().getDatabaseProductName());
+
+            this.lagSql = switch (String.valueOf(product)) {
+                case "MySQL" -> MYSQL_LAG;
+                case "H2" -> H2_LAG;
+                default -> "";
+            };
+        }
+        return this.lagSql.isEmpty() ? null : this.lagSql;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final var interval = this.checkInterval.toMillis();
+        this.executor.scheduleWithFixedDelay(this::refresh, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+    }
+}
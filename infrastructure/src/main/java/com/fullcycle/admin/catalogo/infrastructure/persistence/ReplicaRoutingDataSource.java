@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+
+// Envia as transacoes @Transactional(readOnly = true) para a replica e todo o resto para o primario.
+// Deve ficar atras de um LazyConnectionDataSourceProxy: o JpaTransactionManager pede a conexao antes
+// de marcar a transacao como somente leitura, e o proxy adia esse pedido ate o primeiro comando.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(
+            final DataSource primary,
+            final DataSource replica,
+            final ReplicaLagMonitor lagMonitor
+    ) {
+        this.lagMonitor = Objects.requireNonNull(lagMonitor);
+        setTargetDataSources(Map.of(
+                Target.PRIMARY, Objects.requireNonNull(primary),
+                Target.REPLICA, Objects.requireNonNull(replica)
+        ));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        // Replica atrasada (ou sem medicao) volta para o primario ate alcancar de novo
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && this.lagMonitor.isReplicaAvailable()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Carrega os indices em memoria na partida e depois confere a versao das tabelas a cada intervalo. Com mais de
+// uma instancia, uma escrita feita em outro no aparece nos indices deste no em ate search.index.refresh-interval;
+// ate a primeira carga as buscas vao direto ao banco. Intervalo zero desliga a conferencia periodica.
+@Component
+public class SearchIndexRefresher implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexRefresher.class);
+
+    private final List<RefreshableIndex> indexes;
+    private final Duration interval;
+
+    private ScheduledExecutorService executor;
+
+    public SearchIndexRefresher(
+            final List<RefreshableIndex> indexes,
+            @Value("${search.index.refresh-interval:1m}") final Duration interval
+    ) {
+        this.indexes = Objects.requireNonNull(indexes);
+        this.interval = Objects.requireNonNull(interval);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refreshAll();
+
+        if (this.interval.isZero() || this.interval.isNegative()) {
+            return;
+        }
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "search-index-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final var millis = this.interval.toMillis();
+        this.executor.scheduleWithFixedDelay(this::refreshAll, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    public void refreshAll() {
+        for (final var index : this.indexes) {
+            // Uma falha mantem o indice anterior (ou nao pronto) e nao impede os demais
+            try {
+                index.refreshIndex();
+            } catch (final RuntimeException e) {
+                log.warn("Could not refresh the search index of {}", index.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+    }
+}
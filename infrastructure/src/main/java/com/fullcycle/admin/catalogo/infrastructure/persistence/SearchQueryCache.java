@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+
+import java.time.Duration;
+import java.util.Locale;
+
+public class SearchQueryCache<R> extends QueryCache<SearchQuery, R> {
+
+    public SearchQueryCache(final String name, final long maxSize, final Duration ttl) {
+        super(name, maxSize, ttl);
+    }
+
+    // A busca por termos ignora maiusculas e espacos nas pontas, e termos em branco equivalem a nenhum termo
+    @Override
+    protected SearchQuery normalize(final SearchQuery aQuery) {
+        return new SearchQuery(
+                aQuery.page(),
+                aQuery.perPage(),
+                normalizeTerms(aQuery.terms()),
+                aQuery.sort(),
+                aQuery.direction().toLowerCase(Locale.ROOT),
+                aQuery.totalMode()
+        );
+    }
+
+    public static String normalizeTerms(final String terms) {
+        return terms == null ? "" : terms.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+// Le a quantidade aproximada de linhas das estatisticas do banco em vez de executar um COUNT(*).
+// No MySQL o valor vem de information_schema.TABLES.TABLE_ROWS e pode estar defasado.
+@Component
+public class TableStatistics {
+
+    private static final String MYSQL_ESTIMATE =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private static final String H2_ESTIMATE =
+            "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String estimateSql;
+
+    public TableStatistics(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    public long estimatedRows(final String table) {
+        final var sql = estimateSql();
+        if (sql == null) {
+            return Pagination.UNKNOWN_TOTAL;
+        }
+
+        final var rows = this.jdbcTemplate.query(sql, rs -> rs.next() ? rs.getLong(1) : null, table);
+        return rows != null ? rows : Pagination.UNKNOWN_TOTAL;
+    }
+
+    private String estimateSql() {
+        if (this.estimateSql == null) {
+            final var product = this.jdbcTemplate.execute((ConnectionCallback<String>) conn ->
+                    conn.getMetaData().getDatabaseProductName());
+
+            this.estimateSql = switch (String.valueOf(product)) {
+                case "MySQL" -> MYSQL_ESTIMATE;
+                case "H2" -> H2_ESTIMATE;
+                default -> "";
+            };
+        }
+        return this.estimateSql.isEmpty() ? null : this.estimateSql;
+    }
+}
@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.Objects;
+
+// Assinatura barata do conteudo de uma tabela para detectar escritas feitas por outras instancias:
+// insercoes e exclusoes mudam a quantidade de linhas e as atualizacoes mudam o maior updated_at.
+// Os nomes de tabela vem sempre de constantes do codigo, nunca da requisicao.
+@Component
+public class TableVersions {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TableVersions(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    // Para tabelas com updated_at
+    public TableVersion version(final String table) {
+        return this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), MAX(updated_at) FROM " + table,
+                (rs, rowNum) -> new TableVersion(rs.getLong(1), rs.getTimestamp(2))
+        );
+    }
+
+    // Para tabelas de relacionamento, que so recebem insercoes e exclusoes
+    public long rows(final String table) {
+        return this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    public record TableVersion(long rows, Timestamp lastUpdate) {
+    }
+}
@@ -15,4 +15,14 @@ public interface StorageService {
     List<String> list(String prefix);
 
     void store(String name, Resource resource);
+
+    // Upload em partes: o estado devolvido e opaco para quem chama e deve ser repassado na proxima parte.
+    // O arquivo so fica visivel em 'name' depois do completeUpload
+    String initiateUpload(String name, String contentType, String checksum);
+
+    // 'offset' e a posicao da parte e 'length' o tamanho total do arquivo: o GCS precisa dos dois para saber
+    // onde a parte entra e se ela e a ultima
+    String appendUpload(String session, long offset, long length, Resource chunk);
+
+    void completeUpload(String session);
 }
\ No newline at end of file
@@ -1,24 +1,51 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceContent;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.common.base.Suppliers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 
+// Le e grava os blobs por ReadChannel/WriteChannel: o heap usado por transferencia fica limitado ao
+// tamanho do bloco, em vez do arquivo inteiro como no getContent()/create(byte[])
 public class GCStorageService implements StorageService {
 
+    private static final int DEFAULT_CHUNK_SIZE = 2 * 1024 * 1024;
+
     private final String bucket;
+    private final int chunkSize;
     private final Storage storage;
+    private final Supplier<ResumableUploadClient> uploads;
 
     public GCStorageService(final String bucket, final Storage storage) {
+        this(bucket, DEFAULT_CHUNK_SIZE, storage);
+    }
+
+    public GCStorageService(final String bucket, final int chunkSize, final Storage storage) {
+        this(bucket, chunkSize, storage, Suppliers.memoize(() -> ResumableUploadClient.from(storage, bucket)));
+    }
+
+    GCStorageService(final String bucket, final int chunkSize, final Storage storage, final Supplier<ResumableUploadClient> uploads) {
         this.bucket = bucket;
+        this.chunkSize = chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
         this.storage = storage;
+        this.uploads = uploads;
     }
 
     @Override
@@ -35,7 +62,8 @@ public class GCStorageService implements StorageService {
         return Optional.ofNullable(this.storage.get(this.bucket, id))
                 .map(blob -> Resource.with(
                         blob.getCrc32cToHexString(),
-                        blob.getContent(),
+                        blob.getSize(),
+                        new BlobContent(blob, this.chunkSize),
                         blob.getContentType(),
                         blob.getName()));
     }
@@ -56,6 +84,83 @@ public class GCStorageService implements StorageService {
                 .setCrc32cFromHexString(resource.checksum())
                 .build();
 
-        this.storage.create(blobInfo, resource.content());
+        try (final var writer = this.storage.writer(blobInfo)) {
+            writer.setChunkSize(this.chunkSize);
+            write(writer, resource);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A sessao guardada e a URI do upload resumable do GCS, nada que precise ser desserializado
+    @Override
+    public String initiateUpload(final String name, final String contentType, final String checksum) {
+        final var blobInfo = BlobInfo.newBuilder(this.bucket, name)
+                .setContentType(contentType)
+                .setCrc32cFromHexString(checksum)
+                .build();
+
+        try {
+            return this.uploads.get().start(blobInfo);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String appendUpload(final String session, final long offset, final long length, final Resource chunk) {
+        try {
+            this.uploads.get().put(session, offset, length, chunk);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return session;
+    }
+
+    // A ultima parte ja finaliza o objeto; aqui so se confirma que a sessao terminou
+    @Override
+    public void completeUpload(final String session) {
+        try {
+            this.uploads.get().finish(session);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(final WriteChannel writer, final Resource resource) {
+        try (final var reader = resource.openChannel()) {
+            final var buffer = ByteBuffer.allocate(this.chunkSize);
+            while (reader.read(buffer) >= 0 || buffer.position() > 0) {
+                buffer.flip();
+                writer.write(buffer);
+                buffer.compact();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Cada leitura fixa a geracao do blob consultado, entao os intervalos de um mesmo download vem da mesma
+    // versao do arquivo. Intervalos usam seek/limit do ReadChannel: o GCS so envia os bytes pedidos
+    private record BlobContent(Blob blob, int chunkSize) implements ResourceContent {
+
+        @Override
+        public InputStream open() {
+            return Channels.newInputStream(reader(this.chunkSize));
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            final var reader = reader((int) Math.min(this.chunkSize, Math.max(length, 1)));
+            reader.seek(offset);
+            reader.limit(offset + length);
+            return Channels.newInputStream(reader);
+        }
+
+        private ReadChannel reader(final int aChunkSize) {
+            final var reader = this.blob.reader(Blob.BlobSourceOption.generationMatch());
+            reader.setChunkSize(aChunkSize);
+            return reader;
+        }
     }
-}
\ No newline at end of file
+}
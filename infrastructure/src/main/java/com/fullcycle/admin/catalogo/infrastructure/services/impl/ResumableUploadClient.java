@@ -0,0 +1,141 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.google.api.client.http.EmptyContent;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.InputStreamContent;
+import com.google.api.client.http.json.JsonHttpContent;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.cloud.http.HttpTransportOptions;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+// Upload resumable pela API JSON do GCS. A sessao e so a URI devolvida na abertura, que ja autoriza as partes:
+// as credenciais vao apenas na abertura e as partes saem por um transporte sem elas. A ultima parte (a que
+// alcanca o tamanho total) finaliza o objeto, e o GCS confere nela o CRC32C declarado na abertura
+final class ResumableUploadClient {
+
+    // Regra do GCS: toda parte que nao e a ultima tem tamanho multiplo de 256 KiB
+    static final int CHUNK_ALIGNMENT = 256 * 1024;
+
+    private static final int RESUME_INCOMPLETE = 308;
+    private static final long FINISHED = -1;
+
+    private final String endpoint;
+    private final HttpRequestFactory authorized;
+    private final HttpRequestFactory anonymous;
+
+    ResumableUploadClient(
+            final String host,
+            final String bucket,
+            final HttpRequestFactory authorized,
+            final HttpRequestFactory anonymous
+    ) {
+        this.endpoint = "%s/upload/storage/v1/b/%s/o".formatted(Objects.requireNonNull(host), Objects.requireNonNull(bucket));
+        this.authorized = Objects.requireNonNull(authorized);
+        this.anonymous = Objects.requireNonNull(anonymous);
+    }
+
+    // Mesmo transporte, timeouts e credenciais do cliente do Storage
+    static ResumableUploadClient from(final Storage storage, final String bucket) {
+        final var options = storage.getOptions();
+        final var transportOptions = (HttpTransportOptions) options.getTransportOptions();
+        final var transport = transportOptions.getHttpTransportFactory().create();
+        return new ResumableUploadClient(
+                options.getHost(),
+                bucket,
+                transport.createRequestFactory(transportOptions.getHttpRequestInitializer(options)),
+                transport.createRequestFactory()
+        );
+    }
+
+    String start(final BlobInfo aBlob) throws IOException {
+        final var metadata = new LinkedHashMap<String, Object>();
+        metadata.put("name", aBlob.getName());
+        if (aBlob.getContentType() != null) metadata.put("contentType", aBlob.getContentType());
+        if (aBlob.getCrc32c() != null) metadata.put("crc32c", aBlob.getCrc32c());
+
+        final var request = this.authorized.buildPostRequest(
+                new GenericUrl(this.endpoint + "?uploadType=resumable"),
+                new JsonHttpContent(GsonFactory.getDefaultInstance(), metadata)
+        );
+        if (aBlob.getContentType() != null) request.getHeaders().set("X-Upload-Content-Type", aBlob.getContentType());
+
+        final var response = request.execute();
+        try {
+            final var aSession = response.getHeaders().getLocation();
+            if (aSession == null) {
+                throw new IOException("GCS didn't return a resumable session for %s".formatted(aBlob.getName()));
+            }
+            return aSession;
+        } finally {
+            response.disconnect();
+        }
+    }
+
+    void put(final String session, final long offset, final long total, final Resource chunk) throws IOException {
+        final var aSession = session(session);
+        final var end = offset + chunk.length();
+        final var isLast = end == total;
+
+        if (!isLast && chunk.length() % CHUNK_ALIGNMENT != 0) {
+            throw DomainException.with(new Error("Chunks must be multiples of %d bytes, except the last one".formatted(CHUNK_ALIGNMENT)));
+        }
+
+        try (final var in = chunk.openStream()) {
+            final var request = this.anonymous.buildPutRequest(aSession, new InputStreamContent(chunk.contentType(), in).setLength(chunk.length()));
+            request.getHeaders().setContentRange("bytes %d-%d/%s".formatted(offset, end - 1, isLast ? total : "*"));
+
+            final var persisted = persisted(request);
+            if (isLast ? persisted != FINISHED : persisted != end) {
+                throw new IOException("GCS didn't persist the chunk %d-%d".formatted(offset, end - 1));
+            }
+        }
+    }
+
+    // Consulta de estado da sessao: so um objeto ja finalizado responde com sucesso
+    void finish(final String session) throws IOException {
+        final var request = this.anonymous.buildPutRequest(session(session), new EmptyContent());
+        request.getHeaders().setContentRange("bytes */*");
+
+        if (persisted(request) != FINISHED) {
+            throw new IllegalStateException("Resumable upload is not complete");
+        }
+    }
+
+    // 308 informa no header Range ate onde o GCS gravou; 200/201 indica o objeto finalizado
+    private static long persisted(final HttpRequest request) throws IOException {
+        request.setFollowRedirects(false).setThrowExceptionOnExecuteError(false);
+
+        final var response = request.execute();
+        try {
+            if (response.getStatusCode() == RESUME_INCOMPLETE) {
+                final var aRange = response.getHeaders().getRange();
+                return aRange == null ? 0 : Long.parseLong(aRange.substring(aRange.indexOf('-') + 1)) + 1;
+            }
+            if (response.isSuccessStatusCode()) {
+                return FINISHED;
+            }
+            throw new HttpResponseException(response);
+        } finally {
+            response.disconnect();
+        }
+    }
+
+    // A sessao vem do banco: so URIs de upload deste bucket sao aceitas
+    private GenericUrl session(final String aSession) {
+        if (aSession == null || !aSession.startsWith(this.endpoint + "?")) {
+            throw new IllegalArgumentException("Invalid upload session");
+        }
+        return new GenericUrl(aSession);
+    }
+}
@@ -0,0 +1,335 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceContent;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Guarda as midias em disco local (nodes on-prem, massas de teste grandes). Cada arquivo comeca com um
+// cabecalho de metadados (checksum, content type), assim conteudo e metadados sao publicados juntos por um
+// unico rename atomico: um crash no meio da gravacao deixa no maximo um arquivo orfao em 'staging', nunca
+// uma midia pela metade. As leituras usam FileChannel.transferTo, sem carregar o arquivo no heap
+public class FileSystemStorageService implements StorageService {
+
+    private static final String OBJECTS_DIRECTORY = "objects";
+    private static final String STAGING_DIRECTORY = "staging";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String UPLOAD_SUFFIX = ".upload";
+    private static final long TRANSFER_SIZE = 8 * 1024 * 1024;
+    private static final Duration DEFAULT_UPLOAD_RETENTION = Duration.ofDays(7);
+
+    private final Path objects;
+    private final Path staging;
+    private final Duration uploadRetention;
+
+    public FileSystemStorageService(final Path root) {
+        this(root, DEFAULT_UPLOAD_RETENTION);
+    }
+
+    public FileSystemStorageService(final Path root, final Duration uploadRetention) {
+        final var aRoot = Objects.requireNonNull(root).toAbsolutePath().normalize();
+        this.objects = aRoot.resolve(OBJECTS_DIRECTORY);
+        this.staging = aRoot.resolve(STAGING_DIRECTORY);
+        this.uploadRetention = Objects.requireNonNull(uploadRetention);
+
+        try {
+            Files.createDirectories(this.objects);
+            Files.createDirectories(this.staging);
+            // Gravacoes interrompidas por um crash; as sessoes de upload (.upload) continuam retomaveis
+            try (final Stream<Path> files = Files.list(this.staging)) {
+                files.filter(it -> it.getFileName().toString().endsWith(TEMP_SUFFIX))
+                        .forEach(FileSystemStorageService::deleteQuietly);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        deleteExpiredUploads();
+    }
+
+    // Cada parte gravada atualiza a data de modificacao do arquivo da sessao, entao so sessoes sem nenhuma
+    // parte dentro do prazo de retencao (abandonadas pelo cliente) sao removidas
+    public void deleteExpiredUploads() {
+        final var aLimit = Instant.now().minus(this.uploadRetention);
+        try (final Stream<Path> files = Files.list(this.staging)) {
+            files.filter(it -> it.getFileName().toString().endsWith(UPLOAD_SUFFIX))
+                    .filter(it -> lastModified(it).isBefore(aLimit))
+                    .forEach(FileSystemStorageService::deleteQuietly);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> names) {
+        try {
+            for (final var aName : names) {
+                Files.deleteIfExists(object(aName));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final var aPath = object(name);
+        try (final var channel = FileChannel.open(aPath, StandardOpenOption.READ)) {
+            final var header = Header.read(channel);
+            return Optional.of(Resource.with(
+                    header.checksum(),
+                    channel.size() - header.dataOffset(),
+                    new FileContent(aPath, header.dataOffset()),
+                    header.contentType(),
+                    name
+            ));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        if (Objects.isNull(prefix)) return Collections.emptyList();
+
+        try (final Stream<Path> files = Files.walk(this.objects)) {
+            return files.filter(Files::isRegularFile)
+                    .map(it -> this.objects.relativize(it).toString().replace(it.getFileSystem().getSeparator(), "/"))
+                    .filter(it -> it.startsWith(prefix))
+                    .toList();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void store(final String name, final Resource resource) {
+        final var aTarget = object(name);
+        final var aTemp = stagingFile();
+        try {
+            try (final var out = FileChannel.open(aTemp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                 final var in = resource.openChannel()) {
+                Header.of(resource.contentType(), resource.checksum()).write(out);
+                append(out, in, out.position());
+                out.force(true);
+            }
+            commit(aTemp, aTarget);
+        } catch (final IOException e) {
+            deleteQuietly(aTemp);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // O arquivo da sessao ja nasce com o cabecalho, entao o complete e so o rename para o destino
+    @Override
+    public String initiateUpload(final String name, final String contentType, final String checksum) {
+        // Valida o nome ja na abertura da sessao, e nao so no complete
+        object(name);
+        // Sem agendador no projeto, a limpeza roda na partida e a cada nova sessao
+        deleteExpiredUploads();
+        final var aSession = UUID.randomUUID().toString();
+        try (final var out = FileChannel.open(upload(aSession), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            Header.of(contentType, checksum, name).write(out);
+            out.force(true);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return aSession;
+    }
+
+    @Override
+    public String appendUpload(final String session, final long offset, final long length, final Resource chunk) {
+        try (final var out = FileChannel.open(upload(session), StandardOpenOption.READ, StandardOpenOption.WRITE);
+             final var lock = out.lock();
+             final var in = chunk.openChannel()) {
+            // A parte vai na posicao do offset, e nao no fim do arquivo: um PUT repetido (ou concorrente) com o
+            // mesmo offset sobrescreve os mesmos bytes em vez de duplica-los
+            final var aPosition = Header.read(out).dataOffset() + offset;
+            if (offset < 0 || aPosition > out.size()) {
+                throw new IllegalArgumentException("Chunk offset %d is beyond the uploaded bytes".formatted(offset));
+            }
+            out.truncate(aPosition);
+            append(out, in, aPosition);
+            // A parte so e confirmada ao cliente depois de estar em disco
+            out.force(false);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return session;
+    }
+
+    @Override
+    public void completeUpload(final String session) {
+        final var aUpload = upload(session);
+        try {
+            final String aName;
+            try (final var channel = FileChannel.open(aUpload, StandardOpenOption.READ)) {
+                aName = Header.read(channel).name();
+            }
+            commit(aUpload, object(aName));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void commit(final Path aSource, final Path aTarget) throws IOException {
+        Files.createDirectories(aTarget.getParent());
+        Files.move(aSource, aTarget, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // Os nomes vem dos padroes de location/filename, mas nunca podem escapar do diretorio de objetos
+    private Path object(final String name) {
+        final var aPath = this.objects.resolve(Objects.requireNonNull(name)).normalize();
+        if (!aPath.startsWith(this.objects) || aPath.equals(this.objects)) {
+            throw new IllegalArgumentException("Invalid storage name '%s'".formatted(name));
+        }
+        return aPath;
+    }
+
+    private Path upload(final String session) {
+        return this.staging.resolve(UUID.fromString(session) + UPLOAD_SUFFIX);
+    }
+
+    private Path stagingFile() {
+        return this.staging.resolve(UUID.randomUUID() + TEMP_SUFFIX);
+    }
+
+    private static void append(final FileChannel out, final ReadableByteChannel in, final long offset) throws IOException {
+        var position = offset;
+        long transferred;
+        while ((transferred = out.transferFrom(in, position, TRANSFER_SIZE)) > 0) {
+            position += transferred;
+        }
+    }
+
+    // Um arquivo removido entre a listagem e a consulta nao e candidato a limpeza
+    private static Instant lastModified(final Path aPath) {
+        try {
+            return Files.getLastModifiedTime(aPath).toInstant();
+        } catch (final IOException e) {
+            return Instant.MAX;
+        }
+    }
+
+    private static void deleteQuietly(final Path aPath) {
+        try {
+            Files.deleteIfExists(aPath);
+        } catch (final IOException ignored) {
+        }
+    }
+
+    // Cabecalho: 4 bytes com o tamanho seguido de um Properties em ISO-8859-1
+    private record Header(String contentType, String checksum, String name, long dataOffset) {
+
+        static Header of(final String contentType, final String checksum) {
+            return of(contentType, checksum, "");
+        }
+
+        static Header of(final String contentType, final String checksum, final String name) {
+            return new Header(contentType, checksum, name, 0);
+        }
+
+        static Header read(final FileChannel channel) throws IOException {
+            final var size = ByteBuffer.allocate(Integer.BYTES);
+            readFully(channel, size, 0);
+            final var aLength = size.flip().getInt();
+            if (aLength < 0 || aLength > channel.size() - Integer.BYTES) {
+                throw new IOException("Corrupted storage header");
+            }
+
+            final var aHeader = ByteBuffer.allocate(aLength);
+            readFully(channel, aHeader, Integer.BYTES);
+
+            final var properties = new Properties();
+            properties.load(new ByteArrayInputStream(aHeader.array()));
+            return new Header(
+                    properties.getProperty("contentType"),
+                    properties.getProperty("checksum"),
+                    properties.getProperty("name", ""),
+                    Integer.BYTES + aLength
+            );
+        }
+
+        void write(final FileChannel channel) throws IOException {
+            final var properties = new Properties();
+            properties.setProperty("contentType", this.contentType);
+            properties.setProperty("checksum", this.checksum);
+            properties.setProperty("name", this.name);
+
+            final var bytes = new ByteArrayOutputStream();
+            properties.store(bytes, null);
+
+            final var buffer = ByteBuffer.allocate(Integer.BYTES + bytes.size())
+                    .putInt(bytes.size())
+                    .put(bytes.toByteArray())
+                    .flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Corrupted storage header");
+                }
+            }
+        }
+    }
+
+    // Cada leitura abre o proprio FileChannel: um rename que substitui a midia nao afeta downloads em
+    // andamento, que continuam lendo a versao aberta
+    private record FileContent(Path path, long dataOffset) implements ResourceContent {
+
+        // O skip do stream de um FileChannel apenas reposiciona o canal, entao o open(offset, length) padrao
+        // ja le o intervalo sem passar pelos bytes anteriores
+        @Override
+        public InputStream open() throws IOException {
+            final var channel = FileChannel.open(this.path, StandardOpenOption.READ);
+            return Channels.newInputStream(channel.position(this.dataOffset));
+        }
+
+        @Override
+        public long transferTo(final long offset, final long length, final OutputStream out) throws IOException {
+            try (final var channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+                final var target = Channels.newChannel(out);
+                final var end = this.dataOffset + offset + length;
+                var position = this.dataOffset + offset;
+                while (position < end) {
+                    final var transferred = channel.transferTo(position, Math.min(end - position, TRANSFER_SIZE), target);
+                    if (transferred <= 0) {
+                        throw new IOException("Unexpected end of file %s".formatted(this.path));
+                    }
+                    position += transferred;
+                }
+                return length;
+            }
+        }
+    }
+}
@@ -3,22 +3,52 @@ package com.fullcycle.admin.catalogo.infrastructure.services.local;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
+// Arquivos completos ficam em memoria; uploads em partes sao acumulados em disco, um diretorio por sessao,
+// para que o fluxo local tenha o mesmo comportamento de retomada do GCS sem manter as partes no heap
 public class InMemoryStorageService implements StorageService {
 
+    private static final String CONTENT_FILE = "content";
+    private static final String METADATA_FILE = "upload.properties";
+
     private final Map<String, Resource> storage;
+    private Path uploads;
 
     public InMemoryStorageService() {
         this.storage = new ConcurrentHashMap<>();
     }
 
+    // Remove as sessoes nao concluidas junto com o diretorio temporario
+    public synchronized void close() {
+        if (this.uploads == null) return;
+
+        try (final Stream<Path> files = Files.walk(this.uploads)) {
+            for (final var aPath : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(aPath);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.uploads = null;
+    }
+
     public void clear() {
         this.storage.clear();
     }
@@ -52,6 +82,99 @@ public class InMemoryStorageService implements StorageService {
 
     @Override
     public void store(final String name, final Resource resource) {
-        this.storage.put(name, resource);
+        // O conteudo em stream (ex.: corpo da requisicao) so pode ser lido uma vez, entao e copiado para a memoria
+        this.storage.put(name, resource.isInMemory() ? resource : Resource.with(
+                resource.checksum(),
+                resource.content(),
+                resource.contentType(),
+                resource.name()
+        ));
+    }
+
+    @Override
+    public String initiateUpload(final String name, final String contentType, final String checksum) {
+        try {
+            final var aSession = UUID.randomUUID().toString();
+            final var aDirectory = Files.createDirectory(upload(aSession));
+            final var metadata = new Properties();
+            metadata.setProperty("name", name);
+            metadata.setProperty("contentType", contentType);
+            metadata.setProperty("checksum", checksum);
+
+            try (final var out = Files.newOutputStream(aDirectory.resolve(METADATA_FILE))) {
+                metadata.store(out, null);
+            }
+            Files.createFile(aDirectory.resolve(CONTENT_FILE));
+
+            return aSession;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String appendUpload(final String session, final long offset, final long length, final Resource chunk) {
+        final var aContent = upload(session).resolve(CONTENT_FILE);
+        try (final var out = FileChannel.open(aContent, StandardOpenOption.WRITE);
+             final var lock = out.lock();
+             final var in = chunk.openChannel()) {
+            // Grava na posicao do offset: um PUT repetido com o mesmo offset nao duplica a parte
+            if (offset < 0 || offset > out.size()) {
+                throw new IllegalArgumentException("Chunk offset %d is beyond the uploaded bytes".formatted(offset));
+            }
+            out.truncate(offset);
+            var position = offset;
+            long transferred;
+            while ((transferred = out.transferFrom(in, position, Long.MAX_VALUE)) > 0) {
+                position += transferred;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return session;
+    }
+
+    @Override
+    public void completeUpload(final String session) {
+        final var aDirectory = upload(session);
+        final var aContent = aDirectory.resolve(CONTENT_FILE);
+        try {
+            final var metadata = new Properties();
+            try (final var in = Files.newInputStream(aDirectory.resolve(METADATA_FILE))) {
+                metadata.load(in);
+            }
+
+            final var aName = metadata.getProperty("name");
+            store(aName, Resource.with(
+                    metadata.getProperty("checksum"),
+                    Files.size(aContent),
+                    () -> Files.newInputStream(aContent),
+                    metadata.getProperty("contentType"),
+                    aName
+            ));
+
+            Files.delete(aContent);
+            Files.delete(aDirectory.resolve(METADATA_FILE));
+            Files.delete(aDirectory);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A sessao vem do banco: so um UUID e aceito, nunca um caminho
+    private Path upload(final String session) {
+        return uploads().resolve(UUID.fromString(session).toString());
+    }
+
+    // Criado so no primeiro upload em partes: a maioria das instancias (testes) nunca usa
+    private synchronized Path uploads() {
+        if (this.uploads == null) {
+            try {
+                this.uploads = Files.createTempDirectory("media-uploads-");
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return this.uploads;
     }
 }
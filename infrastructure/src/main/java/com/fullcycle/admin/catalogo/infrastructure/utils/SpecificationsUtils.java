@@ -1,13 +0,0 @@
-package com.fullcycle.admin.catalogo.infrastructure.utils;
-
-import org.springframework.data.jpa.domain.Specification;
-
-public final class SpecificationsUtils {
-
-    private SpecificationsUtils() {
-    }
-
-    public static <T> Specification<T> like(final String prop, final String term) {
-        return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), SqlUtils.like(term.toUpperCase()));
-    }
-}
\ No newline at end of file
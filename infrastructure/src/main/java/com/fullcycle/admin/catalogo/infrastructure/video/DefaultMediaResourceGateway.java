@@ -1,9 +1,12 @@
 package com.fullcycle.admin.catalogo.infrastructure.video;
 
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
 import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
@@ -11,11 +14,18 @@ import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.stor
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.zip.CRC32C;
 
 @Component
 public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final String filenamePattern;
     private final String locationPattern;
     private final StorageService storageService;
@@ -57,6 +67,74 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
         this.storageService.deleteAll(ids);
     }
 
+    @Override
+    public String initiateUpload(final MediaUpload anUpload) {
+        return this.storageService.initiateUpload(
+                filepath(anUpload.getVideoId(), anUpload.getType()),
+                anUpload.getContentType(),
+                anUpload.getChecksum()
+        );
+    }
+
+    // A parte chega como stream unico da requisicao: e gravada em um arquivo temporario enquanto o CRC32C e
+    // calculado, e so segue para o storage se tamanho e checksum baterem com o que o cliente declarou
+    @Override
+    public String uploadChunk(final MediaUpload anUpload, final Resource aChunk) {
+        Path aFile = null;
+        try {
+            aFile = Files.createTempFile("media-chunk-", ".part");
+
+            final var crc = new CRC32C();
+            final var aLength = copy(aChunk, crc, aFile);
+            final var aChecksum = "%08x".formatted(crc.getValue());
+
+            if (aLength != aChunk.length()) {
+                throw DomainException.with(new Error("Chunk has %d bytes but %d were declared".formatted(aLength, aChunk.length())));
+            }
+
+            if (!aChecksum.equalsIgnoreCase(aChunk.checksum())) {
+                throw DomainException.with(new Error("Chunk checksum %s doesn't match the declared %s".formatted(aChecksum, aChunk.checksum())));
+            }
+
+            final var aContent = aFile;
+            final var aVerified = Resource.with(aChecksum, aLength, () -> Files.newInputStream(aContent), aChunk.contentType(), aChunk.name());
+            return this.storageService.appendUpload(anUpload.getSession(), anUpload.getUploaded(), anUpload.getLength(), aVerified);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(aFile);
+        }
+    }
+
+    @Override
+    public AudioVideoMedia completeUpload(final MediaUpload anUpload) {
+        this.storageService.completeUpload(anUpload.getSession());
+        return AudioVideoMedia.with(anUpload.getChecksum(), anUpload.getName(), filepath(anUpload.getVideoId(), anUpload.getType()));
+    }
+
+    // Para de ler assim que passa do tamanho declarado, para um corpo maior nao encher o disco
+    private static long copy(final Resource aChunk, final CRC32C crc, final Path aFile) throws IOException {
+        final var buffer = new byte[BUFFER_SIZE];
+        var aLength = 0L;
+        try (final var in = aChunk.openStream(); final var out = Files.newOutputStream(aFile)) {
+            int read;
+            while (aLength <= aChunk.length() && (read = in.read(buffer)) >= 0) {
+                crc.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+                aLength += read;
+            }
+        }
+        return aLength;
+    }
+
+    private static void deleteQuietly(final Path aFile) {
+        if (aFile == null) return;
+        try {
+            Files.deleteIfExists(aFile);
+        } catch (final IOException ignored) {
+        }
+    }
+
     private String filename(final VideoMediaType aType) {
         return this.filenamePattern.replace("{type}", aType.name());
     }
@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ColumnUpdate;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaUploadJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaUploadRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class DefaultMediaUploadGateway implements MediaUploadGateway {
+
+    private final MediaUploadRepository mediaUploadRepository;
+
+    public DefaultMediaUploadGateway(final MediaUploadRepository mediaUploadRepository) {
+        this.mediaUploadRepository = Objects.requireNonNull(mediaUploadRepository);
+    }
+
+    @Override
+    public MediaUpload create(final MediaUpload anUpload) {
+        return this.mediaUploadRepository.persist(MediaUploadJpaEntity.from(anUpload))
+                .toAggregate();
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(final MediaUploadID anId) {
+        final var anIdValue = anId.getValue();
+        if (this.mediaUploadRepository.existsById(anIdValue)) {
+            this.mediaUploadRepository.deleteById(anIdValue);
+        }
+    }
+
+    // Sem readOnly: o progresso e lido do primario, uma replica atrasada recusaria a proxima parte valida
+    @Override
+    @Transactional
+    public Optional<MediaUpload> findById(final MediaUploadID anId) {
+        return this.mediaUploadRepository.findById(anId.getValue())
+                .map(MediaUploadJpaEntity::toAggregate);
+    }
+
+    // UPDATE ... WHERE uploaded = :previous: de duas partes enviadas com o mesmo offset, so uma avanca a sessao
+    @Override
+    @Transactional
+    public boolean updateProgress(final MediaUpload anUpload, final long aPreviousUploaded) {
+        final var anUpdate = ColumnUpdate.of(MediaUploadJpaEntity.class, anUpload.getId().getValue())
+                .where("uploaded", aPreviousUploaded)
+                .set("uploaded", anUpload.getUploaded())
+                .set("session", anUpload.getSession())
+                .set("updatedAt", anUpload.getUpdatedAt());
+
+        return this.mediaUploadRepository.update(anUpdate) > 0;
+    }
+}
@@ -1,76 +1,235 @@
 package com.fullcycle.admin.catalogo.infrastructure.video;
 
 import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoPatch;
 import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ColumnUpdate;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.RefreshableIndex;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.TableStatistics;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.TableVersions;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoCursor;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoFacetIndex;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoFacetsCache;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoFilter;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchCache;
+import com.google.common.collect.Lists;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.nullIfEmpty;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
 
 @Component
-public class DefaultVideoGateway implements VideoGateway {
+public class DefaultVideoGateway implements VideoGateway, RefreshableIndex {
+
+    // Acima disso o IN com os ids do bitmap fica maior que o custo dos EXISTS no banco
+    private static final int MAX_FACET_IDS = 1_000;
+
+    // Limita a quantidade de parametros do IN em cada DELETE
+    private static final int DELETE_BATCH_SIZE = 1_000;
 
     private final VideoRepository videoRepository;
+    private final TableStatistics tableStatistics;
+    private final TableVersions tableVersions;
+    private final VideoFacetIndex facetIndex;
+    private final VideoSearchCache searchCache;
+    private final VideoFacetsCache facetsCache;
 
-    public DefaultVideoGateway(final VideoRepository videoRepository) {
+    public DefaultVideoGateway(
+            final VideoRepository videoRepository,
+            final TableStatistics tableStatistics,
+            final TableVersions tableVersions,
+            final VideoFacetIndex facetIndex,
+            final VideoSearchCache searchCache,
+            final VideoFacetsCache facetsCache
+    ) {
         this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.tableStatistics = Objects.requireNonNull(tableStatistics);
+        this.tableVersions = Objects.requireNonNull(tableVersions);
+        this.facetIndex = Objects.requireNonNull(facetIndex);
+        this.searchCache = Objects.requireNonNull(searchCache);
+        this.facetsCache = Objects.requireNonNull(facetsCache);
     }
 
     @Override
     @Transactional
     public Video create(final Video video) {
-        return this.save(video);
+        // persist direto: o merge faria um SELECT para o video, cada midia e cada linha de juncao
+        return this.videoRepository.persist(VideoJpaEntity.from(video))
+                .toAggregate();
+    }
+
+    @Override
+    @Transactional
+    public List<Video> createAll(final List<Video> videos) {
+        // Todos os INSERTs saem no flush do commit; com hibernate.jdbc.batch_size e order_inserts
+        // o Hibernate agrupa videos, midias e linhas de juncao em lotes por tabela
+        return videos.stream()
+                .map(video -> this.videoRepository.persist(VideoJpaEntity.from(video)).toAggregate())
+                .toList();
     }
 
     @Override
+    @Transactional
     public void deleteById(final VideoID anId) {
-        final var aVideoId = anId.getValue();
-        if (this.videoRepository.existsById(aVideoId))
-            this.videoRepository.deleteById(aVideoId);
+        deleteAllById(List.of(anId));
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllById(final Iterable<VideoID> videoIDs) {
+        final var ids = StreamSupport.stream(videoIDs.spliterator(), false)
+                .map(VideoID::getValue)
+                .distinct()
+                .toList();
+
+        var deleted = 0;
+        for (final var batch : Lists.partition(ids, DELETE_BATCH_SIZE)) {
+            deleted += deleteBatch(batch);
+        }
+
+        // O DELETE em JPQL nao passa pelos listeners da entidade: facetas e cache sao atualizados aqui
+        if (deleted > 0) {
+            afterCommit(() -> {
+                ids.forEach(this.facetIndex::remove);
+                this.searchCache.invalidate();
+                this.facetsCache.invalidate();
+            });
+        }
+        return deleted;
+    }
+
+    // Juncoes, videos e por fim as midias, que sao referenciadas pelos videos
+    private int deleteBatch(final List<String> ids) {
+        final var media = this.videoRepository.findMediaIdsByIdIn(ids);
+        if (media.isEmpty()) {
+            return 0;
+        }
+
+        this.videoRepository.deleteCategoriesByVideoIdIn(ids);
+        this.videoRepository.deleteGenresByVideoIdIn(ids);
+        this.videoRepository.deleteCastMembersByVideoIdIn(ids);
+
+        final var deleted = this.videoRepository.deleteAllByIdIn(ids);
+
+        final var audioVideo = media.stream().flatMap(it -> it.audioVideo().stream()).toList();
+        if (!audioVideo.isEmpty()) {
+            this.videoRepository.deleteAudioVideoMediaByIdIn(audioVideo);
+        }
+
+        final var images = media.stream().flatMap(it -> it.image().stream()).toList();
+        if (!images.isEmpty()) {
+            this.videoRepository.deleteImageMediaByIdIn(images);
+        }
+
+        return deleted;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Video> findById(final VideoID anInd) {
-        return this.videoRepository.findById(anInd.getValue())
+        return findEntity(anInd.getValue())
                 .map(VideoJpaEntity::toAggregate);
     }
 
     @Override
     @Transactional
     public Video update(final Video aVideo) {
-        return save(aVideo);
+        // Atualiza a entidade gerenciada em vez de fazer merge de uma nova, que apagaria e
+        // reinseriria todas as linhas das tabelas de juncao
+        return findEntity(aVideo.getId().getValue())
+                .map(entity -> entity.updateFrom(aVideo).toAggregate())
+                .orElseGet(() -> save(aVideo));
     }
 
     @Override
+    @Transactional
+    public boolean patch(final VideoID anId, final VideoPatch aPatch) {
+        final var anUpdate = ColumnUpdate.of(VideoJpaEntity.class, anId.getValue());
+        if (aPatch.title() != null) anUpdate.set("title", aPatch.title());
+        if (aPatch.description() != null) anUpdate.set("description", aPatch.description());
+        if (aPatch.launchedAt() != null) anUpdate.set("yearLaunched", aPatch.launchedAt().getValue());
+        if (aPatch.duration() != null) anUpdate.set("duration", aPatch.duration());
+        if (aPatch.opened() != null) anUpdate.set("opened", aPatch.opened());
+        if (aPatch.published() != null) anUpdate.set("published", aPatch.published());
+        // O enum e vinculado pelo tipo do atributo, entao o RatingConverter grava o mesmo valor do INSERT
+        if (aPatch.rating() != null) anUpdate.set("rating", aPatch.rating());
+        anUpdate.set("updatedAt", aPatch.updatedAt());
+
+        if (this.videoRepository.update(anUpdate) == 0) {
+            return false;
+        }
+
+        // O UPDATE em criteria nao passa pelos listeners da entidade. Rating, titulo e descricao entram nas
+        // contagens das facetas, entao os dois caches sao invalidados aqui
+        afterCommit(() -> {
+            this.searchCache.invalidate();
+            this.facetsCache.invalidate();
+        });
+        return true;
+    }
+
+    // Quatro consultas no total: video + midias, depois cada conjunto na mesma instancia gerenciada.
+    // Precisa de transacao para que as quatro enxerguem a mesma entidade
+    private Optional<VideoJpaEntity> findEntity(final String anId) {
+        return this.videoRepository.findByIdWithMedia(anId)
+                .flatMap(video -> this.videoRepository.findByIdWithCategories(anId))
+                .flatMap(video -> this.videoRepository.findByIdWithGenres(anId))
+                .flatMap(video -> this.videoRepository.findByIdWithCastMembers(anId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
+        return this.searchCache.get(aQuery, () -> search(aQuery));
+    }
+
+    private Pagination<VideoPreview> search(final VideoSearchQuery aQuery) {
+        if (aQuery.isKeyset()) {
+            return findAllByKeyset(aQuery);
+        }
+
+        final var filter = filter(aQuery);
+        if (filter.matchesNothing()) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        }
+
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
                 Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        final var actualVideo = this.videoRepository.findAll(
-                SqlUtils.like(SqlUtils.upper(aQuery.terms())),
-                nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue)),
-                page
-        );
+        if (aQuery.totalMode() != TotalMode.EXACT || facetTotal(filter)) {
+            return findAllSlice(aQuery, filter, page);
+        }
+
+        final var actualVideo = this.videoRepository.findAll(filter, page);
 
         return new Pagination<>(
                 actualVideo.getNumber(),
@@ -80,6 +239,175 @@ public class DefaultVideoGateway implements VideoGateway {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public VideoFacets facets(final VideoSearchQuery aQuery) {
+        final var terms = terms(aQuery);
+        final var castMembers = nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue));
+        final var categories = nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue));
+        final var genres = nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue));
+
+        return this.facetsCache.get(aQuery, () -> countFacets(terms, castMembers, categories, genres));
+    }
+
+    // Alteracoes de facetas atualizam videos.updated_at; as contagens das juncoes cobrem escritas feitas direto nelas
+    @Override
+    @Transactional(readOnly = true)
+    public void refreshIndex() {
+        final var version = List.of(
+                this.tableVersions.version("videos"),
+                this.tableVersions.rows("videos_categories"),
+                this.tableVersions.rows("videos_genres"),
+                this.tableVersions.rows("videos_cast_members")
+        );
+
+        this.facetIndex.refresh(version, () -> new VideoFacetIndex.Snapshot(
+                this.videoRepository.findAllIds(),
+                this.videoRepository.findAllCastMemberFacets(),
+                this.videoRepository.findAllCategoryFacets(),
+                this.videoRepository.findAllGenreFacets()
+        ));
+    }
+
+    private Pagination<VideoPreview> findAllSlice(
+            final VideoSearchQuery aQuery,
+            final VideoFilter filter,
+            final PageRequest page
+    ) {
+        final var actualVideo = this.videoRepository.findAllSlice(filter, page);
+
+        return new Pagination<>(
+                actualVideo.getNumber(),
+                actualVideo.getSize(),
+                total(aQuery, filter),
+                actualVideo.toList(),
+                actualVideo.hasNext(),
+                null
+        );
+    }
+
+    private Pagination<VideoPreview> findAllByKeyset(final VideoSearchQuery aQuery) {
+        if (!VideoCursor.supports(aQuery.sort())) {
+            throw VideoCursor.unsupported(aQuery.sort());
+        }
+
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var cursor = aQuery.cursor().isBlank()
+                ? null
+                : VideoCursor.decode(aQuery.cursor(), aQuery.sort(), direction);
+
+        final var filter = filter(aQuery);
+        if (filter.matchesNothing()) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        }
+
+        // Busca um registro a mais para saber se existe uma proxima pagina sem usar OFFSET
+        final var items = new ArrayList<>(this.videoRepository.findAllAfter(
+                filter,
+                new Sort.Order(direction, aQuery.sort()),
+                cursor,
+                aQuery.perPage() + 1
+        ));
+
+        String nextCursor = null;
+        if (items.size() > aQuery.perPage()) {
+            items.remove(items.size() - 1);
+            nextCursor = VideoCursor.after(items.get(items.size() - 1), aQuery.sort(), direction).encode();
+        }
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                total(aQuery, filter),
+                List.copyOf(items),
+                nextCursor != null,
+                nextCursor
+        );
+    }
+
+    // Cada dimensao e contada sem o proprio filtro, para que os demais valores continuem selecionaveis
+    private VideoFacets countFacets(
+            final String terms,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        final var filter = filter(terms, castMembers, categories, genres);
+
+        return new VideoFacets(
+                countBy(filter(terms, null, categories, genres), this.videoRepository::countByCastMember, CastMemberID::from),
+                countBy(filter(terms, castMembers, null, genres), this.videoRepository::countByCategory, CategoryID::from),
+                countBy(filter(terms, castMembers, categories, null), this.videoRepository::countByGenre, GenreID::from),
+                filter.matchesNothing() ? Map.of() : this.videoRepository.countByRating(filter)
+        );
+    }
+
+    private static <K> Map<K, Long> countBy(
+            final VideoFilter filter,
+            final Function<VideoFilter, Map<String, Long>> counter,
+            final Function<String, K> toKey
+    ) {
+        if (filter.matchesNothing()) {
+            return Map.of();
+        }
+
+        return counter.apply(filter).entrySet().stream()
+                .collect(Collectors.toMap(it -> toKey.apply(it.getKey()), Map.Entry::getValue));
+    }
+
+    private VideoFilter filter(final VideoSearchQuery aQuery) {
+        return filter(
+                terms(aQuery),
+                nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)),
+                nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)),
+                nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue))
+        );
+    }
+
+    // Os filtros por categoria, genero e elenco sao resolvidos nos bitmaps em memoria;
+    // se o resultado passar de MAX_FACET_IDS a busca volta para os EXISTS no banco
+    private VideoFilter filter(
+            final String terms,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        if (castMembers == null && categories == null && genres == null) {
+            return new VideoFilter(terms, null, null, null, null);
+        }
+
+        return this.facetIndex.filter(castMembers, categories, genres, MAX_FACET_IDS)
+                .map(ids -> VideoFilter.byIds(terms, ids))
+                .orElseGet(() -> new VideoFilter(terms, null, castMembers, categories, genres));
+    }
+
+    // Sem termos, o total dos filtros e a cardinalidade do bitmap e dispensa o COUNT
+    private static boolean facetTotal(final VideoFilter filter) {
+        return filter.terms() == null && filter.ids() != null;
+    }
+
+    private long total(final VideoSearchQuery aQuery, final VideoFilter filter) {
+        if (facetTotal(filter)) {
+            return filter.ids().size();
+        }
+
+        return switch (aQuery.totalMode()) {
+            case EXACT -> this.videoRepository.count(filter);
+            // A estimativa da tabela so vale para a listagem sem filtros
+            case ESTIMATED -> filter.isEmpty()
+                    ? this.tableStatistics.estimatedRows("videos")
+                    : Pagination.UNKNOWN_TOTAL;
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+    }
+
+    private static String terms(final VideoSearchQuery aQuery) {
+        return Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(String::trim)
+                .orElse(null);
+    }
+
     private Video save(final Video video) {
         return this.videoRepository.save(VideoJpaEntity.from(video))
                 .toAggregate();
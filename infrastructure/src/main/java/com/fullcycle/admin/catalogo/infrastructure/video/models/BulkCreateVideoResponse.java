@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BulkCreateVideoResponse(
+        @JsonProperty("created") long created,
+        @JsonProperty("errors") List<LineError> errors
+) {
+
+    public record LineError(
+            @JsonProperty("line") long line,
+            @JsonProperty("messages") List<String> messages
+    ) {}
+}
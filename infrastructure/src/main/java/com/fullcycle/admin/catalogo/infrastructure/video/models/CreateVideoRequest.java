@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collections;
+import java.util.Set;
+
+public record CreateVideoRequest(
+        @JsonProperty("title") String title,
+        @JsonProperty("description") String description,
+        @JsonProperty("year_launched") Integer yearLaunched,
+        @JsonProperty("duration") Double duration,
+        @JsonProperty("opened") Boolean opened,
+        @JsonProperty("published") Boolean published,
+        @JsonProperty("rating") String rating,
+        @JsonProperty("cast_members_id") Set<String> castMembers,
+        @JsonProperty("categories_id") Set<String> categories,
+        @JsonProperty("genres_id") Set<String> genres
+) {
+
+    public boolean isOpened() {
+        return this.opened != null && this.opened;
+    }
+
+    public boolean isPublished() {
+        return this.published != null && this.published;
+    }
+
+    public Set<String> castMembers() {
+        return this.castMembers != null ? this.castMembers : Collections.emptySet();
+    }
+
+    public Set<String> categories() {
+        return this.categories != null ? this.categories : Collections.emptySet();
+    }
+
+    public Set<String> genres() {
+        return this.genres != null ? this.genres : Collections.emptySet();
+    }
+}
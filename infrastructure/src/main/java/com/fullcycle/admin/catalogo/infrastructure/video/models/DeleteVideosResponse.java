@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record DeleteVideosResponse(
+        @JsonProperty("deleted") int deleted
+) {}
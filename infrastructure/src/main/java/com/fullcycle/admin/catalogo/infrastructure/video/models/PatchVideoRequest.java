@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// Campos ausentes (ou nulos) nao sao alterados
+public record PatchVideoRequest(
+        @JsonProperty("title") String title,
+        @JsonProperty("description") String description,
+        @JsonProperty("year_launched") Integer yearLaunched,
+        @JsonProperty("duration") Double duration,
+        @JsonProperty("opened") Boolean opened,
+        @JsonProperty("published") Boolean published,
+        @JsonProperty("rating") String rating
+) {
+}
@@ -2,6 +2,8 @@ package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
 import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -15,6 +17,7 @@ import javax.persistence.Table;
 public class AudioVideoMediaJpaEntity {
 
     @Id
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "checksum", nullable = false)
@@ -62,6 +65,16 @@ public class AudioVideoMediaJpaEntity {
         );
     }
 
+    // Mesma midia (mesmo id): atualiza a instancia gerenciada em vez de trocar a linha
+    public AudioVideoMediaJpaEntity updateFrom(final AudioVideoMedia media) {
+        this.checksum = media.checksum();
+        this.name = media.name();
+        this.filePath = media.rawLocation();
+        this.encodedPath = media.encodedLocation();
+        this.status = media.status();
+        return this;
+    }
+
     public AudioVideoMedia toDomain() {
         return AudioVideoMedia.with(
                 getId(),
@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
 import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -12,6 +14,7 @@ import javax.persistence.Table;
 public class ImageMediaJpaEntity {
 
     @Id
+    @Type(type = BinaryIdType.NAME)
     private String id;
 
     @Column(name = "checksum", nullable = false)
@@ -42,6 +45,13 @@ public class ImageMediaJpaEntity {
         );
     }
 
+    public ImageMediaJpaEntity updateFrom(final ImageMedia media) {
+        this.checksum = media.checksum();
+        this.name = media.name();
+        this.filePath = media.location();
+        return this;
+    }
+
     public ImageMedia toDomain() {
         return ImageMedia.with(
                 getId(),
@@ -0,0 +1,206 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "MediaUpload")
+@Table(name = "videos_media_uploads")
+public class MediaUploadJpaEntity {
+
+    @Id
+    @Type(type = BinaryIdType.NAME)
+    private String id;
+
+    @Column(name = "video_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
+    private String videoId;
+
+    @Column(name = "media_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private VideoMediaType type;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "content_length", nullable = false)
+    private long length;
+
+    @Column(name = "uploaded", nullable = false)
+    private long uploaded;
+
+    @Column(name = "storage_session", nullable = false, length = 2048)
+    private String session;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    public MediaUploadJpaEntity() {
+    }
+
+    private MediaUploadJpaEntity(
+            final String id,
+            final String videoId,
+            final VideoMediaType type,
+            final String name,
+            final String contentType,
+            final String checksum,
+            final long length,
+            final long uploaded,
+            final String session,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        this.id = id;
+        this.videoId = videoId;
+        this.type = type;
+        this.name = name;
+        this.contentType = contentType;
+        this.checksum = checksum;
+        this.length = length;
+        this.uploaded = uploaded;
+        this.session = session;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static MediaUploadJpaEntity from(final MediaUpload anUpload) {
+        return new MediaUploadJpaEntity(
+                anUpload.getId().getValue(),
+                anUpload.getVideoId().getValue(),
+                anUpload.getType(),
+                anUpload.getName(),
+                anUpload.getContentType(),
+                anUpload.getChecksum(),
+                anUpload.getLength(),
+                anUpload.getUploaded(),
+                anUpload.getSession(),
+                anUpload.getCreatedAt(),
+                anUpload.getUpdatedAt()
+        );
+    }
+
+    public MediaUpload toAggregate() {
+        return MediaUpload.with(
+                MediaUploadID.from(getId()),
+                VideoID.from(getVideoId()),
+                getType(),
+                getName(),
+                getContentType(),
+                getChecksum(),
+                getLength(),
+                getUploaded(),
+                getSession(),
+                getCreatedAt(),
+                getUpdatedAt()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(final String videoId) {
+        this.videoId = videoId;
+    }
+
+    public VideoMediaType getType() {
+        return type;
+    }
+
+    public void setType(final VideoMediaType type) {
+        this.type = type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(final String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(final String checksum) {
+        this.checksum = checksum;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public void setLength(final long length) {
+        this.length = length;
+    }
+
+    public long getUploaded() {
+        return uploaded;
+    }
+
+    public void setUploaded(final long uploaded) {
+        this.uploaded = uploaded;
+    }
+
+    public String getSession() {
+        return session;
+    }
+
+    public void setSession(final String session) {
+        this.session = session;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(final Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(final Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
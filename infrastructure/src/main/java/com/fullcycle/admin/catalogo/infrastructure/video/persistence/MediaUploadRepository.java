@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ColumnUpdateRepository;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.PersistRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MediaUploadRepository extends JpaRepository<MediaUploadJpaEntity, String>, PersistRepository<MediaUploadJpaEntity>, ColumnUpdateRepository {
+}
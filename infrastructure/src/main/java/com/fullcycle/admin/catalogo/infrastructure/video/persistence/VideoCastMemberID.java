@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.Type;
+
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import java.io.Serializable;
@@ -9,9 +12,11 @@ import java.util.Objects;
 public class VideoCastMemberID implements Serializable {
 
     @Column(name = "video_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String videoId;
 
     @Column(name = "cast_member_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
     private String castMemberId;
 
     public VideoCastMemberID() {
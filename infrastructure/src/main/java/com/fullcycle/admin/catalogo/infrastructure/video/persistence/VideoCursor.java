@@ -0,0 +1,89 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+public record VideoCursor(
+        String sort,
+        Sort.Direction direction,
+        String id,
+        Comparable<?> value
+) {
+
+    private static final String SEPARATOR = ":";
+
+    public VideoCursor {
+        Objects.requireNonNull(sort);
+        Objects.requireNonNull(direction);
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(value);
+    }
+
+    public static VideoCursor after(final VideoPreview aVideo, final String sort, final Sort.Direction direction) {
+        return new VideoCursor(sort, direction, aVideo.id(), valueOf(aVideo, sort));
+    }
+
+    public static VideoCursor decode(final String aCursor, final String sort, final Sort.Direction direction) {
+        final String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException e) {
+            throw invalid(aCursor);
+        }
+
+        final var parts = raw.split(SEPARATOR, 4);
+        if (parts.length != 4 || !parts[0].equals(sort) || !parts[1].equals(direction.name())) {
+            throw invalid(aCursor);
+        }
+
+        try {
+            return new VideoCursor(sort, direction, parts[2], parse(sort, parts[3]));
+        } catch (final RuntimeException e) {
+            throw invalid(aCursor);
+        }
+    }
+
+    public static boolean supports(final String sort) {
+        return switch (sort) {
+            case "title", "createdAt", "updatedAt" -> true;
+            default -> false;
+        };
+    }
+
+    public String encode() {
+        final var raw = String.join(SEPARATOR, sort, direction.name(), id, value.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Comparable<?> valueOf(final VideoPreview aVideo, final String sort) {
+        return switch (sort) {
+            case "title" -> aVideo.title();
+            case "createdAt" -> aVideo.createdAt();
+            case "updatedAt" -> aVideo.updatedAt();
+            default -> throw unsupported(sort);
+        };
+    }
+
+    private static Comparable<?> parse(final String sort, final String value) {
+        return switch (sort) {
+            case "title" -> value;
+            case "createdAt", "updatedAt" -> Instant.parse(value);
+            default -> throw unsupported(sort);
+        };
+    }
+
+    private static DomainException invalid(final String aCursor) {
+        return DomainException.with(new Error("Invalid cursor %s".formatted(aCursor)));
+    }
+
+    public static DomainException unsupported(final String sort) {
+        return DomainException.with(new Error("Cursor pagination doesn't support sort by %s".formatted(sort)));
+    }
+}
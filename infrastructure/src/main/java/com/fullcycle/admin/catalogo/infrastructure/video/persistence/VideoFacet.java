@@ -0,0 +1,4 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+public record VideoFacet(String videoId, String facetId) {
+}
@@ -0,0 +1,251 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.InMemoryIndex;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+// Mantem em memoria um bitmap (Roaring) de ordinais de videos para cada categoria, genero e membro do elenco.
+// Dentro de uma mesma dimensao os ids sao combinados com OR e entre dimensoes com AND, igual aos EXISTS do SQL.
+@Component
+public class VideoFacetIndex extends InMemoryIndex<VideoFacetIndex.Snapshot> {
+
+    private final Map<String, Facets> videos = new HashMap<>();
+    private final List<String> ordinals = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    private final Map<String, RoaringBitmap> castMembers = new HashMap<>();
+    private final Map<String, RoaringBitmap> categories = new HashMap<>();
+    private final Map<String, RoaringBitmap> genres = new HashMap<>();
+
+    public void put(
+            final String aVideoId,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        Objects.requireNonNull(aVideoId);
+        change(() -> index(aVideoId, castMembers, categories, genres));
+    }
+
+    public void remove(final String aVideoId) {
+        change(() -> unindex(aVideoId));
+    }
+
+    public void rebuild(
+            final List<String> videoIds,
+            final List<VideoFacet> castMembers,
+            final List<VideoFacet> categories,
+            final List<VideoFacet> genres
+    ) {
+        replace(null, () -> new Snapshot(videoIds, castMembers, categories, genres));
+    }
+
+    /**
+     * Resolve os ids dos videos que atendem aos filtros. Filtros nulos sao ignorados.
+     * Retorna vazio quando o indice ainda nao foi carregado ou quando a quantidade de videos encontrados
+     * passa de maxResults, para que o chamador use a busca no banco em vez de um IN muito grande.
+     */
+    public Optional<Set<String>> filter(
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final int maxResults
+    ) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+
+        return read(() -> {
+            final var dimensions = new ArrayList<RoaringBitmap>(3);
+            if (castMembers != null) {
+                dimensions.add(union(this.castMembers, castMembers));
+            }
+            if (categories != null) {
+                dimensions.add(union(this.categories, categories));
+            }
+            if (genres != null) {
+                dimensions.add(union(this.genres, genres));
+            }
+
+            final var matches = dimensions.isEmpty()
+                    ? new RoaringBitmap()
+                    : FastAggregation.and(dimensions.iterator());
+
+            if (matches.getCardinality() > maxResults) {
+                return Optional.<Set<String>>empty();
+            }
+
+            final var ids = new HashSet<String>(matches.getCardinality());
+            matches.forEach((int ordinal) -> ids.add(this.ordinals.get(ordinal)));
+            return Optional.<Set<String>>of(ids);
+        });
+    }
+
+    public int size() {
+        return read(this.videos::size);
+    }
+
+    @Override
+    protected void reset(final Snapshot aSnapshot) {
+        final var castMembersByVideo = groupByVideo(aSnapshot.castMembers());
+        final var categoriesByVideo = groupByVideo(aSnapshot.categories());
+        final var genresByVideo = groupByVideo(aSnapshot.genres());
+
+        this.videos.clear();
+        this.ordinals.clear();
+        this.freeOrdinals.clear();
+        this.castMembers.clear();
+        this.categories.clear();
+        this.genres.clear();
+
+        for (final var videoId : aSnapshot.videoIds()) {
+            index(
+                    videoId,
+                    castMembersByVideo.getOrDefault(videoId, Set.of()),
+                    categoriesByVideo.getOrDefault(videoId, Set.of()),
+                    genresByVideo.getOrDefault(videoId, Set.of())
+            );
+        }
+    }
+
+    private RoaringBitmap union(final Map<String, RoaringBitmap> bitmaps, final Set<String> ids) {
+        final var selected = new ArrayList<RoaringBitmap>(ids.size());
+        for (final var id : ids) {
+            final var bitmap = bitmaps.get(id);
+            if (bitmap != null) {
+                selected.add(bitmap);
+            }
+        }
+        return selected.isEmpty() ? new RoaringBitmap() : FastAggregation.or(selected.iterator());
+    }
+
+    private void index(
+            final String aVideoId,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        final var previous = this.videos.get(aVideoId);
+
+        final int ordinal;
+        if (previous != null) {
+            ordinal = previous.ordinal();
+            clear(this.castMembers, previous.castMembers(), ordinal);
+            clear(this.categories, previous.categories(), ordinal);
+            clear(this.genres, previous.genres(), ordinal);
+        } else if (!this.freeOrdinals.isEmpty()) {
+            ordinal = this.freeOrdinals.pop();
+            this.ordinals.set(ordinal, aVideoId);
+        } else {
+            ordinal = this.ordinals.size();
+            this.ordinals.add(aVideoId);
+        }
+
+        final var facets = new Facets(ordinal, Set.copyOf(castMembers), Set.copyOf(categories), Set.copyOf(genres));
+        this.videos.put(aVideoId, facets);
+
+        mark(this.castMembers, facets.castMembers(), ordinal);
+        mark(this.categories, facets.categories(), ordinal);
+        mark(this.genres, facets.genres(), ordinal);
+    }
+
+    private void unindex(final String aVideoId) {
+        final var previous = this.videos.remove(aVideoId);
+        if (previous == null) {
+            return;
+        }
+
+        clear(this.castMembers, previous.castMembers(), previous.ordinal());
+        clear(this.categories, previous.categories(), previous.ordinal());
+        clear(this.genres, previous.genres(), previous.ordinal());
+
+        this.ordinals.set(previous.ordinal(), null);
+        this.freeOrdinals.push(previous.ordinal());
+    }
+
+    private static void mark(final Map<String, RoaringBitmap> bitmaps, final Set<String> ids, final int ordinal) {
+        for (final var id : ids) {
+            bitmaps.computeIfAbsent(id, key -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    private static void clear(final Map<String, RoaringBitmap> bitmaps, final Set<String> ids, final int ordinal) {
+        for (final var id : ids) {
+            final var bitmap = bitmaps.get(id);
+            if (bitmap != null) {
+                bitmap.remove(ordinal);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(id);
+                }
+            }
+        }
+    }
+
+    private static Map<String, Set<String>> groupByVideo(final List<VideoFacet> facets) {
+        return facets.stream()
+                .collect(Collectors.groupingBy(
+                        VideoFacet::videoId,
+                        Collectors.mapping(VideoFacet::facetId, Collectors.toSet())
+                ));
+    }
+
+    private record Facets(int ordinal, Set<String> castMembers, Set<String> categories, Set<String> genres) {
+    }
+
+    public record Snapshot(
+            List<String> videoIds,
+            List<VideoFacet> castMembers,
+            List<VideoFacet> categories,
+            List<VideoFacet> genres
+    ) {
+    }
+
+    public static class Listener {
+
+        private final VideoFacetIndex index;
+
+        public Listener(final VideoFacetIndex index) {
+            this.index = Objects.requireNonNull(index);
+        }
+
+        @PostPersist
+        @PostUpdate
+        public void onSave(final VideoJpaEntity aVideo) {
+            final var anId = aVideo.getId();
+            final var castMembers = values(aVideo.getCastMembersID());
+            final var categories = values(aVideo.getCategoriesID());
+            final var genres = values(aVideo.getGenresID());
+
+            afterCommit(() -> this.index.put(anId, castMembers, categories, genres));
+        }
+
+        @PostRemove
+        public void onRemove(final VideoJpaEntity aVideo) {
+            final var anId = aVideo.getId();
+            afterCommit(() -> this.index.remove(anId));
+        }
+
+        private static Set<String> values(final Set<? extends Identifier> ids) {
+            return ids.stream().map(Identifier::getValue).collect(Collectors.toSet());
+        }
+    }
+}
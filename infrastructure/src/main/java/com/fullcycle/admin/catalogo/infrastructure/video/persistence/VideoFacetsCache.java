@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.QueryCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.fullcycle.admin.catalogo.infrastructure.persistence.SearchQueryCache.normalizeTerms;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+@Component
+public class VideoFacetsCache extends QueryCache<VideoSearchQuery, VideoFacets> {
+
+    public VideoFacetsCache(
+            @Value("${search.cache.max-size:1000}") final long maxSize,
+            @Value("${search.cache.ttl:30s}") final Duration ttl
+    ) {
+        super("video_facets", maxSize, ttl);
+    }
+
+    // Paginacao, ordenacao e cursor nao mudam as contagens: so termos e filtros entram na chave
+    @Override
+    protected VideoSearchQuery normalize(final VideoSearchQuery aQuery) {
+        return new VideoSearchQuery(
+                0,
+                0,
+                normalizeTerms(aQuery.terms()),
+                "",
+                "",
+                aQuery.castMembers() == null ? Set.of() : aQuery.castMembers(),
+                aQuery.categories() == null ? Set.of() : aQuery.categories(),
+                aQuery.genres() == null ? Set.of() : aQuery.genres()
+        );
+    }
+
+    public static class Listener {
+
+        private final VideoFacetsCache cache;
+
+        public Listener(final VideoFacetsCache cache) {
+            this.cache = Objects.requireNonNull(cache);
+        }
+
+        @PostPersist
+        @PostUpdate
+        @PostRemove
+        public void onChange(final Object anEntity) {
+            afterCommit(this.cache::invalidate);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import java.util.Set;
+
+// Filtros ja normalizados da busca de videos; valores nulos nao filtram.
+// ids vem do VideoFacetIndex e, quando presente, substitui os filtros por relacionamento.
+public record VideoFilter(
+        String terms,
+        Set<String> ids,
+        Set<String> castMembers,
+        Set<String> categories,
+        Set<String> genres
+) {
+
+    public static VideoFilter byIds(final String terms, final Set<String> ids) {
+        return new VideoFilter(terms, ids, null, null, null);
+    }
+
+    public boolean isEmpty() {
+        return terms == null && ids == null && castMembers == null && categories == null && genres == null;
+    }
+
+    public boolean matchesNothing() {
+        return ids != null && ids.isEmpty();
+    }
+}
@@ -4,13 +4,19 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
 import com.fullcycle.admin.catalogo.domain.video.Rating;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
@@ -24,13 +30,18 @@ import java.time.Year;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Table(name = "videos")
 @Entity(name = "Video")
+@DynamicUpdate
+@EntityListeners({VideoFacetIndex.Listener.class, VideoSearchCache.Listener.class, VideoFacetsCache.Listener.class})
 public class VideoJpaEntity {
 
     @Id
+    @Type(type = BinaryIdType.NAME)
     @Column(name = "id", nullable = false)
     private String id;
 
@@ -61,23 +72,24 @@ public class VideoJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    // Midias e associacoes sao LAZY: o agregado completo vem do VideoRepository.findByIdWithMedia e das consultas de cada conjunto
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "video_id")
     private AudioVideoMediaJpaEntity video;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "trailer_id")
     private AudioVideoMediaJpaEntity trailer;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "banner_id")
     private ImageMediaJpaEntity banner;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "thumbnail_id")
     private ImageMediaJpaEntity thumbnail;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "thumbnail_half_id")
     private ImageMediaJpaEntity thumbnailHalf;
 
@@ -210,6 +222,67 @@ public class VideoJpaEntity {
         );
     }
 
+    // Aplica o agregado sobre a entidade gerenciada: o dirty checking (com @DynamicUpdate) escreve so as
+    // colunas alteradas e as tabelas de juncao recebem apenas os ids adicionados e removidos.
+    // Toda mudanca de associacao passa por Video.update, que altera updatedAt, entao o @PostUpdate dos
+    // listeners continua disparando quando so as associacoes mudam
+    public VideoJpaEntity updateFrom(final Video aVideo) {
+        this.title = aVideo.getTitle();
+        this.description = aVideo.getDescription();
+        this.yearLaunched = aVideo.getLaunchedAt().getValue();
+        this.opened = aVideo.getOpened();
+        this.published = aVideo.getPublished();
+        this.rating = aVideo.getRating();
+        this.duration = aVideo.getDuration();
+        this.updatedAt = aVideo.getUpdatedAt();
+
+        this.video = merge(this.video, aVideo.getVideo().orElse(null));
+        this.trailer = merge(this.trailer, aVideo.getTrailer().orElse(null));
+        this.banner = merge(this.banner, aVideo.getBanner().orElse(null));
+        this.thumbnail = merge(this.thumbnail, aVideo.getThumbnail().orElse(null));
+        this.thumbnailHalf = merge(this.thumbnailHalf, aVideo.getThumbnailHalf().orElse(null));
+
+        sync(this.categories, aVideo.getCategories(), it -> CategoryID.from(it.getId().getCategoryId()), this::addCategory);
+        sync(this.genres, aVideo.getGenres(), it -> GenreID.from(it.getId().getGenreId()), this::addGenre);
+        sync(this.castMembers, aVideo.getCastMembers(), it -> CastMemberID.from(it.getId().getCastMemberId()), this::addCastMember);
+
+        return this;
+    }
+
+    private static AudioVideoMediaJpaEntity merge(final AudioVideoMediaJpaEntity current, final AudioVideoMedia media) {
+        if (media == null) {
+            return null;
+        }
+        if (current != null && current.getId().equals(media.id())) {
+            return current.updateFrom(media);
+        }
+        return AudioVideoMediaJpaEntity.from(media);
+    }
+
+    private static ImageMediaJpaEntity merge(final ImageMediaJpaEntity current, final ImageMedia media) {
+        if (media == null) {
+            return null;
+        }
+        if (current != null && current.getId().equals(media.id())) {
+            return current.updateFrom(media);
+        }
+        return ImageMediaJpaEntity.from(media);
+    }
+
+    private static <T, ID> void sync(
+            final Set<T> current,
+            final Set<ID> expected,
+            final Function<T, ID> idOf,
+            final Consumer<ID> add
+    ) {
+        current.removeIf(it -> !expected.contains(idOf.apply(it)));
+
+        final var existing = CollectionUtils.mapTo(current, idOf);
+        expected.stream()
+                .filter(anId -> !existing.contains(anId))
+                .forEach(add);
+    }
+
     public void addCategory(final CategoryID anId) {
         this.categories.add(VideoCategoryJpaEntity.from(this, anId));
     }
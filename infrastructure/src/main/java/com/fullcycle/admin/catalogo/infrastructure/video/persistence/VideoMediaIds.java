@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// Ids das midias de um video, lidos antes da exclusao em lote para apagar as linhas de midia em seguida
+public record VideoMediaIds(
+        String video,
+        String trailer,
+        String banner,
+        String thumbnail,
+        String thumbnailHalf
+) {
+
+    public List<String> audioVideo() {
+        return Stream.of(video, trailer).filter(Objects::nonNull).toList();
+    }
+
+    public List<String> image() {
+        return Stream.of(banner, thumbnail, thumbnailHalf).filter(Objects::nonNull).toList();
+    }
+}
@@ -1,41 +1,96 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
-import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.ColumnUpdateRepository;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.PersistRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Set;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
 
-    @Query("""
-            SELECT DISTINCT NEW com.fullcycle.admin.catalogo.domain.video.VideoPreview(
-                v.id AS id,
-                v.title AS title,
-                v.description AS description,
-                v.createdAt AS createdAt,
-                v.updatedAt AS updatedAt
-            )
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String>, PersistRepository<VideoJpaEntity>, ColumnUpdateRepository, VideoSearchRepository {
+
+    // As midias sao to-one: entram no mesmo SELECT sem multiplicar linhas
+    @Query(value = """
+            SELECT v FROM Video v
+            LEFT JOIN FETCH v.video
+            LEFT JOIN FETCH v.trailer
+            LEFT JOIN FETCH v.banner
+            LEFT JOIN FETCH v.thumbnail
+            LEFT JOIN FETCH v.thumbnailHalf
+            WHERE v.id = :id
+            """)
+    Optional<VideoJpaEntity> findByIdWithMedia(@Param("id") String id);
+
+    // Os tres conjuntos sao inicializados um por consulta na entidade ja carregada no contexto de persistencia:
+    // juntos no mesmo SELECT eles multiplicariam as linhas (categorias x generos x elenco). O DISTINCT so
+    // deduplica em memoria a entidade repetida em cada linha do conjunto
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query(value = "SELECT DISTINCT v FROM Video v LEFT JOIN FETCH v.categories WHERE v.id = :id")
+    Optional<VideoJpaEntity> findByIdWithCategories(@Param("id") String id);
+
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query(value = "SELECT DISTINCT v FROM Video v LEFT JOIN FETCH v.genres WHERE v.id = :id")
+    Optional<VideoJpaEntity> findByIdWithGenres(@Param("id") String id);
+
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query(value = "SELECT DISTINCT v FROM Video v LEFT JOIN FETCH v.castMembers WHERE v.id = :id")
+    Optional<VideoJpaEntity> findByIdWithCastMembers(@Param("id") String id);
+
+    @Query(value = "SELECT v.id FROM Video v")
+    List<String> findAllIds();
+
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoFacet(c.id.videoId, c.id.castMemberId) FROM VideoCastMember c")
+    List<VideoFacet> findAllCastMemberFacets();
+
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoFacet(c.id.videoId, c.id.categoryId) FROM VideoCategory c")
+    List<VideoFacet> findAllCategoryFacets();
+
+    @Query(value = "SELECT new com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoFacet(g.id.videoId, g.id.genreId) FROM VideoGenre g")
+    List<VideoFacet> findAllGenreFacets();
+
+    // Exclusao em lote sem carregar as entidades: as tabelas de juncao nao tem ON DELETE CASCADE
+    // e as midias sao referenciadas pelo video, entao o gateway apaga juncoes, videos e midias nessa ordem
+    @Query(value = """
+            SELECT new com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoMediaIds(vm.id, tm.id, bm.id, tn.id, th.id)
             FROM Video v
-                LEFT JOIN v.castMembers members
-                LEFT JOIN v.categories categories
-                LEFT JOIN v.genres genres
-            WHERE
-                (:terms IS NULL OR UPPER(v.title) LIKE :terms)
-            AND
-                (:castMembers IS NULL OR members.id.castMemberId IN :castMembers)
-            AND
-                (:categories IS NULL OR categories.id.categoryId IN :categories)
-            AND
-                (:genres IS NULL OR genres.id.genreId IN :genres)
+                LEFT JOIN v.video vm
+                LEFT JOIN v.trailer tm
+                LEFT JOIN v.banner bm
+                LEFT JOIN v.thumbnail tn
+                LEFT JOIN v.thumbnailHalf th
+            WHERE v.id IN :ids
             """)
-    Page<VideoPreview> findAll(
-            @Param("terms") String terms,
-            @Param("castMembers") Set<String> castMembers,
-            @Param("categories") Set<String> categories,
-            @Param("genres") Set<String> genres,
-            Pageable page);
-}
\ No newline at end of file
+    List<VideoMediaIds> findMediaIdsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM VideoCategory c WHERE c.id.videoId IN :ids")
+    int deleteCategoriesByVideoIdIn(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM VideoGenre g WHERE g.id.videoId IN :ids")
+    int deleteGenresByVideoIdIn(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM VideoCastMember c WHERE c.id.videoId IN :ids")
+    int deleteCastMembersByVideoIdIn(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM Video v WHERE v.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM AudioVideoMedia m WHERE m.id IN :ids")
+    int deleteAudioVideoMediaByIdIn(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM ImageMedia m WHERE m.id IN :ids")
+    int deleteImageMediaByIdIn(@Param("ids") Collection<String> ids);
+}
@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.QueryCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.fullcycle.admin.catalogo.infrastructure.persistence.SearchQueryCache.normalizeTerms;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+@Component
+public class VideoSearchCache extends QueryCache<VideoSearchQuery, Pagination<VideoPreview>> {
+
+    public VideoSearchCache(
+            @Value("${search.cache.max-size:1000}") final long maxSize,
+            @Value("${search.cache.ttl:30s}") final Duration ttl
+    ) {
+        super("videos", maxSize, ttl);
+    }
+
+    @Override
+    protected VideoSearchQuery normalize(final VideoSearchQuery aQuery) {
+        return new VideoSearchQuery(
+                aQuery.page(),
+                aQuery.perPage(),
+                normalizeTerms(aQuery.terms()),
+                aQuery.sort(),
+                aQuery.direction().toLowerCase(Locale.ROOT),
+                aQuery.castMembers() == null ? Set.of() : aQuery.castMembers(),
+                aQuery.categories() == null ? Set.of() : aQuery.categories(),
+                aQuery.genres() == null ? Set.of() : aQuery.genres(),
+                aQuery.cursor(),
+                aQuery.totalMode()
+        );
+    }
+
+    public static class Listener {
+
+        private final VideoSearchCache cache;
+
+        public Listener(final VideoSearchCache cache) {
+            this.cache = Objects.requireNonNull(cache);
+        }
+
+        @PostPersist
+        @PostUpdate
+        @PostRemove
+        public void onChange(final Object anEntity) {
+            afterCommit(this.cache::invalidate);
+        }
+    }
+}
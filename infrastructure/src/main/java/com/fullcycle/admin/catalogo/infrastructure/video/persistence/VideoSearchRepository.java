@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+
+public interface VideoSearchRepository {
+
+    Page<VideoPreview> findAll(VideoFilter filter, Pageable page);
+
+    Slice<VideoPreview> findAllSlice(VideoFilter filter, Pageable page);
+
+    List<VideoPreview> findAllAfter(
+            VideoFilter filter,
+            Sort.Order order,
+            VideoCursor cursor,
+            int limit
+    );
+
+    long count(VideoFilter filter);
+
+    Map<String, Long> countByCastMember(VideoFilter filter);
+
+    Map<String, Long> countByCategory(VideoFilter filter);
+
+    Map<String, Long> countByGenre(VideoFilter filter);
+
+    Map<Rating, Long> countByRating(VideoFilter filter);
+}
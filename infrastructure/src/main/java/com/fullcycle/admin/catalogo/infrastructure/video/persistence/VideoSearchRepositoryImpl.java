@@ -0,0 +1,320 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.MySQLFunctionsContributor;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CommonAbstractCriteria;
+import javax.persistence.criteria.CompoundSelection;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Os filtros por relacionamento usam EXISTS nas tabelas de juncao em vez de LEFT JOIN + DISTINCT,
+// assim cada video aparece uma unica vez sem multiplicar linhas antes da paginacao e do COUNT.
+// A busca por termos usa MATCH ... AGAINST no indice FULLTEXT (title, description) quando habilitada;
+// fora do MySQL (ex.: H2 nos testes) cai para LIKE nas mesmas colunas.
+// Quando o filtro ja traz os ids resolvidos pelo VideoFacetIndex, os EXISTS viram um id IN (...).
+// As contagens por faceta agrupam a tabela de juncao (ou a coluna rating) aplicando os mesmos filtros ao video.
+public class VideoSearchRepositoryImpl implements VideoSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final boolean fulltext;
+
+    public VideoSearchRepositoryImpl(@Value("${video.search.fulltext:false}") final boolean fulltext) {
+        this.fulltext = fulltext;
+    }
+
+    @Override
+    public Page<VideoPreview> findAll(final VideoFilter filter, final Pageable page) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(VideoPreview.class);
+        final var video = query.from(VideoJpaEntity.class);
+
+        query.select(preview(cb, video))
+                .where(where(cb, query, video, filter).toArray(Predicate[]::new))
+                .orderBy(orders(cb, video, page.getSort(), filter.terms()));
+
+        final var content = this.entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(
+                content,
+                page,
+                () -> count(filter)
+        );
+    }
+
+    @Override
+    public Slice<VideoPreview> findAllSlice(final VideoFilter filter, final Pageable page) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(VideoPreview.class);
+        final var video = query.from(VideoJpaEntity.class);
+
+        query.select(preview(cb, video))
+                .where(where(cb, query, video, filter).toArray(Predicate[]::new))
+                .orderBy(orders(cb, video, page.getSort(), filter.terms()));
+
+        // Um registro a mais indica se existe proxima pagina, sem executar o COUNT
+        final var content = new ArrayList<>(this.entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize() + 1)
+                .getResultList());
+
+        final var hasNext = content.size() > page.getPageSize();
+        if (hasNext) {
+            content.remove(content.size() - 1);
+        }
+
+        return new SliceImpl<>(content, page, hasNext);
+    }
+
+    @Override
+    public List<VideoPreview> findAllAfter(
+            final VideoFilter filter,
+            final Sort.Order order,
+            final VideoCursor cursor,
+            final int limit
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(VideoPreview.class);
+        final var video = query.from(VideoJpaEntity.class);
+
+        final var predicates = where(cb, query, video, filter);
+        if (cursor != null) {
+            predicates.add(seek(cb, video, cursor));
+        }
+
+        final var sortKey = video.<Comparable<Object>>get(order.getProperty());
+        final var id = video.<Comparable<Object>>get("id");
+
+        query.select(preview(cb, video))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(order.isAscending()
+                        ? List.of(cb.asc(sortKey), cb.asc(id))
+                        : List.of(cb.desc(sortKey), cb.desc(id)));
+
+        return this.entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long count(final VideoFilter filter) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Long.class);
+        final var video = query.from(VideoJpaEntity.class);
+
+        query.select(cb.count(video))
+                .where(where(cb, query, video, filter).toArray(Predicate[]::new));
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public Map<String, Long> countByCastMember(final VideoFilter filter) {
+        return countBy(filter, VideoCastMemberJpaEntity.class, "castMemberId");
+    }
+
+    @Override
+    public Map<String, Long> countByCategory(final VideoFilter filter) {
+        return countBy(filter, VideoCategoryJpaEntity.class, "categoryId");
+    }
+
+    @Override
+    public Map<String, Long> countByGenre(final VideoFilter filter) {
+        return countBy(filter, VideoGenreJpaEntity.class, "genreId");
+    }
+
+    @Override
+    public Map<Rating, Long> countByRating(final VideoFilter filter) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var video = query.from(VideoJpaEntity.class);
+        final var rating = video.<Rating>get("rating");
+
+        query.multiselect(rating, cb.count(video))
+                .where(where(cb, query, video, filter).toArray(Predicate[]::new))
+                .groupBy(rating);
+
+        final var counts = new HashMap<Rating, Long>();
+        for (final var row : this.entityManager.createQuery(query).getResultList()) {
+            if (row.get(0) != null) {
+                counts.put(row.get(0, Rating.class), row.get(1, Long.class));
+            }
+        }
+        return counts;
+    }
+
+    private <T> Map<String, Long> countBy(final VideoFilter filter, final Class<T> relation, final String attribute) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var related = query.from(relation);
+        final var video = related.<T, VideoJpaEntity>join("video");
+        final var key = related.get("id").<String>get(attribute);
+
+        query.multiselect(key, cb.count(related))
+                .where(where(cb, query, video, filter).toArray(Predicate[]::new))
+                .groupBy(key);
+
+        final var counts = new HashMap<String, Long>();
+        for (final var row : this.entityManager.createQuery(query).getResultList()) {
+            counts.put(row.get(0, String.class), row.get(1, Long.class));
+        }
+        return counts;
+    }
+
+    private CompoundSelection<VideoPreview> preview(final CriteriaBuilder cb, final Root<VideoJpaEntity> video) {
+        return cb.construct(
+                VideoPreview.class,
+                video.get("id"),
+                video.get("title"),
+                video.get("description"),
+                video.get("createdAt"),
+                video.get("updatedAt")
+        );
+    }
+
+    private List<Predicate> where(
+            final CriteriaBuilder cb,
+            final CommonAbstractCriteria query,
+            final From<?, VideoJpaEntity> video,
+            final VideoFilter filter
+    ) {
+        final var predicates = new ArrayList<Predicate>();
+        final var terms = filter.terms();
+
+        if (terms != null) {
+            predicates.add(this.fulltext
+                    ? cb.greaterThan(match(cb, video, terms), 0.0)
+                    : cb.or(like(cb, video.get("title"), terms), like(cb, video.get("description"), terms)));
+        }
+        if (filter.ids() != null) {
+            predicates.add(video.get("id").in(filter.ids()));
+        }
+        if (filter.castMembers() != null) {
+            predicates.add(exists(cb, query, video, VideoCastMemberJpaEntity.class, "castMemberId", filter.castMembers()));
+        }
+        if (filter.categories() != null) {
+            predicates.add(exists(cb, query, video, VideoCategoryJpaEntity.class, "categoryId", filter.categories()));
+        }
+        if (filter.genres() != null) {
+            predicates.add(exists(cb, query, video, VideoGenreJpaEntity.class, "genreId", filter.genres()));
+        }
+
+        return predicates;
+    }
+
+    private List<Order> orders(
+            final CriteriaBuilder cb,
+            final Root<VideoJpaEntity> video,
+            final Sort sort,
+            final String terms
+    ) {
+        final var orders = new ArrayList<Order>();
+        for (final var order : sort) {
+            if (VideoSearchQuery.RELEVANCE.equals(order.getProperty())) {
+                orders.addAll(relevance(cb, video, terms));
+            } else {
+                orders.addAll(QueryUtils.toOrders(Sort.by(order), video, cb));
+            }
+        }
+        return orders;
+    }
+
+    // Relevancia e sempre decrescente; sem termos, ou empatados, os videos mais recentes vem primeiro
+    private List<Order> relevance(final CriteriaBuilder cb, final Root<VideoJpaEntity> video, final String terms) {
+        final var newest = cb.desc(video.get("createdAt"));
+        if (terms == null) {
+            return List.of(newest);
+        }
+
+        if (this.fulltext) {
+            return List.of(cb.desc(match(cb, video, terms)), newest);
+        }
+
+        // Sem FULLTEXT, ocorrencias no titulo pesam mais que na descricao
+        final var titleMatches = cb.<Integer>selectCase()
+                .when(like(cb, video.get("title"), terms), 1)
+                .otherwise(0);
+
+        return List.of(cb.desc(titleMatches), newest);
+    }
+
+    private Expression<Double> match(final CriteriaBuilder cb, final From<?, VideoJpaEntity> video, final String terms) {
+        return cb.function(
+                MySQLFunctionsContributor.MATCH_AGAINST,
+                Double.class,
+                video.get("title"),
+                video.get("description"),
+                cb.literal(terms)
+        );
+    }
+
+    private Predicate like(final CriteriaBuilder cb, final Expression<String> column, final String terms) {
+        return cb.like(cb.upper(column), SqlUtils.like(SqlUtils.upper(terms)));
+    }
+
+    private <T> Predicate exists(
+            final CriteriaBuilder cb,
+            final CommonAbstractCriteria query,
+            final From<?, VideoJpaEntity> video,
+            final Class<T> relation,
+            final String attribute,
+            final Set<String> ids
+    ) {
+        final var subquery = query.subquery(Integer.class);
+        final var related = subquery.from(relation);
+
+        subquery.select(cb.literal(1))
+                .where(
+                        cb.equal(related.get("video"), video),
+                        related.get("id").get(attribute).in(ids)
+                );
+
+        return cb.exists(subquery);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate seek(final CriteriaBuilder cb, final Root<VideoJpaEntity> video, final VideoCursor cursor) {
+        final Expression<Comparable<Object>> sortKey = video.get(cursor.sort());
+        final Expression<String> id = video.get("id");
+        final var value = (Comparable<Object>) cursor.value();
+
+        if (cursor.direction().isAscending()) {
+            return cb.or(
+                    cb.greaterThan(sortKey, value),
+                    cb.and(cb.equal(sortKey, value), cb.greaterThan(id, cursor.id()))
+            );
+        }
+
+        return cb.or(
+                cb.lessThan(sortKey, value),
+                cb.and(cb.equal(sortKey, value), cb.lessThan(id, cursor.id()))
+        );
+    }
+}
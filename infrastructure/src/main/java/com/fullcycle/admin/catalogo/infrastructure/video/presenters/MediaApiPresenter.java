@@ -0,0 +1,127 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.presenters;
+
+import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Responde downloads de midia seguindo a RFC 7233: sem Range (ou com If-Range que nao bate com o ETag)
+// envia o arquivo inteiro; com um intervalo responde 206 com Content-Range; com varios, multipart/byteranges.
+// Cada intervalo e lido do storage com leitura posicional, sem baixar o que o player pulou.
+public interface MediaApiPresenter {
+
+    static ResponseEntity<StreamingResponseBody> present(final MediaOutput output, final String range, final String ifRange) {
+        final var anETag = "\"%s\"".formatted(output.checksum());
+        final var aLength = output.length();
+
+        final var headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setETag(anETag);
+        headers.setContentDisposition(ContentDisposition.inline().filename(output.name()).build());
+
+        // If-Range com data nao e suportado: sem Last-Modified a comparacao falha e o arquivo vai inteiro
+        final var ranges = range != null && (ifRange == null || ifRange.equals(anETag))
+                ? parseRanges(range)
+                : List.<HttpRange>of();
+
+        if (ranges.isEmpty()) {
+            headers.setContentType(MediaType.parseMediaType(output.contentType()));
+            headers.setContentLength(aLength);
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(out -> output.content().transferTo(0, aLength, out));
+        }
+
+        final var regions = new ArrayList<Region>(ranges.size());
+        var total = 0L;
+        for (final var aRange : ranges) {
+            final var aRegion = Region.of(aRange, aLength);
+            if (aRegion != null) {
+                regions.add(aRegion);
+                total += aRegion.length();
+            }
+        }
+
+        // A soma maior que o arquivo indica intervalos sobrepostos para amplificar a resposta
+        if (regions.isEmpty() || total > aLength) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + aLength)
+                    .build();
+        }
+
+        if (regions.size() == 1) {
+            final var aRegion = regions.get(0);
+            headers.setContentType(MediaType.parseMediaType(output.contentType()));
+            headers.setContentLength(aRegion.length());
+            headers.set(HttpHeaders.CONTENT_RANGE, aRegion.contentRange(aLength));
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .headers(headers)
+                    .body(out -> output.content().transferTo(aRegion.start(), aRegion.length(), out));
+        }
+
+        final var aBoundary = MimeTypeUtils.generateMultipartBoundaryString();
+        final var partHeaders = new ArrayList<byte[]>(regions.size());
+        final var closing = "\r\n--%s--\r\n".formatted(aBoundary).getBytes(StandardCharsets.US_ASCII);
+
+        var aContentLength = (long) closing.length;
+        for (final var aRegion : regions) {
+            final var aPartHeader = "\r\n--%s\r\nContent-Type: %s\r\nContent-Range: %s\r\n\r\n"
+                    .formatted(aBoundary, output.contentType(), aRegion.contentRange(aLength))
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(aPartHeader);
+            aContentLength += aPartHeader.length + aRegion.length();
+        }
+
+        headers.setContentType(MediaType.parseMediaType("multipart/byteranges; boundary=" + aBoundary));
+        headers.setContentLength(aContentLength);
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .headers(headers)
+                .body(out -> {
+                    for (int i = 0; i < regions.size(); i++) {
+                        final var aRegion = regions.get(i);
+                        out.write(partHeaders.get(i));
+                        output.content().transferTo(aRegion.start(), aRegion.length(), out);
+                    }
+                    out.write(closing);
+                });
+    }
+
+    // Um Range mal formado e ignorado, como permite a RFC, e o arquivo e enviado inteiro
+    private static List<HttpRange> parseRanges(final String range) {
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (final IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    record Region(long start, long end) {
+
+        static Region of(final HttpRange aRange, final long aLength) {
+            try {
+                final var start = aRange.getRangeStart(aLength);
+                final var end = aRange.getRangeEnd(aLength);
+                return start <= end ? new Region(start, end) : null;
+            } catch (final IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        long length() {
+            return this.end - this.start + 1;
+        }
+
+        String contentRange(final long aLength) {
+            return "bytes %d-%d/%d".formatted(this.start, this.end, aLength);
+        }
+    }
+}
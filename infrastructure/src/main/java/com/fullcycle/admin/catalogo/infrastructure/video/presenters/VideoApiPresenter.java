@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.presenters;
+
+import com.fullcycle.admin.catalogo.application.video.create.bulk.BulkCreateVideoOutput;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.VideoFacetsOutput;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.BulkCreateVideoResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoFacetsResponse;
+
+public interface VideoApiPresenter {
+
+    static VideoFacetsResponse present(final VideoFacetsOutput output) {
+        return new VideoFacetsResponse(
+                output.castMembers(),
+                output.categories(),
+                output.genres(),
+                output.ratings()
+        );
+    }
+
+    static BulkCreateVideoResponse present(final BulkCreateVideoOutput output) {
+        return new BulkCreateVideoResponse(
+                output.created(),
+                output.errors().stream()
+                        .map(it -> new BulkCreateVideoResponse.LineError(it.line(), it.messages()))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,3 @@
+DROP INDEX idx_videos_created_at_id ON videos;
+DROP INDEX idx_videos_updated_at_id ON videos;
+DROP INDEX idx_videos_title_id ON videos;
\ No newline at end of file
@@ -0,0 +1,3 @@
+DROP INDEX idx_vcs_category_video ON videos_categories;
+DROP INDEX idx_vgs_genre_video ON videos_genres;
+DROP INDEX idx_vcms_member_video ON videos_cast_members;
\ No newline at end of file
@@ -0,0 +1 @@
+DROP TABLE videos_media_uploads;
\ No newline at end of file
@@ -0,0 +1,3 @@
+CREATE INDEX idx_videos_created_at_id ON videos (created_at, id);
+CREATE INDEX idx_videos_updated_at_id ON videos (updated_at, id);
+CREATE INDEX idx_videos_title_id ON videos (title, id);
\ No newline at end of file
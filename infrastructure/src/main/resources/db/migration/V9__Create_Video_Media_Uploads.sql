@@ -0,0 +1,16 @@
+-- Sessoes de upload em partes; storage_session guarda so o identificador da sessao no storage: a URI do
+-- upload resumable do GCS (que leva o nome do objeto) ou o UUID da sessao local
+CREATE TABLE videos_media_uploads (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    video_id BINARY(16) NOT NULL,
+    media_type VARCHAR(50) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    content_length BIGINT NOT NULL,
+    uploaded BIGINT NOT NULL,
+    storage_session VARCHAR(2048) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_vmu_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE
+);
@@ -5,12 +5,15 @@ import com.fullcycle.admin.catalogo.ControllerTest;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberOutput;
 import com.fullcycle.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.delete.DefaultDeleteCastMembersUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.export.DefaultExportCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.CastMemberOutput;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.CastMemberListOutput;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberOutput;
+import com.fullcycle.admin.catalogo.application.castmember.update.patch.DefaultPatchCastMemberUseCase;
 import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
@@ -63,15 +66,24 @@ public class CastMemberAPITest {
     @MockBean
     private DefaultDeleteCastMemberUseCase deleteCastMemberUseCase;
 
+    @MockBean
+    private DefaultDeleteCastMembersUseCase deleteCastMembersUseCase;
+
     @MockBean
     private DefaultGetCastMemberByIdUseCase getCastMemberByIdUseCase;
 
     @MockBean
     private DefaultListCastMembersUseCase listCastMembersUseCase;
 
+    @MockBean
+    private DefaultExportCastMembersUseCase exportCastMembersUseCase;
+
     @MockBean
     private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
+    @MockBean
+    private DefaultPatchCastMemberUseCase patchCastMemberUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCastMember_shouldReturnItsIdentifier() throws Exception {
         // given
@@ -4,22 +4,30 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ControllerTest;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoriesOutput;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.patch.PatchCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.update.patch.PatchCategoryUseCase;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,28 +35,36 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Right;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ControllerTest(controllers = CategoryAPI.class)
@@ -69,12 +85,21 @@ public class CategoryAPITest {
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
+    @MockBean
+    private PatchCategoryUseCase patchCategoryUseCase;
+
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
+    @MockBean
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         // given
@@ -352,6 +377,84 @@ public class CategoryAPITest {
         verify(deleteCategoryUseCase, times(1)).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenOnlyIsActive_whenCallsPatchCategory_shouldPatchOnlyThatField() throws Exception {
+        // given
+        final var expectedId = "123";
+
+        when(patchCategoryUseCase.execute(any()))
+                .thenReturn(Right(PatchCategoryOutput.from(CategoryID.from(expectedId))));
+
+        // when
+        final var request = patch("/categories/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"is_active\":false}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(patchCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedId, cmd.id())
+                        && Objects.isNull(cmd.name())
+                        && Objects.isNull(cmd.description())
+                        && Objects.equals(false, cmd.isActive())
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallsPatchCategory_shouldReturnNotification() throws Exception {
+        // given
+        final var expectedErrorMessage = "'name' should not be empty";
+
+        when(patchCategoryUseCase.execute(any()))
+                .thenReturn(Left(Notification.create(new Error(expectedErrorMessage))));
+
+        // when
+        final var request = patch("/categories/{id}", "123")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\" \"}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenValidIds_whenCallsDeleteCategories_shouldReturnDeletedCount() throws Exception {
+        // given
+        final var expectedIds = Set.of("123", "456");
+        final var expectedDeleted = 2;
+
+        when(deleteCategoriesUseCase.execute(any()))
+                .thenReturn(DeleteCategoriesOutput.from(expectedDeleted));
+
+        // when
+        final var request = delete("/categories/bulk")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(Json.writeValueAsString(expectedIds));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted", equalTo(expectedDeleted)));
+
+        verify(deleteCategoriesUseCase, times(1)).execute(eq(expectedIds));
+    }
+
     @Test
     public void givenValidParams_whenCallsListCategories_shouldReturnCategories() throws Exception {
         // given
@@ -402,4 +505,107 @@ public class CategoryAPITest {
                         && Objects.equals(expectedSort, query.sort())
                         && Objects.equals(expectedTerms, query.terms())));
     }
+
+    @Test
+    public void givenNoneTotalMode_whenCallsListCategories_shouldReturnSliceWithoutTotal() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 1;
+        final var expectedTotal = Pagination.UNKNOWN_TOTAL;
+        final var expectedTotalMode = TotalMode.NONE;
+
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, expectedItems, true, null));
+        // when
+        final var request = get("/categories")
+                .queryParam("page", String.valueOf(expectedPage))
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("total", "none")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.current_page", equalTo(expectedPage)))
+                .andExpect(jsonPath("$.per_page", equalTo(expectedPerPage)))
+                .andExpect(jsonPath("$.total", equalTo((int) expectedTotal)))
+                .andExpect(jsonPath("$.has_next", equalTo(true)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedPage, query.page())
+                        && Objects.equals(expectedPerPage, query.perPage())
+                        && Objects.equals(expectedTotalMode, query.totalMode())));
+    }
+
+    @Test
+    public void givenAnInvalidTotalMode_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedMessage = "Invalid total mode precise";
+
+        // when
+        final var request = get("/categories")
+                .queryParam("total", "precise")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedMessage)));
+
+        verify(listCategoriesUseCase, times(0)).execute(any());
+    }
+
+    @Test
+    public void givenCategories_whenCallsExportCategories_shouldStreamOneJsonPerLine() throws Exception {
+        // given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", "A categoria de séries", false);
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryListOutput> aConsumer = invocation.getArgument(0);
+            aConsumer.accept(CategoryListOutput.from(filmes));
+            aConsumer.accept(CategoryListOutput.from(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        // when
+        final var aRequest = get("/categories/export")
+                .accept(MediaType.APPLICATION_NDJSON);
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult))
+                .andDo(print());
+
+        // then
+        final var body = response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        final var lines = body.split("\n");
+        assertEquals(2, lines.length);
+
+        final var actualFilmes = Json.readValue(lines[0], CategoryListResponse.class);
+        assertEquals(filmes.getId().getValue(), actualFilmes.id());
+        assertEquals(filmes.getName(), actualFilmes.name());
+
+        final var actualSeries = Json.readValue(lines[1], CategoryListResponse.class);
+        assertEquals(series.getId().getValue(), actualSeries.id());
+        assertEquals(series.getDescription(), actualSeries.description());
+        assertEquals(series.isActive(), actualSeries.active());
+    }
 }
\ No newline at end of file
@@ -5,12 +5,15 @@ import com.fullcycle.admin.catalogo.ControllerTest;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreOutput;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenresUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GenreOutput;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreOutput;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.update.patch.PatchGenreUseCase;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
@@ -66,12 +69,21 @@ public class GenreAPITest {
     @MockBean
     private UpdateGenreUseCase updateGenreUseCase;
 
+    @MockBean
+    private PatchGenreUseCase patchGenreUseCase;
+
     @MockBean
     private DeleteGenreUseCase deleteGenreUseCase;
 
+    @MockBean
+    private DeleteGenresUseCase deleteGenresUseCase;
+
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private ExportGenresUseCase exportGenresUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateGenre_shouldReturnGenreId() throws Exception {
         // given
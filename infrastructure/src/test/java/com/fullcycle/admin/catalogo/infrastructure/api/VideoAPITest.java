@@ -0,0 +1,492 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.video.create.bulk.BulkCreateVideoCommand;
+import com.fullcycle.admin.catalogo.application.video.create.bulk.BulkCreateVideoOutput;
+import com.fullcycle.admin.catalogo.application.video.create.bulk.BulkCreateVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideosUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.session.MediaUploadOutput;
+import com.fullcycle.admin.catalogo.application.video.media.session.chunk.UploadMediaChunkCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.chunk.UploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.complete.CompleteMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.get.GetMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.initiate.InitiateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.ListVideoFacetsUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.VideoFacetsOutput;
+import com.fullcycle.admin.catalogo.application.video.update.patch.PatchVideoOutput;
+import com.fullcycle.admin.catalogo.application.video.update.patch.PatchVideoUseCase;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest(controllers = VideoAPI.class)
+public class VideoAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private BulkCreateVideoUseCase bulkCreateVideoUseCase;
+
+    @MockBean
+    private DeleteVideosUseCase deleteVideosUseCase;
+
+    @MockBean
+    private PatchVideoUseCase patchVideoUseCase;
+
+    @MockBean
+    private ListVideoFacetsUseCase listVideoFacetsUseCase;
+
+    @MockBean
+    private UploadMediaUseCase uploadMediaUseCase;
+
+    @MockBean
+    private GetMediaUseCase getMediaUseCase;
+
+    @MockBean
+    private InitiateMediaUploadUseCase initiateMediaUploadUseCase;
+
+    @MockBean
+    private UploadMediaChunkUseCase uploadMediaChunkUseCase;
+
+    @MockBean
+    private GetMediaUploadUseCase getMediaUploadUseCase;
+
+    @MockBean
+    private CompleteMediaUploadUseCase completeMediaUploadUseCase;
+
+    @Test
+    public void givenANdjsonBody_whenCallsBulkCreate_shouldParseEachLineAndReturnErrorsPerLine() throws Exception {
+        // given
+        final var aCategory = CategoryID.unique();
+
+        final var expectedBody = """
+                {"title":"System Design","description":"Entrevistas","year_launched":2022,"duration":120.0,"rating":"L","categories_id":["%s"]}
+                {"title":
+
+                {"title":"Outro","year_launched":2021,"duration":60.0,"rating":"L"}
+                """.formatted(aCategory.getValue());
+
+        final var actualLines = new ArrayList<BulkCreateVideoCommand.Line>();
+        when(bulkCreateVideoUseCase.execute(any()))
+                .thenAnswer(invocation -> {
+                    final BulkCreateVideoCommand aCommand = invocation.getArgument(0);
+                    aCommand.lines().forEachRemaining(actualLines::add);
+                    return new BulkCreateVideoOutput(2, List.of(new BulkCreateVideoOutput.LineError(2, List.of("Malformed JSON"))));
+                });
+
+        // when
+        final var request = post("/videos/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(expectedBody);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", equalTo(2)))
+                .andExpect(jsonPath("$.errors[0].line", equalTo(2)))
+                .andExpect(jsonPath("$.errors[0].messages[0]", equalTo("Malformed JSON")));
+
+        // A linha em branco (3) e ignorada, mas a numeracao continua contando com ela
+        assertEquals(3, actualLines.size());
+
+        assertEquals(1, actualLines.get(0).number());
+        assertEquals("System Design", actualLines.get(0).command().title());
+        assertEquals(Set.of(aCategory.getValue()), actualLines.get(0).command().categories());
+
+        assertEquals(2, actualLines.get(1).number());
+        assertFalse(actualLines.get(1).isValid());
+        assertEquals("Malformed JSON", actualLines.get(1).error());
+
+        assertEquals(4, actualLines.get(2).number());
+        assertEquals("Outro", actualLines.get(2).command().title());
+        assertEquals(Set.of(), actualLines.get(2).command().members());
+    }
+
+    @Test
+    public void givenValidParams_whenCallsFacets_shouldReturnCounts() throws Exception {
+        // given
+        final var aMember = CastMemberID.unique();
+        final var aCategory = CategoryID.unique();
+        final var aGenre = GenreID.unique();
+
+        final var expectedTerms = "system design";
+
+        when(listVideoFacetsUseCase.execute(any()))
+                .thenReturn(new VideoFacetsOutput(
+                        Map.of(aMember.getValue(), 2L),
+                        Map.of(aCategory.getValue(), 3L),
+                        Map.of(aGenre.getValue(), 1L),
+                        Map.of("L", 4L)
+                ));
+
+        // when
+        final var request = get("/videos/facets")
+                .queryParam("search", expectedTerms)
+                .queryParam("categories", aCategory.getValue())
+                .queryParam("genres", aGenre.getValue())
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.cast_members." + aMember.getValue(), equalTo(2)))
+                .andExpect(jsonPath("$.categories." + aCategory.getValue(), equalTo(3)))
+                .andExpect(jsonPath("$.genres." + aGenre.getValue(), equalTo(1)))
+                .andExpect(jsonPath("$.ratings.L", equalTo(4)));
+
+        verify(listVideoFacetsUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedTerms, query.terms())
+                        && query.castMembers().isEmpty()
+                        && Objects.equals(Set.of(aCategory), query.categories())
+                        && Objects.equals(Set.of(aGenre), query.genres())
+        ));
+    }
+
+    @Test
+    public void givenOnlyPublished_whenCallsPatchVideo_shouldPatchOnlyThatField() throws Exception {
+        // given
+        final var expectedId = "123";
+
+        when(patchVideoUseCase.execute(any()))
+                .thenReturn(PatchVideoOutput.from(VideoID.from(expectedId)));
+
+        // when
+        final var request = patch("/videos/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"published\":true}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(patchVideoUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedId, cmd.id())
+                        && Objects.equals(true, cmd.published())
+                        && Objects.isNull(cmd.title())
+                        && Objects.isNull(cmd.opened())
+                        && Objects.isNull(cmd.rating())
+        ));
+    }
+
+    @Test
+    public void givenARawBody_whenCallsUploadMedia_shouldStreamItAsAResource() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedContent = "trailer-bytes".getBytes();
+        final var expectedChecksum = "1a2b3c4d";
+        final var expectedContentType = "video/mp4";
+        final var expectedName = "trailer.mp4";
+
+        final var actualContent = new byte[1][];
+        when(uploadMediaUseCase.execute(any()))
+                .thenAnswer(invocation -> {
+                    final UploadMediaCommand aCmd = invocation.getArgument(0);
+                    try (final var in = aCmd.videoResource().resource().openStream()) {
+                        actualContent[0] = in.readAllBytes();
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return new UploadMediaOutput(expectedId.getValue(), expectedType);
+                });
+
+        // when
+        final var request = post("/videos/{id}/medias/{type}", expectedId.getValue(), "trailer")
+                .contentType(expectedContentType)
+                .header("Content-Length", expectedContent.length)
+                .header(VideoAPI.CHECKSUM_HEADER, expectedChecksum)
+                .header("Content-Disposition", "attachment; filename=\"%s\"".formatted(expectedName))
+                .accept(MediaType.APPLICATION_JSON)
+                .content(expectedContent);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/videos/%s/medias/TRAILER".formatted(expectedId.getValue())));
+
+        verify(uploadMediaUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedId.getValue(), cmd.videoId())
+                        && Objects.equals(expectedType, cmd.videoResource().type())
+                        && Objects.equals(expectedChecksum, cmd.videoResource().resource().checksum())
+                        && Objects.equals(expectedContentType, cmd.videoResource().resource().contentType())
+                        && Objects.equals(expectedName, cmd.videoResource().resource().name())
+                        && expectedContent.length == cmd.videoResource().resource().length()
+                        && !cmd.videoResource().resource().isInMemory()
+        ));
+
+        assertArrayEquals(expectedContent, actualContent[0]);
+    }
+
+    @Test
+    public void givenAnUnknownMediaType_whenCallsUploadMedia_shouldReturnNotFound() throws Exception {
+        // when
+        final var request = post("/videos/{id}/medias/{type}", VideoID.unique().getValue(), "poster")
+                .contentType("image/png")
+                .header("Content-Length", 3)
+                .header(VideoAPI.CHECKSUM_HEADER, "1a2b3c4d")
+                .accept(MediaType.APPLICATION_JSON)
+                .content(new byte[]{1, 2, 3});
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", equalTo("Media type poster doesn't exists")));
+
+        verify(uploadMediaUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenNoRange_whenCallsGetMedia_shouldReturnTheWholeMedia() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedContent = "0123456789";
+        mockMedia(expectedContent);
+
+        // when
+        final var response = download(get("/videos/{id}/medias/{type}", expectedId.getValue(), "trailer"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(header().string("Content-Type", "video/mp4"))
+                .andExpect(header().longValue("Content-Length", expectedContent.length()));
+
+        assertEquals(expectedContent, response.andReturn().getResponse().getContentAsString());
+    }
+
+    @Test
+    public void givenARange_whenCallsGetMedia_shouldReturnPartialContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        mockMedia("0123456789");
+
+        // when
+        final var response = download(get("/videos/{id}/medias/{type}", expectedId.getValue(), "trailer")
+                .header("Range", "bytes=2-5"));
+
+        // then
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 2-5/10"))
+                .andExpect(header().longValue("Content-Length", 4));
+
+        assertEquals("2345", response.andReturn().getResponse().getContentAsString());
+    }
+
+    @Test
+    public void givenManyRanges_whenCallsGetMedia_shouldReturnMultipartByteranges() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        mockMedia("0123456789");
+
+        // when
+        final var response = download(get("/videos/{id}/medias/{type}", expectedId.getValue(), "trailer")
+                .header("Range", "bytes=0-1, -3"));
+
+        // then
+        response.andExpect(status().isPartialContent());
+
+        final var actualResponse = response.andReturn().getResponse();
+        final var actualContentType = MediaType.parseMediaType(actualResponse.getContentType());
+        assertEquals("multipart/byteranges", actualContentType.getType() + "/" + actualContentType.getSubtype());
+
+        final var actualBoundary = actualContentType.getParameter("boundary");
+        final var actualBody = actualResponse.getContentAsString(StandardCharsets.US_ASCII);
+        final var expectedBody = ("\r\n--%1$s\r\nContent-Type: video/mp4\r\nContent-Range: bytes 0-1/10\r\n\r\n01"
+                + "\r\n--%1$s\r\nContent-Type: video/mp4\r\nContent-Range: bytes 7-9/10\r\n\r\n789"
+                + "\r\n--%1$s--\r\n").formatted(actualBoundary);
+
+        assertEquals(expectedBody, actualBody);
+        assertEquals(expectedBody.length(), Long.parseLong(actualResponse.getHeader("Content-Length")));
+    }
+
+    @Test
+    public void givenAStaleIfRange_whenCallsGetMedia_shouldReturnTheWholeMedia() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        mockMedia("0123456789");
+
+        // when
+        final var response = download(get("/videos/{id}/medias/{type}", expectedId.getValue(), "trailer")
+                .header("Range", "bytes=2-5")
+                .header("If-Range", "\"outdated\""));
+
+        // then
+        response.andExpect(status().isOk());
+        assertEquals("0123456789", response.andReturn().getResponse().getContentAsString());
+    }
+
+    @Test
+    public void givenAnUnsatisfiableRange_whenCallsGetMedia_shouldReturn416() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        mockMedia("0123456789");
+
+        // when
+        final var response = this.mvc.perform(get("/videos/{id}/medias/{type}", expectedId.getValue(), "trailer")
+                        .header("Range", "bytes=20-30"))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */10"));
+    }
+
+    @Test
+    public void givenUploadHeaders_whenCallsInitiateMediaUpload_shouldCreateTheSession() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedUploadId = MediaUploadID.unique().getValue();
+        final var expectedLength = 5L * 1024 * 1024 * 1024;
+
+        when(initiateMediaUploadUseCase.execute(any()))
+                .thenReturn(new MediaUploadOutput(expectedUploadId, expectedId.getValue(), VideoMediaType.VIDEO, expectedLength, 0, false));
+
+        // when
+        final var request = post("/videos/{id}/medias/{type}/uploads", expectedId.getValue(), "video")
+                .contentType("video/mp4")
+                .header(VideoAPI.UPLOAD_LENGTH_HEADER, expectedLength)
+                .header(VideoAPI.CHECKSUM_HEADER, "1a2b3c4d")
+                .header("Content-Disposition", "attachment; filename=\"video.mp4\"")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/videos/uploads/%s".formatted(expectedUploadId)))
+                .andExpect(jsonPath("$.upload_id", equalTo(expectedUploadId)))
+                .andExpect(jsonPath("$.uploaded", equalTo(0)));
+
+        verify(initiateMediaUploadUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedId.getValue(), cmd.videoId())
+                        && Objects.equals("video", cmd.mediaType())
+                        && Objects.equals("video.mp4", cmd.name())
+                        && Objects.equals("video/mp4", cmd.contentType())
+                        && expectedLength == cmd.length()
+        ));
+    }
+
+    @Test
+    public void givenAChunk_whenCallsUploadMediaChunk_shouldStreamItWithItsOffsetAndChecksum() throws Exception {
+        // given
+        final var expectedUploadId = MediaUploadID.unique().getValue();
+        final var expectedContent = "chunk-bytes".getBytes();
+        final var expectedChecksum = "9a8b7c6d";
+        final var expectedOffset = 262144L;
+
+        final var actualContent = new byte[1][];
+        when(uploadMediaChunkUseCase.execute(any()))
+                .thenAnswer(invocation -> {
+                    final UploadMediaChunkCommand aCmd = invocation.getArgument(0);
+                    try (final var in = aCmd.chunk().openStream()) {
+                        actualContent[0] = in.readAllBytes();
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return new MediaUploadOutput(expectedUploadId, VideoID.unique().getValue(), VideoMediaType.VIDEO, 1_000_000, expectedOffset + expectedContent.length, false);
+                });
+
+        // when
+        final var request = put("/videos/uploads/{uploadId}", expectedUploadId)
+                .queryParam("offset", String.valueOf(expectedOffset))
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header("Content-Length", expectedContent.length)
+                .header(VideoAPI.CHECKSUM_HEADER, expectedChecksum)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(expectedContent);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.uploaded", equalTo((int) (expectedOffset + expectedContent.length))));
+
+        verify(uploadMediaChunkUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedUploadId, cmd.uploadId())
+                        && expectedOffset == cmd.offset()
+                        && Objects.equals(expectedChecksum, cmd.chunk().checksum())
+                        && expectedContent.length == cmd.chunk().length()
+                        && !cmd.chunk().isInMemory()
+        ));
+
+        assertArrayEquals(expectedContent, actualContent[0]);
+    }
+
+    private void mockMedia(final String content) {
+        final var aResource = Resource.with("abc", content.getBytes(), "video/mp4", "trailer.mp4");
+        when(getMediaUseCase.execute(any()))
+                .thenAnswer(invocation -> MediaOutput.with(aResource));
+    }
+
+    private ResultActions download(final MockHttpServletRequestBuilder aRequest) throws Exception {
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return this.mvc.perform(asyncDispatch(asyncResult))
+                .andDo(print());
+    }
+}
@@ -4,8 +4,10 @@ import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberPatch;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
 import org.junit.jupiter.api.Assertions;
@@ -17,6 +19,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @MySQLGatewayTest
@@ -101,6 +104,60 @@ public class CastMemberMySQLGatewayTest {
         assertTrue(aMember.getUpdatedAt().isBefore(persistMember.getUpdatedAt()));
     }
 
+    @Test
+    public void givenAValidCastMember_whenCallsPatchWithType_shouldUpdateOnlyTheType() {
+        // given
+        final var expectedName = "Vin Diesel";
+        final var expectedType = CastMemberType.DIRECTOR;
+
+        final var aMember = CastMember.newMember(expectedName, CastMemberType.ACTOR);
+        final var expectedId = aMember.getId();
+
+        castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(aMember));
+
+        // when
+        final var actualFound = castMemberGateway.patch(expectedId, CastMemberPatch.with(null, expectedType));
+
+        // then
+        assertTrue(actualFound);
+
+        final var persistedMember = castMemberRepository.findById(expectedId.getValue()).get();
+        assertEquals(expectedName, persistedMember.getName());
+        assertEquals(expectedType, persistedMember.getType());
+        assertEquals(aMember.getCreatedAt(), persistedMember.getCreatedAt());
+        assertTrue(aMember.getUpdatedAt().isBefore(persistedMember.getUpdatedAt()));
+    }
+
+    @Test
+    public void givenAValidCastMember_whenCallsPatchWithName_shouldFindItByTheNewName() {
+        // given
+        final var aMember = CastMember.newMember("vind", CastMemberType.ACTOR);
+        final var expectedId = aMember.getId();
+
+        castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(aMember));
+
+        // when
+        final var actualFound = castMemberGateway.patch(expectedId, CastMemberPatch.with("Vin Diesel", null));
+
+        // then
+        assertTrue(actualFound);
+
+        final var actualPage = castMemberGateway.findAll(new SearchQuery(0, 10, "diesel", "name", "asc"));
+        assertEquals(1, actualPage.items().size());
+        assertEquals(expectedId, actualPage.items().get(0).getId());
+        assertEquals(CastMemberType.ACTOR, actualPage.items().get(0).getType());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsPatch_shouldReturnFalse() {
+        // when
+        final var actualFound = castMemberGateway.patch(CastMemberID.from("123"), CastMemberPatch.with(null, CastMemberType.DIRECTOR));
+
+        // then
+        assertFalse(actualFound);
+        assertEquals(0, castMemberRepository.count());
+    }
+
     @Test
     public void givenTwoCastMembersAndOnePersisted_whenCallsExistsIds_shouldPersistID() {
         // given
@@ -220,6 +277,7 @@ public class CastMemberMySQLGatewayTest {
             "jas,0,10,1,1,Jason Momoa",
             "har,0,10,1,1,Kit Harington",
             "MAR,0,10,1,1,Martin Scorsese",
+            "in,0,10,4,4,Kit Harington",
     })
     public void givenAValidTerm_whenCallsFindAll_shouldReturnFiltered(
             final String expectedTerms,
@@ -320,6 +378,48 @@ public class CastMemberMySQLGatewayTest {
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "0,2,2,NONE,-1,true,Jason Momoa;Kit Harington",
+            "2,2,1,NONE,-1,false,Vin Diesel",
+            "1,2,2,ESTIMATED,5,true,Martin Scorsese;Quentin Tarantino",
+    })
+    public void givenATotalMode_whenCallsFindAll_shouldReturnSliceWithoutCount(
+            final int expectedPage,
+            final int expectedPerPage,
+            final int expectedItemsCount,
+            final TotalMode expectedTotalMode,
+            final long expectedTotal,
+            final boolean expectedHasNext,
+            final String expectedNames
+    ) {
+        // given
+        mockMembers();
+
+        final var expectedTerms = "";
+        final var expectedSort = "name";
+        final var expectedDirection = "asc";
+
+        final var aQuery =
+                new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection, expectedTotalMode);
+
+        // when
+        final var actualPage = castMemberGateway.findAll(aQuery);
+
+        // then
+        assertEquals(expectedPage, actualPage.currentPage());
+        assertEquals(expectedPerPage, actualPage.perPage());
+        assertEquals(expectedTotal, actualPage.total());
+        assertEquals(expectedHasNext, actualPage.hasNext());
+        assertEquals(expectedItemsCount, actualPage.items().size());
+
+        int index = 0;
+        for (final var expectedName : expectedNames.split(";")) {
+            assertEquals(expectedName, actualPage.items().get(index).getName());
+            index++;
+        }
+    }
+
     private void mockMembers() {
         castMemberRepository.saveAllAndFlush(List.of(
                 CastMemberJpaEntity.from(CastMember.newMember("Kit Harington", CastMemberType.ACTOR)),
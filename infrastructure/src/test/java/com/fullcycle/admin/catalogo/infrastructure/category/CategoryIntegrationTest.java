@@ -187,7 +187,7 @@ public class CategoryIntegrationTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).id());
     }
 
     @Test
@@ -234,7 +234,7 @@ public class CategoryIntegrationTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).id());
 
         // PAGE 1
         expectedPage = 1;
@@ -246,7 +246,7 @@ public class CategoryIntegrationTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).id());
 
         // PAGE 2
         expectedPage = 2;
@@ -258,7 +258,7 @@ public class CategoryIntegrationTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).id());
     }
 
     @Test
@@ -287,7 +287,7 @@ public class CategoryIntegrationTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).id());
     }
 
     @Test
@@ -316,6 +316,6 @@ public class CategoryIntegrationTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).id());
     }
 }
\ No newline at end of file
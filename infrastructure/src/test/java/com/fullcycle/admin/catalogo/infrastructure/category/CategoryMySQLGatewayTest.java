@@ -3,16 +3,31 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryPatch;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryNameIndex;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -25,6 +40,23 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryNameIndex categoryNameIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() {
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics().setStatisticsEnabled(false);
+    }
+
     @Test
     public void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
         final var expectedName = "Filmes";
@@ -60,6 +92,94 @@ public class CategoryMySQLGatewayTest {
         assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    public void givenAValidCategory_whenCallsCreate_shouldInsertWithoutSelectingFirst() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        categoryGateway.create(aCategory);
+
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsDeleteAllById_shouldDeleteThemInASingleStatement() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var actualDeleted = categoryGateway.deleteAllById(List.of(filmes.getId(), series.getId(), CategoryID.from("invalid")));
+
+        assertEquals(2, actualDeleted);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        assertEquals(1, categoryRepository.count());
+        assertTrue(categoryRepository.existsById(documentarios.getId().getValue()));
+    }
+
+    @Test
+    public void givenAPrePersistedCategory_whenCallsPatchWithOnlyIsActive_shouldUpdateWithoutLoadingIt() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var aPatch = CategoryPatch.with(null, null, false);
+
+        final var actualFound = categoryGateway.patch(aCategory.getId(), aPatch);
+
+        assertTrue(actualFound);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        assertEquals("Filmes", actualEntity.getName());
+        assertEquals("A categoria mais assistida", actualEntity.getDescription());
+        assertFalse(actualEntity.isActive());
+        assertNotNull(actualEntity.getDeletedAt());
+        assertEquals(aCategory.getCreatedAt().truncatedTo(ChronoUnit.MINUTES), actualEntity.getCreatedAt().truncatedTo(ChronoUnit.MINUTES));
+        assertEquals(aPatch.updatedAt().truncatedTo(ChronoUnit.MINUTES), actualEntity.getUpdatedAt().truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    @Test
+    public void givenAPrePersistedCategory_whenCallsPatchWithName_shouldUpdateTheNameIndex() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryGateway.create(aCategory);
+
+        final var actualFound = categoryGateway.patch(aCategory.getId(), CategoryPatch.with("Documentarios", null, null));
+
+        assertTrue(actualFound);
+        assertEquals("Documentarios", categoryRepository.findById(aCategory.getId().getValue()).get().getName());
+        assertTrue(categoryNameIndex.search("documentarios", 10).orElseThrow().contains(aCategory.getId().getValue()));
+        assertFalse(categoryNameIndex.search("filmes", 10).orElseThrow().contains(aCategory.getId().getValue()));
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsPatch_shouldReturnFalse() {
+        final var actualFound = categoryGateway.patch(CategoryID.from("invalid"), CategoryPatch.with("Filmes", null, null));
+
+        assertFalse(actualFound);
+        assertEquals(0, categoryRepository.count());
+    }
+
     @Test
     public void givenAValidCategory_whenCallsUpdate_shouldReturnCategoryUpdated() {
         final var expectedName = "Filmes";
@@ -196,7 +316,72 @@ public class CategoryMySQLGatewayTest {
         assertEquals(expectedPerPage, actualResult.perPage());
         assertEquals(expectedTotal, actualResult.total());
         assertEquals(expectedPerPage, actualResult.items().size());
-        assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        assertEquals(documentarios.getId(), actualResult.items().get(0).id());
+    }
+
+    @Test
+    public void givenACachedPage_whenCallsCreate_shouldReturnNewCategoryOnNextFindAll() {
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+
+        categoryGateway.create(Category.newCategory("Filmes", null, true));
+        assertEquals(1, categoryGateway.findAll(aQuery).total());
+        assertEquals(1, categoryGateway.findAll(aQuery).total());
+
+        categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var actualResult = categoryGateway.findAll(aQuery);
+
+        assertEquals(2, actualResult.total());
+        assertEquals(2, actualResult.items().size());
+    }
+
+    @Test
+    public void givenPrePersistedCategoriesAndNoneTotalMode_whenCallsFindAll_shouldReturnSliceWithoutTotal() {
+        final var expectedPage = 0;
+        final var expectedPerPage = 2;
+        final var expectedTotal = Pagination.UNKNOWN_TOTAL;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var query = new SearchQuery(0, 2, "", "name", "asc", TotalMode.NONE);
+        final var actualResult = categoryGateway.findAll(query);
+
+        assertEquals(expectedPage, actualResult.currentPage());
+        assertEquals(expectedPerPage, actualResult.perPage());
+        assertEquals(expectedTotal, actualResult.total());
+        assertTrue(actualResult.hasNext());
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(documentarios.getId(), actualResult.items().get(0).id());
+        assertEquals(filmes.getId(), actualResult.items().get(1).id());
+    }
+
+    @Test
+    public void givenPrePersistedCategoriesAndEstimatedTotalMode_whenCallsFindAllWithTerms_shouldReturnIndexedTotal() {
+        final var expectedTotal = 1;
+
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series)
+        ));
+
+        final var query = new SearchQuery(0, 1, "MAIS ASSISTIDA", "name", "asc", TotalMode.ESTIMATED);
+        final var actualResult = categoryGateway.findAll(query);
+
+        assertEquals(expectedTotal, actualResult.total());
+        assertFalse(actualResult.hasNext());
+        assertEquals(1, actualResult.items().size());
+        assertEquals(filmes.getId(), actualResult.items().get(0).id());
     }
 
     @Test
@@ -243,7 +428,7 @@ public class CategoryMySQLGatewayTest {
         assertEquals(expectedPerPage, actualResult.perPage());
         assertEquals(expectedTotal, actualResult.total());
         assertEquals(expectedPerPage, actualResult.items().size());
-        assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        assertEquals(documentarios.getId(), actualResult.items().get(0).id());
 
         // Page 1
         expectedPage = 1;
@@ -255,7 +440,7 @@ public class CategoryMySQLGatewayTest {
         assertEquals(expectedPerPage, actualResult.perPage());
         assertEquals(expectedTotal, actualResult.total());
         assertEquals(expectedPerPage, actualResult.items().size());
-        assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        assertEquals(filmes.getId(), actualResult.items().get(0).id());
 
         // Page 2
         expectedPage = 2;
@@ -267,7 +452,7 @@ public class CategoryMySQLGatewayTest {
         assertEquals(expectedPerPage, actualResult.perPage());
         assertEquals(expectedTotal, actualResult.total());
         assertEquals(expectedPerPage, actualResult.items().size());
-        assertEquals(series.getId(), actualResult.items().get(0).getId());
+        assertEquals(series.getId(), actualResult.items().get(0).id());
     }
 
     @Test
@@ -297,7 +482,80 @@ public class CategoryMySQLGatewayTest {
         assertEquals(expectedPerPage, actualResult.perPage());
         assertEquals(expectedTotal, actualResult.total());
         assertEquals(expectedPerPage, actualResult.items().size());
-        assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        assertEquals(documentarios.getId(), actualResult.items().get(0).id());
+    }
+
+    @Test
+    public void givenATermShorterThanATrigram_whenCallsFindAll_shouldSearchInTheDatabase() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", "Mesmo horario toda semana", true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var actualExact = categoryGateway.findAll(new SearchQuery(0, 1, "me", "name", "asc"));
+        final var actualSlice = categoryGateway.findAll(new SearchQuery(0, 1, "me", "name", "asc", TotalMode.NONE));
+
+        assertEquals(3, actualExact.total());
+        assertEquals(documentarios.getId(), actualExact.items().get(0).id());
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualSlice.total());
+        assertTrue(actualSlice.hasNext());
+        assertEquals(documentarios.getId(), actualSlice.items().get(0).id());
+    }
+
+    @Test
+    public void givenAnUpdatedCategory_whenCallsFindAllWithTerms_shouldSearchByTheNewName() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        categoryGateway.update(aCategory.clone().update("Documentários", null, true));
+
+        final var actualOldName = categoryGateway.findAll(new SearchQuery(0, 10, "filmes", "name", "asc"));
+        final var actualNewName = categoryGateway.findAll(new SearchQuery(0, 10, "documentarios", "name", "asc"));
+
+        assertEquals(0, actualOldName.total());
+        assertTrue(actualOldName.items().isEmpty());
+        assertEquals(1, actualNewName.total());
+        assertEquals(aCategory.getId(), actualNewName.items().get(0).id());
+    }
+
+    @Test
+    public void givenADeletedCategory_whenCallsFindAllWithTerms_shouldNotReturnIt() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        categoryGateway.deleteById(aCategory.getId());
+
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "fil", "name", "asc"));
+
+        assertEquals(0, actualResult.total());
+        assertTrue(actualResult.items().isEmpty());
+    }
+
+    @Test
+    public void givenACategoryInsertedByAnotherInstance_whenCallsRefreshIndex_shouldFindItByName() {
+        // given
+        final var expectedId = CategoryID.unique();
+        final var now = Timestamp.from(Instant.now());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO categories (id, name, description, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                BinaryIdType.toBytes(expectedId.getValue()), "Séries", null, true, now, now
+        ));
+
+        assertTrue(categoryNameIndex.search("series", 10).orElseThrow().isEmpty());
+
+        // when
+        categoryGateway.refreshIndex();
+
+        // then
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "SERIES", "name", "asc"));
+
+        assertEquals(1, categoryNameIndex.size());
+        assertEquals(1, actualResult.total());
+        assertEquals(expectedId, actualResult.items().get(0).id());
     }
 
     @Test
@@ -327,7 +585,7 @@ public class CategoryMySQLGatewayTest {
         assertEquals(expectedPerPage, actualResult.perPage());
         assertEquals(expectedTotal, actualResult.total());
         assertEquals(expectedPerPage, actualResult.items().size());
-        assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        assertEquals(filmes.getId(), actualResult.items().get(0).id());
     }
 
     @Test
@@ -357,4 +615,63 @@ public class CategoryMySQLGatewayTest {
         // then
         assertTrue(expectedIds.containsAll(actualResult));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenAPrePersistedCategory_whenCallsFindByIdTwice_shouldReadTheSecondFromTheCache() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+
+        final var statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var firstCategory = categoryGateway.findById(aCategory.getId()).get();
+        final var secondCategory = categoryGateway.findById(aCategory.getId()).get();
+
+        assertEquals(firstCategory.getName(), secondCategory.getName());
+        assertEquals(1, statistics.getSecondLevelCacheMissCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsPatch_shouldNotReturnTheStaleEntry() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        categoryGateway.findById(aCategory.getId());
+
+        categoryGateway.patch(aCategory.getId(), CategoryPatch.with("Series", null, null));
+
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).get();
+        assertEquals("Series", actualCategory.getName());
+    }
+
+    @Test
+    public void givenTheSameIds_whenCallsExistsByIdsTwice_shouldAnswerTheSecondFromTheQueryCache() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series)
+        ));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var ids = List.of(filmes.getId(), series.getId(), CategoryID.from("123"));
+
+        final var firstResult = categoryGateway.existsByIds(ids);
+        final var secondResult = categoryGateway.existsByIds(ids);
+
+        assertEquals(2, firstResult.size());
+        assertEquals(firstResult, secondResult);
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -5,7 +5,10 @@ import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePatch;
+import com.fullcycle.admin.catalogo.domain.genre.GenrePreview;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
@@ -14,8 +17,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -312,6 +318,66 @@ public class GenreMySQLGatewayTest {
         assertNotNull(persistedGenre.getDeletedAt());
     }
 
+    @Test
+    public void givenAValidGenreActive_whenCallsPatchInactivating_shouldKeepNameAndCategories() {
+        // given
+        final var expectedName = "Ação";
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var aGenre = Genre.newGenre(expectedName, true);
+        aGenre.addCategory(filmes.getId());
+        final var expectedId = aGenre.getId();
+
+        genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+
+        // when
+        final var actualFound = genreGateway.patch(expectedId, GenrePatch.with(null, false));
+
+        // then
+        assertTrue(actualFound);
+
+        final var actualGenre = genreGateway.findById(expectedId).get();
+        assertEquals(expectedName, actualGenre.getName());
+        assertFalse(actualGenre.isActive());
+        assertNotNull(actualGenre.getDeletedAt());
+        assertEquals(List.of(filmes.getId()), actualGenre.getCategories());
+        assertTrue(aGenre.getUpdatedAt().isBefore(actualGenre.getUpdatedAt()));
+    }
+
+    @Test
+    public void givenAValidGenreInactive_whenCallsPatchWithNameAndActivating_shouldFindItByTheNewName() {
+        // given
+        final var aGenre = Genre.newGenre("acao", false);
+        final var expectedId = aGenre.getId();
+
+        genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+
+        // when
+        final var actualFound = genreGateway.patch(expectedId, GenrePatch.with("Aventura", true));
+
+        // then
+        assertTrue(actualFound);
+
+        final var persistedGenre = genreRepository.findById(expectedId.getValue()).get();
+        assertEquals("Aventura", persistedGenre.getName());
+        assertTrue(persistedGenre.isActive());
+        assertNull(persistedGenre.getDeletedAt());
+
+        final var actualPage = genreGateway.findAll(new SearchQuery(0, 10, "aventura", "name", "asc"));
+        assertEquals(1, actualPage.items().size());
+        assertEquals(expectedId, actualPage.items().get(0).id());
+    }
+
+    @Test
+    public void givenAnInvalidGenreId_whenCallsPatch_shouldReturnFalse() {
+        // when
+        final var actualFound = genreGateway.patch(GenreID.from("123"), GenrePatch.with("Aventura", null));
+
+        // then
+        assertFalse(actualFound);
+        assertEquals(0, genreRepository.count());
+    }
+
     @Test
     public void givenTwoGenresAndOnePersisted_whenCallsExistsIds_shouldPersistID() {
         // given
@@ -392,6 +458,24 @@ public class GenreMySQLGatewayTest {
         assertNull(actualGenre.getDeletedAt());
     }
 
+    @Test
+    public void givenACachedGenre_whenCallsDeleteOneOfItsCategories_shouldNotReturnTheDeletedCategory() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId(), series.getId())));
+
+        assertEquals(2, genreGateway.findById(aGenre.getId()).get().getCategories().size());
+
+        // when
+        categoryGateway.deleteById(filmes.getId());
+
+        // then
+        final var actualGenre = genreGateway.findById(aGenre.getId()).get();
+        assertEquals(List.of(series.getId()), actualGenre.getCategories());
+    }
+
     @Test
     public void givenAInvalidGenreId_whenCallsFindById_shouldReturnEmpty() {
         // given
@@ -460,7 +544,7 @@ public class GenreMySQLGatewayTest {
         assertEquals(expectedPerPage, actualPage.perPage());
         assertEquals(expectedTotal, actualPage.total());
         assertEquals(expectedItemsCount, actualPage.items().size());
-        assertEquals(expectedGenreName, actualPage.items().get(0).getName());
+        assertEquals(expectedGenreName, actualPage.items().get(0).name());
     }
 
     @ParameterizedTest
@@ -494,7 +578,7 @@ public class GenreMySQLGatewayTest {
         assertEquals(expectedPerPage, actualPage.perPage());
         assertEquals(expectedTotal, actualPage.total());
         assertEquals(expectedItemsCount, actualPage.items().size());
-        assertEquals(expectedGenreName, actualPage.items().get(0).getName());
+        assertEquals(expectedGenreName, actualPage.items().get(0).name());
     }
 
     @ParameterizedTest
@@ -530,12 +614,82 @@ public class GenreMySQLGatewayTest {
 
         int index = 0;
         for (final var expectedName : expectedGenres.split(";")) {
-            final var actualName = actualPage.items().get(index).getName();
+            final var actualName = actualPage.items().get(index).name();
             assertEquals(expectedName, actualName);
             index++;
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "0,2,2,NONE,,-1,true,Ação;Comédia romântica",
+            "2,2,1,NONE,,-1,false,Terror",
+            "0,2,2,ESTIMATED,,5,true,Ação;Comédia romântica",
+            "0,2,2,ESTIMATED,ica,2,false,Comédia romântica;Ficção científica",
+            "0,2,2,ESTIMATED,r,-1,true,Comédia romântica;Drama",
+    })
+    public void givenATotalMode_whenCallsFindAll_shouldReturnSliceWithoutCount(
+            final int expectedPage,
+            final int expectedPerPage,
+            final int expectedItemsCount,
+            final TotalMode expectedTotalMode,
+            final String expectedTerms,
+            final long expectedTotal,
+            final boolean expectedHasNext,
+            final String expectedGenres
+    ) {
+        mockGenres();
+
+        //given
+        final var expectedSort = "name";
+        final var expectedDirection = "asc";
+
+        final var aQuery =
+                new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection, expectedTotalMode);
+
+        // when
+        final var actualPage = genreGateway.findAll(aQuery);
+
+        // then
+        assertEquals(expectedPage, actualPage.currentPage());
+        assertEquals(expectedPerPage, actualPage.perPage());
+        assertEquals(expectedTotal, actualPage.total());
+        assertEquals(expectedHasNext, actualPage.hasNext());
+        assertEquals(expectedItemsCount, actualPage.items().size());
+
+        int index = 0;
+        for (final var expectedName : expectedGenres.split(";")) {
+            assertEquals(expectedName, actualPage.items().get(index).name());
+            index++;
+        }
+    }
+
+    @Test
+    public void givenGenresWithAndWithoutCategories_whenCallsExportAll_shouldStreamEachGenreOnceWithItsCategories() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var acao = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId(), series.getId())));
+        final var drama = genreGateway.create(Genre.newGenre("Drama", true).addCategory(series.getId()));
+        final var terror = genreGateway.create(Genre.newGenre("Terror", false));
+
+        // when
+        final var actualGenres = new ArrayList<GenrePreview>();
+        genreGateway.exportAll(actualGenres::add);
+
+        // then
+        assertEquals(3, actualGenres.size());
+
+        final var actualById = actualGenres.stream()
+                .collect(Collectors.toMap(GenrePreview::id, Function.identity()));
+
+        assertEquals(sortedCategories(acao.getCategories()), sortedCategories(actualById.get(acao.getId()).categories()));
+        assertEquals(drama.getCategories(), actualById.get(drama.getId()).categories());
+        assertTrue(actualById.get(terror.getId()).categories().isEmpty());
+        assertFalse(actualById.get(terror.getId()).active());
+    }
+
     private void mockGenres() {
         genreRepository.saveAllAndFlush(List.of(
                 GenreJpaEntity.from(Genre.newGenre("Comédia romântica", true)),
@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinaryIdTypeTest {
+
+    @Test
+    public void givenAValidId_whenConvertsToBytesAndBack_shouldReturnTheSameId() {
+        // given
+        final var expectedId = IdUtils.uuid();
+
+        // when
+        final var actualBytes = BinaryIdType.toBytes(expectedId);
+        final var actualId = BinaryIdType.toHex(actualBytes);
+
+        // then
+        assertEquals(16, actualBytes.length);
+        assertEquals(expectedId, actualId);
+    }
+
+    @Test
+    public void givenAnUppercaseId_whenConvertsToBytesAndBack_shouldReturnTheLowercaseId() {
+        // given
+        final var expectedId = IdUtils.uuid();
+
+        // when
+        final var actualId = BinaryIdType.toHex(BinaryIdType.toBytes(expectedId.toUpperCase()));
+
+        // then
+        assertEquals(expectedId, actualId);
+    }
+
+    @Test
+    public void givenAnInvalidId_whenConvertsToBytes_shouldNeverMatchAStoredId() {
+        // given
+        final var expectedIds = new String[]{"123", "invalid", "", "z".repeat(32), "a".repeat(40)};
+
+        for (final var anId : expectedIds) {
+            // when
+            final var actualBytes = BinaryIdType.toBytes(anId);
+
+            // then
+            assertTrue(actualBytes.length > 16, anId);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NameIndexTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "fil,1",
+            "FILMES,1",
+            "series,2",
+            "rie,2",
+            "mais assistida,3",
+            "documentario,",
+    })
+    public void givenIndexedEntries_whenCallsSearch_shouldMatchLikeContains(
+            final String expectedTerms,
+            final String expectedIds
+    ) {
+        // given
+        final var target = new NameIndex();
+        target.rebuild(List.of(
+                new NameEntry("1", "Filmes", null),
+                new NameEntry("2", "Séries", null),
+                new NameEntry("3", "Desenhos", "A categoria mais assistida")
+        ));
+
+        final var expected = expectedIds == null ? Set.of() : Set.of(expectedIds.split(";"));
+
+        // when
+        final var actualIds = target.search(expectedTerms, 10).orElseThrow();
+
+        // then
+        assertEquals(expected, actualIds);
+    }
+
+    @Test
+    public void givenAnIndexedEntry_whenCallsPutWithANewName_shouldReplaceOldGrams() {
+        // given
+        final var target = new NameIndex();
+        target.rebuild(List.of());
+        target.put(new NameEntry("1", "Filmes"));
+
+        // when
+        target.put(new NameEntry("1", "Documentários"));
+
+        // then
+        assertTrue(target.search("filmes", 10).orElseThrow().isEmpty());
+        assertEquals(Set.of("1"), target.search("docu", 10).orElseThrow());
+        assertEquals(1, target.size());
+    }
+
+    @Test
+    public void givenAnIndexedEntry_whenCallsRemove_shouldNotFindIt() {
+        // given
+        final var target = new NameIndex();
+        target.rebuild(List.of());
+        target.put(new NameEntry("1", "Filmes"));
+
+        // when
+        target.remove("1");
+
+        // then
+        assertTrue(target.search("fil", 10).orElseThrow().isEmpty());
+        assertEquals(0, target.size());
+    }
+
+    @Test
+    public void givenATermShorterThanATrigram_whenCallsSearch_shouldLeaveItToTheDatabase() {
+        // given
+        final var target = new NameIndex();
+        target.rebuild(List.of());
+        target.put(new NameEntry("1", "Filmes"));
+
+        // when
+        final var actualIds = target.search("fi", 10);
+
+        // then
+        assertTrue(actualIds.isEmpty());
+    }
+
+    @Test
+    public void givenMoreMatchesThanTheLimit_whenCallsSearch_shouldLeaveItToTheDatabase() {
+        // given
+        final var target = new NameIndex();
+        target.rebuild(List.of(
+                new NameEntry("1", "Filmes"),
+                new NameEntry("2", "Filmes antigos"),
+                new NameEntry("3", "Filmes novos")
+        ));
+
+        // when / then
+        assertTrue(target.search("filmes", 2).isEmpty());
+        assertEquals(Set.of("1", "2", "3"), target.search("filmes", 3).orElseThrow());
+    }
+
+    @Test
+    public void givenAnIndexNotLoaded_whenCallsSearch_shouldLeaveItToTheDatabase() {
+        // given
+        final var target = new NameIndex();
+        target.put(new NameEntry("1", "Filmes"));
+
+        // when
+        final var actualIds = target.search("filmes", 10);
+
+        // then
+        assertFalse(target.isReady());
+        assertTrue(actualIds.isEmpty());
+    }
+
+    @Test
+    public void givenAPutWhileLoading_whenRefreshFinishes_shouldKeepThePut() {
+        // given
+        final var target = new NameIndex();
+
+        // when
+        target.refresh(1L, () -> {
+            target.put(new NameEntry("2", "Séries"));
+            return List.of(new NameEntry("1", "Filmes"));
+        });
+
+        // then
+        assertEquals(Set.of("1"), target.search("filmes", 10).orElseThrow());
+        assertEquals(Set.of("2"), target.search("series", 10).orElseThrow());
+    }
+
+    @Test
+    public void givenALoadedIndex_whenCallsRefreshWithTheSameVersion_shouldNotReload() {
+        // given
+        final var target = new NameIndex();
+        final var loads = new AtomicInteger();
+        final Supplier<List<NameEntry>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of(new NameEntry("1", "Filmes"));
+        };
+
+        // when
+        target.refresh(1L, loader);
+        target.refresh(1L, loader);
+        target.refresh(2L, loader);
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void givenAFailingLoad_whenCallsRefresh_shouldKeepTheIndexNotReady() {
+        // given
+        final var target = new NameIndex();
+
+        // when
+        assertThrows(IllegalStateException.class, () -> target.refresh(1L, () -> {
+            throw new IllegalStateException("database down");
+        }));
+        target.put(new NameEntry("1", "Filmes"));
+
+        // then
+        assertFalse(target.isReady());
+        assertTrue(target.search("filmes", 10).isEmpty());
+    }
+}
@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryCacheTest {
+
+    @Test
+    public void givenEquivalentQueries_whenCallsGet_shouldLoadOnce() {
+        // given
+        final var target = new SearchQueryCache<String>("test", 10, Duration.ofMinutes(1));
+        final var loads = new AtomicInteger();
+
+        // when
+        final var first = target.get(new SearchQuery(0, 10, " Filmes ", "name", "ASC"), () -> "v" + loads.incrementAndGet());
+        final var second = target.get(new SearchQuery(0, 10, "filmes", "name", "asc"), () -> "v" + loads.incrementAndGet());
+
+        // then
+        assertEquals("v1", first);
+        assertEquals("v1", second);
+        assertEquals(1, loads.get());
+        assertEquals(1, target.stats().hitCount());
+        assertEquals(1, target.stats().missCount());
+    }
+
+    @Test
+    public void givenACachedQuery_whenCallsInvalidate_shouldLoadAgain() {
+        // given
+        final var target = new SearchQueryCache<String>("test", 10, Duration.ofMinutes(1));
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        final var loads = new AtomicInteger();
+
+        target.get(aQuery, () -> "v" + loads.incrementAndGet());
+
+        // when
+        target.invalidate();
+        final var actual = target.get(aQuery, () -> "v" + loads.incrementAndGet());
+
+        // then
+        assertEquals("v2", actual);
+        assertEquals(1, target.generation());
+        assertEquals(2, target.stats().missCount());
+    }
+
+    @Test
+    public void givenAFullCache_whenCallsGet_shouldEvictOldEntries() {
+        // given
+        final var target = new SearchQueryCache<Integer>("test", 2, Duration.ofMinutes(1));
+
+        // when
+        for (int page = 0; page < 5; page++) {
+            final var aPage = page;
+            target.get(new SearchQuery(page, 10, "", "name", "asc"), () -> aPage);
+        }
+
+        // then
+        assertTrue(target.stats().evictionCount() >= 3);
+    }
+}
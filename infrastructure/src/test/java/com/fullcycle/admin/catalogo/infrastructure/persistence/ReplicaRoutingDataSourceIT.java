@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Dois bancos H2 em memoria: adm_videos_test como primario e adm_videos_replica como replica
+@IntegrationTest
+@TestPropertySource(properties = "database.replica.enabled=true")
+public class ReplicaRoutingDataSourceIT {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @BeforeEach
+    public void setUp() {
+        this.lagMonitor.refresh();
+    }
+
+    @Test
+    public void givenAReadOnlyTransaction_whenQueries_shouldReadFromTheReplica() {
+        final var readOnly = new TransactionTemplate(this.transactionManager);
+        readOnly.setReadOnly(true);
+
+        final var actualUrl = readOnly.execute(status -> connectionUrl());
+
+        assertTrue(this.lagMonitor.isReplicaAvailable());
+        assertTrue(actualUrl.contains("adm_videos_replica"));
+    }
+
+    @Test
+    public void givenAReadWriteTransaction_whenQueries_shouldUseThePrimary() {
+        final var readWrite = new TransactionTemplate(this.transactionManager);
+
+        final var actualUrl = readWrite.execute(status -> connectionUrl());
+
+        assertTrue(actualUrl.contains("adm_videos_test"));
+    }
+
+    private String connectionUrl() {
+        return this.jdbcTemplate.execute((ConnectionCallback<String>) conn -> conn.getMetaData().getURL());
+    }
+}
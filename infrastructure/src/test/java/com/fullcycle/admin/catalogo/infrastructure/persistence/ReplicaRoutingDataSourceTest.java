@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = Mockito.mock(DataSource.class);
+    private final DataSource replica = Mockito.mock(DataSource.class);
+    private final ReplicaLagMonitor lagMonitor = Mockito.mock(ReplicaLagMonitor.class);
+
+    @AfterEach
+    public void cleanUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    public void givenAReadOnlyTransaction_whenCallsGetConnection_shouldUseTheReplica() throws Exception {
+        // given
+        final var expectedConnection = Mockito.mock(Connection.class);
+        when(replica.getConnection()).thenReturn(expectedConnection);
+        when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+
+        final var target = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        final var actualConnection = target.getConnection();
+
+        // then
+        assertSame(expectedConnection, actualConnection);
+    }
+
+    @Test
+    public void givenAReadWriteTransaction_whenCallsGetConnection_shouldUseThePrimary() throws Exception {
+        // given
+        final var expectedConnection = Mockito.mock(Connection.class);
+        when(primary.getConnection()).thenReturn(expectedConnection);
+        when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+
+        final var target = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+
+        // when
+        final var actualConnection = target.getConnection();
+
+        // then
+        assertSame(expectedConnection, actualConnection);
+    }
+
+    @Test
+    public void givenALaggingReplica_whenCallsGetConnectionInAReadOnlyTransaction_shouldFallBackToThePrimary() throws Exception {
+        // given
+        final var expectedConnection = Mockito.mock(Connection.class);
+        when(primary.getConnection()).thenReturn(expectedConnection);
+        when(lagMonitor.isReplicaAvailable()).thenReturn(false);
+
+        final var target = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        final var actualConnection = target.getConnection();
+
+        // then
+        assertSame(expectedConnection, actualConnection);
+    }
+}
@@ -1,10 +1,17 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
 import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -14,15 +21,30 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.cloud.storage.Storage.BlobListOption.prefix;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -42,13 +64,21 @@ public class GCStorageServiceTest {
     }
 
     @Test
-    public void givenValidResource_whenCallsStore_shouldPersistIt() {
+    public void givenValidResource_whenCallsStore_shouldPersistIt() throws IOException {
         // given
         final var expectedName = IdUtils.uuid();
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
 
-        final var blob = mockBlob(expectedName, expectedResource);
-        doReturn(blob).when(storage).create(any(BlobInfo.class), any());
+        final var actualContent = new ByteArrayOutputStream();
+        final var writer = Mockito.mock(WriteChannel.class);
+        when(writer.write(any())).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var written = buffer.remaining();
+            actualContent.write(buffer.array(), buffer.arrayOffset() + buffer.position(), written);
+            buffer.position(buffer.limit());
+            return written;
+        });
+        doReturn(writer).when(storage).writer(any(BlobInfo.class));
 
         // when
         this.target.store(expectedName, expectedResource);
@@ -56,17 +86,60 @@ public class GCStorageServiceTest {
         // then
         final var captor = ArgumentCaptor.forClass(BlobInfo.class);
 
-        verify(storage, times(1)).create(captor.capture(), eq(expectedResource.content()));
+        verify(storage, times(1)).writer(captor.capture());
+        verify(storage, never()).create(any(BlobInfo.class), any(byte[].class));
+        verify(writer, times(1)).close();
 
         final var actualBlob = captor.getValue();
         assertEquals(this.bucket, actualBlob.getBlobId().getBucket());
         assertEquals(expectedName, actualBlob.getBlobId().getName());
         assertEquals(expectedResource.checksum(), actualBlob.getCrc32cToHexString());
         assertEquals(expectedResource.contentType(), actualBlob.getContentType());
+        assertArrayEquals(expectedResource.content(), actualContent.toByteArray());
+    }
+
+    @Test
+    public void givenAStreamedResource_whenCallsStore_shouldCopyItInChunks() throws IOException {
+        // given
+        final var expectedName = IdUtils.uuid();
+        final var expectedChunkSize = 256 * 1024;
+        final var expectedContent = new byte[expectedChunkSize * 3 + 17];
+        new Random(42).nextBytes(expectedContent);
+
+        final var expectedResource = Resource.with(
+                IdUtils.uuid(),
+                expectedContent.length,
+                () -> new ByteArrayInputStream(expectedContent),
+                "video/mp4",
+                "video"
+        );
+
+        final var actualContent = new ByteArrayOutputStream();
+        final var actualLargestWrite = new AtomicInteger();
+        final var writer = Mockito.mock(WriteChannel.class);
+        when(writer.write(any())).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var written = buffer.remaining();
+            actualLargestWrite.accumulateAndGet(written, Math::max);
+            actualContent.write(buffer.array(), buffer.arrayOffset() + buffer.position(), written);
+            buffer.position(buffer.limit());
+            return written;
+        });
+        doReturn(writer).when(storage).writer(any(BlobInfo.class));
+
+        final var aTarget = new GCStorageService(this.bucket, expectedChunkSize, this.storage);
+
+        // when
+        aTarget.store(expectedName, expectedResource);
+
+        // then
+        verify(writer, times(1)).setChunkSize(expectedChunkSize);
+        assertTrue(actualLargestWrite.get() <= expectedChunkSize);
+        assertArrayEquals(expectedContent, actualContent.toByteArray());
     }
 
     @Test
-    public void givenValidResource_whenCallsGet_shouldRetrieveIt() {
+    public void givenValidResource_whenCallsGet_shouldRetrieveIt() throws IOException {
         // given
         final var expectedName = IdUtils.uuid();
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
@@ -79,8 +152,45 @@ public class GCStorageServiceTest {
 
         // then
         verify(storage, times(1)).get(eq(this.bucket), eq(expectedName));
+        verify(blob, never()).getContent();
+
+        assertEquals(expectedResource.checksum(), actualResource.checksum());
+        assertEquals(expectedResource.length(), actualResource.length());
+        assertEquals(expectedResource.contentType(), actualResource.contentType());
+        assertEquals(expectedResource.name(), actualResource.name());
+        assertFalse(actualResource.isInMemory());
 
-        assertEquals(expectedResource, actualResource);
+        try (final var actualContent = actualResource.openStream()) {
+            assertArrayEquals(expectedResource.content(), actualContent.readAllBytes());
+        }
+    }
+
+    @Test
+    public void givenValidResource_whenOpensARange_shouldSeekAndLimitTheReadChannel() throws IOException {
+        // given
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "0123456789".getBytes();
+        final var expectedOffset = 2L;
+        final var expectedLength = 5L;
+
+        // O GCS devolve so o intervalo pedido
+        final var reader = readChannel(Arrays.copyOfRange(expectedContent, 2, 7));
+
+        final var blob = mockBlob(expectedName, Resource.with("abc", expectedContent, "video/mp4", "video"));
+        when(blob.reader(any(Blob.BlobSourceOption.class))).thenReturn(reader);
+        doReturn(blob).when(storage).get(anyString(), anyString());
+
+        // when
+        final var actualResource = this.target.get(expectedName).get();
+
+        // then
+        try (final var actualContent = actualResource.openStream(expectedOffset, expectedLength)) {
+            assertArrayEquals("23456".getBytes(), actualContent.readAllBytes());
+        }
+
+        verify(reader, times(1)).seek(expectedOffset);
+        verify(reader, times(1)).limit(expectedOffset + expectedLength);
+        verify(blob, never()).getContent();
     }
 
     @Test
@@ -152,15 +262,104 @@ public class GCStorageServiceTest {
                 && expectedResources.containsAll(actualResources));
     }
 
+    @Test
+    public void givenChunks_whenCallsUploadInParts_shouldSendThemToTheResumableSession() throws IOException {
+        // given
+        final var expectedName = IdUtils.uuid();
+        final var expectedSession = "https://storage.googleapis.com/upload/storage/v1/b/fc3_test/o?uploadType=resumable&upload_id=abc";
+        final var aFirstChunk = new byte[ResumableUploadClient.CHUNK_ALIGNMENT];
+        final var aLastChunk = "fim".getBytes();
+        final var expectedLength = aFirstChunk.length + aLastChunk.length;
+
+        final var transport = new RecordingTransport(
+                new MockLowLevelHttpResponse().addHeader("Location", expectedSession),
+                new MockLowLevelHttpResponse().setStatusCode(308).addHeader("Range", "bytes=0-%d".formatted(aFirstChunk.length - 1)),
+                new MockLowLevelHttpResponse().setStatusCode(200),
+                new MockLowLevelHttpResponse().setStatusCode(200)
+        );
+        final var target = uploadTarget(transport);
+
+        // when
+        final var actualSession = target.initiateUpload(expectedName, "video/mp4", "1a2b3c4d");
+        final var actualFirstSession = target.appendUpload(actualSession, 0, expectedLength, chunk(aFirstChunk));
+        final var actualLastSession = target.appendUpload(actualFirstSession, aFirstChunk.length, expectedLength, chunk(aLastChunk));
+        target.completeUpload(actualLastSession);
+
+        // then
+        assertEquals(expectedSession, actualSession);
+        assertEquals(expectedSession, actualLastSession);
+
+        assertEquals(4, transport.requests.size());
+        assertEquals("https://storage.googleapis.com/upload/storage/v1/b/fc3_test/o?uploadType=resumable", transport.requests.get(0).getUrl());
+        assertTrue(transport.requests.get(0).getContentAsString().contains("\"name\":\"%s\"".formatted(expectedName)));
+        assertEquals("bytes 0-%d/*".formatted(aFirstChunk.length - 1), transport.requests.get(1).getFirstHeaderValue("Content-Range"));
+        assertEquals("bytes %d-%d/%d".formatted(aFirstChunk.length, expectedLength - 1, expectedLength), transport.requests.get(2).getFirstHeaderValue("Content-Range"));
+        assertEquals("bytes */*", transport.requests.get(3).getFirstHeaderValue("Content-Range"));
+    }
+
+    @Test
+    public void givenAnUnalignedChunkOrAForeignSession_whenCallsAppendUpload_shouldNotSendIt() {
+        // given
+        final var aSession = "https://storage.googleapis.com/upload/storage/v1/b/fc3_test/o?uploadType=resumable&upload_id=abc";
+        final var transport = new RecordingTransport();
+        final var target = uploadTarget(transport);
+
+        // when
+        final var actualException = assertThrows(DomainException.class,
+                () -> target.appendUpload(aSession, 0, 1000, chunk(new byte[10])));
+
+        // then
+        assertEquals("Chunks must be multiples of 262144 bytes, except the last one", actualException.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> target.appendUpload("https://attacker.example/upload?upload_id=abc", 0, 10, chunk(new byte[10])));
+        assertTrue(transport.requests.isEmpty());
+    }
+
+    private GCStorageService uploadTarget(final MockHttpTransport transport) {
+        final var client = new ResumableUploadClient("https://storage.googleapis.com", this.bucket, transport.createRequestFactory(), transport.createRequestFactory());
+        return new GCStorageService(this.bucket, 0, this.storage, () -> client);
+    }
+
+    private static Resource chunk(final byte[] content) {
+        return Resource.with("a", content, "application/octet-stream", "chunk");
+    }
+
+    // Responde na ordem recebida e guarda cada requisicao enviada
+    private static class RecordingTransport extends MockHttpTransport {
+
+        private final Deque<MockLowLevelHttpResponse> responses;
+        private final List<MockLowLevelHttpRequest> requests = new ArrayList<>();
+
+        RecordingTransport(final MockLowLevelHttpResponse... responses) {
+            this.responses = new ArrayDeque<>(List.of(responses));
+        }
+
+        @Override
+        public LowLevelHttpRequest buildRequest(final String method, final String url) {
+            final var request = new MockLowLevelHttpRequest(url).setResponse(this.responses.removeFirst());
+            this.requests.add(request);
+            return request;
+        }
+    }
+
     private Blob mockBlob(final String name, final Resource expectedResource) {
         final var blob = Mockito.mock(Blob.class);
 
         when(blob.getBlobId()).thenReturn(BlobId.of(this.bucket, name));
         when(blob.getCrc32cToHexString()).thenReturn(expectedResource.checksum());
-        when(blob.getContent()).thenReturn(expectedResource.content());
+        when(blob.getSize()).thenReturn(expectedResource.length());
+        when(blob.reader(any(Blob.BlobSourceOption.class))).thenAnswer(invocation -> readChannel(expectedResource.content()));
         when(blob.getContentType()).thenReturn(expectedResource.contentType());
         when(blob.getName()).thenReturn(expectedResource.name());
 
         return blob;
     }
+
+    private static ReadChannel readChannel(final byte[] content) throws IOException {
+        final var source = Channels.newChannel(new ByteArrayInputStream(content));
+        final var reader = Mockito.mock(ReadChannel.class);
+        when(reader.isOpen()).thenReturn(true);
+        when(reader.read(any())).thenAnswer(invocation -> source.read(invocation.getArgument(0)));
+        return reader;
+    }
 }
\ No newline at end of file
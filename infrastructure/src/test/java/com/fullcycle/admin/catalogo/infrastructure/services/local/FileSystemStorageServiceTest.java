@@ -0,0 +1,220 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileSystemStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemStorageService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.target = new FileSystemStorageService(this.root);
+    }
+
+    @Test
+    public void givenAStreamedResource_whenCallsStoreAndGet_shouldReturnItsContentAndMetadata() throws IOException {
+        // given
+        final var expectedName = "videoId-%s/type-VIDEO".formatted(IdUtils.uuid());
+        final var expectedContent = "Conteudo do video".getBytes();
+
+        // when
+        target.store(expectedName, Resource.with("1a2b3c4d", expectedContent.length, () -> new ByteArrayInputStream(expectedContent), "video/mp4", "video.mp4"));
+
+        // then
+        final var actualResource = target.get(expectedName).get();
+        assertEquals(expectedContent.length, actualResource.length());
+        assertEquals("1a2b3c4d", actualResource.checksum());
+        assertEquals("video/mp4", actualResource.contentType());
+        assertEquals(expectedName, actualResource.name());
+        assertFalse(actualResource.isInMemory());
+        assertArrayEquals(expectedContent, actualResource.content());
+
+        try (final var in = actualResource.openStream(4, 7)) {
+            assertArrayEquals("eudo do".getBytes(), in.readAllBytes());
+        }
+
+        final var out = new ByteArrayOutputStream();
+        assertEquals(5, actualResource.transferTo(12, 5, out));
+        assertArrayEquals("video".getBytes(), out.toByteArray());
+    }
+
+    @Test
+    public void givenAnExistingResource_whenCallsStore_shouldReplaceIt() {
+        // given
+        final var expectedName = IdUtils.uuid();
+        target.store(expectedName, Resource.with("a", "antigo".getBytes(), "image/png", "banner"));
+
+        // when
+        target.store(expectedName, Resource.with("b", "novo".getBytes(), "image/jpeg", "banner"));
+
+        // then
+        final var actualResource = target.get(expectedName).get();
+        assertArrayEquals("novo".getBytes(), actualResource.content());
+        assertEquals("b", actualResource.checksum());
+        assertEquals("image/jpeg", actualResource.contentType());
+    }
+
+    @Test
+    public void givenInvalidName_whenCallsGet_shouldBeEmpty() {
+        assertTrue(target.get(IdUtils.uuid()).isEmpty());
+    }
+
+    @Test
+    public void givenANameOutsideTheRoot_whenCallsStore_shouldThrowAnError() {
+        final var aResource = Resource.with("a", "x".getBytes(), "image/png", "banner");
+
+        assertThrows(IllegalArgumentException.class, () -> target.store("../escape", aResource));
+    }
+
+    @Test
+    public void givenValidPrefix_whenCallsList_shouldRetrieveAll() {
+        // given
+        final var anId = IdUtils.uuid();
+        final var expectedNames = List.of(
+                "videoId-%s/type-VIDEO".formatted(anId),
+                "videoId-%s/type-BANNER".formatted(anId)
+        );
+
+        expectedNames.forEach(name -> target.store(name, Resource.with("a", "x".getBytes(), "image/png", "banner")));
+        target.store("videoId-%s/type-VIDEO".formatted(IdUtils.uuid()), Resource.with("a", "x".getBytes(), "image/png", "banner"));
+
+        // when
+        final var actualNames = target.list("videoId-%s".formatted(anId));
+
+        // then
+        assertEquals(Set.copyOf(expectedNames), Set.copyOf(actualNames));
+    }
+
+    @Test
+    public void givenValidNames_whenCallsDelete_shouldDeleteAll() {
+        // given
+        final var expectedName = "image_" + IdUtils.uuid();
+        final var videos = List.of("video_" + IdUtils.uuid(), "video_" + IdUtils.uuid());
+
+        videos.forEach(name -> target.store(name, Resource.with("a", "x".getBytes(), "video/mp4", "video")));
+        target.store(expectedName, Resource.with("a", "x".getBytes(), "image/png", "banner"));
+
+        // when
+        target.deleteAll(videos);
+
+        // then
+        assertEquals(List.of(expectedName), target.list(""));
+    }
+
+    @Test
+    public void givenChunks_whenCallsUploadInParts_shouldStoreOnlyAfterComplete() throws IOException {
+        // given
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Conteudo do video".getBytes();
+
+        // when
+        final var aSession = target.initiateUpload(expectedName, "video/mp4", "1a2b3c4d");
+        target.appendUpload(aSession, 0, expectedContent.length, Resource.with("a", Arrays.copyOfRange(expectedContent, 0, 8), "application/octet-stream", "chunk"));
+        target.appendUpload(aSession, 8, expectedContent.length, Resource.with("b", Arrays.copyOfRange(expectedContent, 8, expectedContent.length), "application/octet-stream", "chunk"));
+
+        assertTrue(target.get(expectedName).isEmpty());
+
+        target.completeUpload(aSession);
+
+        // then
+        final var actualResource = target.get(expectedName).get();
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals("1a2b3c4d", actualResource.checksum());
+        assertEquals("video/mp4", actualResource.contentType());
+
+        try (final var staged = Files.list(this.root.resolve("staging"))) {
+            assertEquals(0, staged.count());
+        }
+    }
+
+    @Test
+    public void givenARetriedChunk_whenCallsAppendUploadWithTheSameOffset_shouldNotDuplicateIt() {
+        // given
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Conteudo do video".getBytes();
+        final var firstChunk = Resource.with("a", Arrays.copyOfRange(expectedContent, 0, 8), "application/octet-stream", "chunk");
+        final var lastChunk = Resource.with("b", Arrays.copyOfRange(expectedContent, 8, expectedContent.length), "application/octet-stream", "chunk");
+
+        final var aSession = target.initiateUpload(expectedName, "video/mp4", "1a2b3c4d");
+        target.appendUpload(aSession, 0, expectedContent.length, firstChunk);
+        target.appendUpload(aSession, 8, expectedContent.length, lastChunk);
+
+        // when
+        target.appendUpload(aSession, 8, expectedContent.length, lastChunk);
+        target.completeUpload(aSession);
+
+        // then
+        assertArrayEquals(expectedContent, target.get(expectedName).get().content());
+    }
+
+    @Test
+    public void givenAnOffsetBeyondTheUploadedBytes_whenCallsAppendUpload_shouldThrowAnError() {
+        // given
+        final var aSession = target.initiateUpload(IdUtils.uuid(), "video/mp4", "1a2b3c4d");
+        final var aChunk = Resource.with("a", "parte".getBytes(), "application/octet-stream", "chunk");
+
+        // when
+        final var actualException = assertThrows(IllegalArgumentException.class, () -> target.appendUpload(aSession, 5, 10, aChunk));
+
+        // then
+        assertEquals("Chunk offset 5 is beyond the uploaded bytes", actualException.getMessage());
+    }
+
+    @Test
+    public void givenAnInterruptedStore_whenStarts_shouldDiscardTheStagedFile() throws IOException {
+        // given
+        final var aStaged = Files.writeString(this.root.resolve("staging").resolve(IdUtils.uuid() + ".tmp"), "meio arquivo");
+
+        // when
+        new FileSystemStorageService(this.root);
+
+        // then
+        assertFalse(Files.exists(aStaged));
+    }
+
+    @Test
+    public void givenAnAbandonedUpload_whenStarts_shouldDeleteOnlyTheExpiredSession() throws IOException {
+        // given
+        final var anExpired = target.initiateUpload(IdUtils.uuid(), "video/mp4", "1a2b3c4d");
+        final var anActive = target.initiateUpload(IdUtils.uuid(), "video/mp4", "1a2b3c4d");
+        final var aChunk = Resource.with("a", "parte".getBytes(), "application/octet-stream", "chunk");
+
+        Files.setLastModifiedTime(
+                this.root.resolve("staging").resolve(anExpired + ".upload"),
+                FileTime.from(Instant.now().minus(Duration.ofDays(2)))
+        );
+
+        // when
+        new FileSystemStorageService(this.root, Duration.ofDays(1));
+
+        // then
+        assertThrows(UncheckedIOException.class, () -> target.appendUpload(anExpired, 0, 5, aChunk));
+        assertEquals(anActive, target.appendUpload(anActive, 0, 5, aChunk));
+    }
+}
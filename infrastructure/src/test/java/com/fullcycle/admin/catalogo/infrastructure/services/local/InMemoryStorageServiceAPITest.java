@@ -1,17 +1,23 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.local;
 
 import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class InMemoryStorageServiceAPITest {
@@ -22,6 +28,11 @@ public class InMemoryStorageServiceAPITest {
         this.target.reset();
     }
 
+    @AfterEach
+    public void tearDown() {
+        this.target.close();
+    }
+
     @Test
     public void givenValidResource_whenCallsStore_shouldStoreIt() {
         // given
@@ -130,4 +141,68 @@ public class InMemoryStorageServiceAPITest {
         assertEquals(2, target.storage().size());
         assertEquals(expectedNames, target.storage().keySet());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenChunks_whenCallsUploadInParts_shouldStoreOnlyAfterComplete() {
+        // given
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Conteudo do video".getBytes();
+
+        // when
+        final var aSession = target.initiateUpload(expectedName, "video/mp4", "1a2b3c4d");
+        target.appendUpload(aSession, 0, expectedContent.length, Resource.with("a", Arrays.copyOfRange(expectedContent, 0, 8), "application/octet-stream", "chunk"));
+        target.appendUpload(aSession, 8, expectedContent.length, Resource.with("b", Arrays.copyOfRange(expectedContent, 8, expectedContent.length), "application/octet-stream", "chunk"));
+
+        assertTrue(target.get(expectedName).isEmpty());
+
+        target.completeUpload(aSession);
+
+        // then
+        final var actualResource = target.get(expectedName).get();
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals("1a2b3c4d", actualResource.checksum());
+        assertEquals("video/mp4", actualResource.contentType());
+        assertEquals(aSession, UUID.fromString(aSession).toString());
+    }
+
+    @Test
+    public void givenARetriedChunk_whenCallsAppendUploadWithTheSameOffset_shouldNotDuplicateIt() {
+        // given
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Conteudo do video".getBytes();
+        final var firstChunk = Resource.with("a", Arrays.copyOfRange(expectedContent, 0, 8), "application/octet-stream", "chunk");
+        final var lastChunk = Resource.with("b", Arrays.copyOfRange(expectedContent, 8, expectedContent.length), "application/octet-stream", "chunk");
+
+        final var aSession = target.initiateUpload(expectedName, "video/mp4", "1a2b3c4d");
+        target.appendUpload(aSession, 0, expectedContent.length, firstChunk);
+        target.appendUpload(aSession, 8, expectedContent.length, lastChunk);
+
+        // when
+        target.appendUpload(aSession, 8, expectedContent.length, lastChunk);
+        target.completeUpload(aSession);
+
+        // then
+        assertArrayEquals(expectedContent, target.get(expectedName).get().content());
+    }
+
+    @Test
+    public void givenAnUnfinishedUpload_whenCallsClose_shouldDeleteTheSession() {
+        // given
+        final var aSession = target.initiateUpload(IdUtils.uuid(), "video/mp4", "1a2b3c4d");
+        final var aChunk = Resource.with("a", "parte".getBytes(), "application/octet-stream", "chunk");
+
+        // when
+        target.close();
+
+        // then
+        assertThrows(UncheckedIOException.class, () -> target.appendUpload(aSession, 0, 5, aChunk));
+    }
+
+    @Test
+    public void givenAPathAsSession_whenCallsAppendUpload_shouldThrowAnError() {
+        final var aChunk = Resource.with("a", "x".getBytes(), "application/octet-stream", "chunk");
+
+        assertThrows(IllegalArgumentException.class, () -> target.appendUpload("/tmp/../etc", 0, 1, aChunk));
+        assertThrows(IllegalArgumentException.class, () -> target.completeUpload("/tmp/../etc"));
+    }
+}
@@ -1,8 +1,11 @@
 package com.fullcycle.admin.catalogo.infrastructure.video;
 
 import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
@@ -13,12 +16,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
 
 import static com.fullcycle.admin.catalogo.domain.Fixture.Videos.mediaType;
 import static com.fullcycle.admin.catalogo.domain.Fixture.Videos.resource;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @IntegrationTest
@@ -56,7 +65,7 @@ class DefaultMediaResourceGatewayTest {
 
         // when
         final var actualMedia =
-                this.mediaResourceGateway.storeAudioVideo(expectedVideoId, VideoResource.with(expectedResource, expectedType));
+                this.mediaResourceGateway.storeAudioVideo(expectedVideoId, VideoResource.with(expectedType, expectedResource));
 
         // then
         assertNotNull(actualMedia.id());
@@ -81,7 +90,7 @@ class DefaultMediaResourceGatewayTest {
 
         // when
         final var actualMedia =
-                this.mediaResourceGateway.storeImage(expectedVideoId, VideoResource.with(expectedResource, expectedType));
+                this.mediaResourceGateway.storeImage(expectedVideoId, VideoResource.with(expectedType, expectedResource));
 
         // then
         assertNotNull(actualMedia.id());
@@ -167,6 +176,55 @@ class DefaultMediaResourceGatewayTest {
         );
     }
 
+    @Test
+    public void givenChunksWithTheirCrc32c_whenCallsUploadInParts_shouldStoreTheVideo() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedContent = "Conteudo do video".getBytes();
+        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), VideoMediaType.VIDEO.name());
+        final var anUpload = MediaUpload.newUpload(expectedVideoId, VideoMediaType.VIDEO, "video.mp4", "video/mp4", crc32c(expectedContent), expectedContent.length);
+
+        // when
+        anUpload.start(this.mediaResourceGateway.initiateUpload(anUpload));
+        for (final var aChunk : List.of(Arrays.copyOfRange(expectedContent, 0, 8), Arrays.copyOfRange(expectedContent, 8, expectedContent.length))) {
+            final var aSession = this.mediaResourceGateway.uploadChunk(anUpload, chunk(aChunk, crc32c(aChunk)));
+            anUpload.append(anUpload.getUploaded(), aChunk.length, aSession);
+        }
+        final var actualMedia = this.mediaResourceGateway.completeUpload(anUpload);
+
+        // then
+        assertEquals(expectedLocation, actualMedia.rawLocation());
+        assertEquals(anUpload.getChecksum(), actualMedia.checksum());
+        assertArrayEquals(expectedContent, storageService().storage().get(expectedLocation).content());
+    }
+
+    @Test
+    public void givenAChunkWithAWrongCrc32c_whenCallsUploadChunk_shouldReturnError() {
+        // given
+        final var aContent = "Conteudo".getBytes();
+        final var anUpload = MediaUpload.newUpload(VideoID.unique(), VideoMediaType.TRAILER, "trailer.mp4", "video/mp4", crc32c(aContent), aContent.length);
+        anUpload.start(this.mediaResourceGateway.initiateUpload(anUpload));
+
+        final var expectedErrorMessage = "Chunk checksum %s doesn't match the declared 00000000".formatted(crc32c(aContent));
+
+        // when
+        final var actualException = assertThrows(DomainException.class,
+                () -> this.mediaResourceGateway.uploadChunk(anUpload, chunk(aContent, "00000000")));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    private static Resource chunk(final byte[] aContent, final String aChecksum) {
+        return Resource.with(aChecksum, aContent.length, () -> new ByteArrayInputStream(aContent), "application/octet-stream", "chunk");
+    }
+
+    private static String crc32c(final byte[] aContent) {
+        final var crc = new CRC32C();
+        crc.update(aContent);
+        return "%08x".formatted(crc.getValue());
+    }
+
     private InMemoryStorageService storageService() {
         return (InMemoryStorageService) storageService;
     }
@@ -0,0 +1,111 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Year;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@IntegrationTest
+public class DefaultMediaUploadGatewayTest {
+
+    @Autowired
+    private DefaultMediaUploadGateway mediaUploadGateway;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Test
+    public void givenTheCurrentOffset_whenCallsUpdateProgress_shouldAdvanceTheUpload() {
+        // given
+        final var anUpload = mediaUploadGateway.create(upload(10).start("session-0"));
+        final var expectedUpload = copy(anUpload).append(0, 4, "session-1");
+
+        // when
+        final var actualUpdated = mediaUploadGateway.updateProgress(expectedUpload, 0);
+
+        // then
+        assertTrue(actualUpdated);
+
+        final var actualUpload = mediaUploadGateway.findById(anUpload.getId()).get();
+        assertEquals(4, actualUpload.getUploaded());
+        assertEquals("session-1", actualUpload.getSession());
+    }
+
+    @Test
+    public void givenTwoChunksWithTheSameOffset_whenCallsUpdateProgress_shouldAdvanceOnlyOnce() {
+        // given
+        final var anUpload = mediaUploadGateway.create(upload(10).start("session-0"));
+        final var aFirst = copy(anUpload).append(0, 4, "session-1");
+        final var aSecond = copy(anUpload).append(0, 6, "session-2");
+
+        // when
+        final var actualFirst = mediaUploadGateway.updateProgress(aFirst, 0);
+        final var actualSecond = mediaUploadGateway.updateProgress(aSecond, 0);
+
+        // then
+        assertTrue(actualFirst);
+        assertFalse(actualSecond);
+
+        final var actualUpload = mediaUploadGateway.findById(anUpload.getId()).get();
+        assertEquals(4, actualUpload.getUploaded());
+        assertEquals("session-1", actualUpload.getSession());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsUpdateProgress_shouldReturnFalse() {
+        // given
+        final var anUpload = copy(upload(10).start("session-0")).append(0, 4, "session-1");
+
+        // when
+        final var actualUpdated = mediaUploadGateway.updateProgress(anUpload, 0);
+
+        // then
+        assertFalse(actualUpdated);
+        assertTrue(mediaUploadGateway.findById(anUpload.getId()).isEmpty());
+    }
+
+    private MediaUpload upload(final long aLength) {
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Rating.L,
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ));
+        return MediaUpload.newUpload(aVideo.getId(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", "1a2b3c4d", aLength);
+    }
+
+    // Cada requisicao le a propria copia da sessao
+    private static MediaUpload copy(final MediaUpload anUpload) {
+        return MediaUpload.with(
+                anUpload.getId(),
+                anUpload.getVideoId(),
+                anUpload.getType(),
+                anUpload.getName(),
+                anUpload.getContentType(),
+                anUpload.getChecksum(),
+                anUpload.getLength(),
+                anUpload.getUploaded(),
+                anUpload.getSession(),
+                anUpload.getCreatedAt(),
+                anUpload.getUpdatedAt()
+        );
+    }
+}
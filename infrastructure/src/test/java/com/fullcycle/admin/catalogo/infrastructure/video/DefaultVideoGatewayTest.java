@@ -8,29 +8,48 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.TotalMode;
 import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
 import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoPatch;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.BinaryIdType;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoFacetIndex;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoFacetsCache;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManagerFactory;
 import java.time.Year;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @IntegrationTest
@@ -51,6 +70,21 @@ public class DefaultVideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private VideoFacetIndex videoFacetIndex;
+
+    @Autowired
+    private VideoFacetsCache videoFacetsCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private CastMember wesley;
     private CastMember wellington;
 
@@ -72,6 +106,11 @@ public class DefaultVideoGatewayTest {
         business = genreGateway.create(Fixture.Genres.business());
     }
 
+    @AfterEach
+    public void tearDown() {
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics().setStatisticsEnabled(false);
+    }
+
     @Test
     public void testInjection() {
         assertNotNull(videoGateway);
@@ -331,6 +370,146 @@ public class DefaultVideoGatewayTest {
         assertTrue(persistedVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
     }
 
+    @Test
+    public void givenAVideoWithMediaAndRelations_whenCallsCreate_shouldInsertWithoutSelectingFirst() {
+        // given
+        final var aVideo = Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(aulas.getId(), lives.getId()),
+                        Set.of(tech.getId()),
+                        Set.of(wesley.getId())
+                )
+                .setVideo(AudioVideoMedia.with("123", "video", "/media/video"))
+                .setBanner(ImageMedia.with("123", "banner", "/media/banner"));
+
+        final var statistics = statistics();
+
+        // when
+        videoGateway.create(aVideo);
+
+        // then
+        // video + 2 midias + 4 linhas de juncao, sem nenhum SELECT antes dos INSERTs.
+        // Com o batching JDBC cada tabela prepara um unico statement (as 2 categorias vao no mesmo lote)
+        assertEquals(7, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(6, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenManyVideos_whenCallsCreateAll_shouldPersistAllInBatches() {
+        // given
+        final var videos = List.of(
+                Video.newVideo(Fixture.title(), Fixture.Videos.description(), Year.of(Fixture.year()), Fixture.duration(),
+                        Fixture.bool(), Fixture.bool(), Fixture.Videos.rating(), Set.of(aulas.getId()), Set.of(tech.getId()), Set.of(wesley.getId())),
+                Video.newVideo(Fixture.title(), Fixture.Videos.description(), Year.of(Fixture.year()), Fixture.duration(),
+                        Fixture.bool(), Fixture.bool(), Fixture.Videos.rating(), Set.of(lives.getId()), Set.of(tech.getId()), Set.of()),
+                Video.newVideo(Fixture.title(), Fixture.Videos.description(), Year.of(Fixture.year()), Fixture.duration(),
+                        Fixture.bool(), Fixture.bool(), Fixture.Videos.rating(), Set.of(aulas.getId(), lives.getId()), Set.of(), Set.of(wesley.getId()))
+        );
+
+        final var statistics = statistics();
+
+        // when
+        final var actualVideos = videoGateway.createAll(videos);
+
+        // then
+        // 3 videos + 4 categorias + 2 generos + 2 membros, um statement preparado por tabela
+        assertEquals(11, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(4, statistics.getPrepareStatementCount());
+
+        assertEquals(3, actualVideos.size());
+        assertEquals(3, videoRepository.count());
+    }
+
+    @Test
+    public void givenAnUnchangedVideo_whenCallsUpdate_shouldNotWriteAnything() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(aulas.getId(), lives.getId()),
+                        Set.of(tech.getId()),
+                        Set.of(wesley.getId())
+                )
+                .setVideo(AudioVideoMedia.with("123", "video", "/media/video"))
+                .setBanner(ImageMedia.with("123", "banner", "/media/banner")));
+
+        final var statistics = statistics();
+
+        // when
+        videoGateway.update(videoGateway.findById(aVideo.getId()).get());
+
+        // then
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+    }
+
+    @Test
+    public void givenAVideoWithChangedRelations_whenCallsUpdate_shouldWriteOnlyTheDifference() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(aulas.getId()),
+                Set.of(tech.getId(), business.getId()),
+                Set.of(wesley.getId())
+        ));
+
+        final var expectedCategories = Set.of(aulas.getId(), lives.getId());
+        final var expectedGenres = Set.of(tech.getId());
+        final var expectedMembers = Set.of(wesley.getId());
+
+        final var updatedVideo = Video.with(aVideo).update(
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating(),
+                expectedCategories,
+                expectedGenres,
+                expectedMembers
+        );
+
+        final var statistics = statistics();
+
+        // when
+        final var actualVideo = videoGateway.update(updatedVideo);
+
+        // then
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityDeleteCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+
+        assertEquals(expectedCategories, actualVideo.getCategories());
+        assertEquals(expectedGenres, actualVideo.getGenres());
+        assertEquals(expectedMembers, actualVideo.getCastMembers());
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+        assertEquals(expectedCategories, persistedVideo.getCategories());
+        assertEquals(expectedGenres, persistedVideo.getGenres());
+        assertEquals(expectedMembers, persistedVideo.getCastMembers());
+    }
+
     @Test
     public void givenAValidVideoId_whenCallsDeleteById_shouldDeleteIt() {
         // given
@@ -358,6 +537,146 @@ public class DefaultVideoGatewayTest {
         assertEquals(0, videoRepository.count());
     }
 
+    @Test
+    public void givenAVideoWithRelations_whenCallsPatchWithPublishedAndRating_shouldUpdateOnlyThoseColumns() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                false,
+                Rating.L,
+                Set.of(aulas.getId()),
+                Set.of(tech.getId()),
+                Set.of(wesley.getId())
+        ));
+
+        final var aPatch = VideoPatch.with(null, null, null, null, null, true, Rating.AGE_18);
+
+        final var statistics = statistics();
+
+        // when
+        final var actualFound = videoGateway.patch(aVideo.getId(), aPatch);
+
+        // then
+        assertTrue(actualFound);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+        assertTrue(actualVideo.getPublished());
+        assertEquals(Rating.AGE_18, actualVideo.getRating());
+        assertEquals(aVideo.getTitle(), actualVideo.getTitle());
+        assertEquals(aVideo.getDescription(), actualVideo.getDescription());
+        assertEquals(aVideo.getLaunchedAt(), actualVideo.getLaunchedAt());
+        assertEquals(aVideo.getOpened(), actualVideo.getOpened());
+        assertEquals(Set.of(aulas.getId()), actualVideo.getCategories());
+        assertEquals(Set.of(tech.getId()), actualVideo.getGenres());
+        assertEquals(Set.of(wesley.getId()), actualVideo.getCastMembers());
+    }
+
+    @Test
+    public void givenCachedFacets_whenCallsPatchWithRating_shouldCountTheNewRating() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Rating.L,
+                Set.of(aulas.getId()),
+                Set.of(),
+                Set.of()
+        ));
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of());
+        assertEquals(Map.of(Rating.L, 1L), videoGateway.facets(aQuery).ratings());
+
+        // when
+        videoGateway.patch(aVideo.getId(), VideoPatch.with(null, null, null, null, null, null, Rating.AGE_18));
+
+        // then
+        assertEquals(Map.of(Rating.AGE_18, 1L), videoGateway.facets(aQuery).ratings());
+        assertEquals(Rating.AGE_18, videoRepository.findById(aVideo.getId().getValue()).get().getRating());
+    }
+
+    @Test
+    public void givenAnInvalidVideoId_whenCallsPatch_shouldReturnFalse() {
+        // when
+        final var actualFound = videoGateway.patch(VideoID.from("123"), VideoPatch.with("Title", null, null, null, null, true, null));
+
+        // then
+        assertFalse(actualFound);
+        assertEquals(0, videoRepository.count());
+    }
+
+    @Test
+    public void givenVideosWithMediaAndRelations_whenCallsDeleteAllById_shouldDeleteThemWithoutLoadingEntities() {
+        // given
+        final var first = videoGateway.create(Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(aulas.getId(), lives.getId()),
+                        Set.of(tech.getId()),
+                        Set.of(wesley.getId())
+                )
+                .setVideo(AudioVideoMedia.with("123", "video", "/media/video"))
+                .setBanner(ImageMedia.with("123", "banner", "/media/banner")));
+
+        final var second = videoGateway.create(Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Fixture.Videos.rating(),
+                        Set.of(lives.getId()),
+                        Set.of(),
+                        Set.of()
+                )
+                .setTrailer(AudioVideoMedia.with("456", "trailer", "/media/trailer")));
+
+        final var remaining = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(aulas.getId()),
+                Set.of(),
+                Set.of()
+        ));
+
+        final var statistics = statistics();
+
+        // when
+        final var actualDeleted = videoGateway.deleteAllById(List.of(first.getId(), second.getId(), VideoID.from("123")));
+
+        // then
+        assertEquals(2, actualDeleted);
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        assertEquals(1, videoRepository.count());
+        assertTrue(videoRepository.existsById(remaining.getId().getValue()));
+        assertEquals(0, countRows("videos_video_media"));
+        assertEquals(0, countRows("videos_image_media"));
+        assertEquals(1, countRows("videos_categories"));
+        assertEquals(0, countRows("videos_genres"));
+        assertEquals(0, countRows("videos_cast_members"));
+    }
+
     @Test
     public void givenAnInvalidVideoId_whenCallsDeleteById_shouldDeleteIt() {
         // given
@@ -448,6 +767,48 @@ public class DefaultVideoGatewayTest {
         assertEquals(expectedThumbHalf.name(), actualVideo.getThumbnailHalf().get().name());
     }
 
+    @Test
+    public void givenAVideoWithAllMediaAndAssociations_whenCallsFindById_shouldLoadEachSetInItsOwnStatement() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                                Fixture.title(),
+                                Fixture.Videos.description(),
+                                Year.of(Fixture.year()),
+                                Fixture.duration(),
+                                Fixture.bool(),
+                                Fixture.bool(),
+                                Fixture.Videos.rating(),
+                                Set.of(aulas.getId(), lives.getId()),
+                                Set.of(tech.getId(), business.getId()),
+                                Set.of(wesley.getId(), wellington.getId())
+                        )
+                        .setVideo(AudioVideoMedia.with("123", "video", "/media/video"))
+                        .setTrailer(AudioVideoMedia.with("123", "trailer", "/media/trailer"))
+                        .setBanner(ImageMedia.with("123", "banner", "/media/banner"))
+                        .setThumbnail(ImageMedia.with("123", "thumb", "/media/thumb"))
+                        .setThumbnailHalf(ImageMedia.with("123", "thumbHalf", "/media/thumbHalf"))
+        );
+
+        final var statistics = statistics();
+
+        // when
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+
+        // then
+        final var actualStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(4, actualStatements, "findById prepared %d statements".formatted(actualStatements));
+
+        assertEquals(aVideo.getCategories(), actualVideo.getCategories());
+        assertEquals(aVideo.getGenres(), actualVideo.getGenres());
+        assertEquals(aVideo.getCastMembers(), actualVideo.getCastMembers());
+        assertEquals("video", actualVideo.getVideo().get().name());
+        assertEquals("trailer", actualVideo.getTrailer().get().name());
+        assertEquals("banner", actualVideo.getBanner().get().name());
+        assertEquals("thumb", actualVideo.getThumbnail().get().name());
+        assertEquals("thumbHalf", actualVideo.getThumbnailHalf().get().name());
+    }
+
     @Test
     public void givenAnInvalidVideoId_whenCallsFindById_shouldEmpty() {
         // given
@@ -609,6 +970,43 @@ public class DefaultVideoGatewayTest {
         assertEquals("System Design no Mercado Livre na prática", actualPage.items().get(1).title());
     }
 
+    @Test
+    public void givenManyCastMembers_whenCallFindAll_shouldReturnEachVideoOnce() {
+        // given
+        mockVideos();
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedTerms = "";
+        final var expectedSort = "title";
+        final var expectedDirection = "asc";
+        final var expectedTotal = 3;
+
+        final var aQuery = new VideoSearchQuery(
+                expectedPage,
+                expectedPerPage,
+                expectedTerms,
+                expectedSort,
+                expectedDirection,
+                Set.of(wesley.getId(), wellington.getId()),
+                Set.of(),
+                Set.of()
+        );
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        assertEquals(expectedPage, actualPage.currentPage());
+        assertEquals(expectedPerPage, actualPage.perPage());
+        assertEquals(expectedTotal, actualPage.total());
+        assertEquals(expectedTotal, actualPage.items().size());
+
+        assertEquals("21.1 Implementação dos testes integrados do findAll", actualPage.items().get(0).title());
+        assertEquals("Aula de empreendedorismo", actualPage.items().get(1).title());
+        assertEquals("System Design no Mercado Livre na prática", actualPage.items().get(2).title());
+    }
+
     @Test
     public void givenAValidGenre_whenCallFindAll_shouldReturnFilteredList() {
         // given
@@ -679,6 +1077,206 @@ public class DefaultVideoGatewayTest {
         assertEquals("Aula de empreendedorismo", actualPage.items().get(0).title());
     }
 
+    @Test
+    public void givenManyCategoriesAndAGenre_whenCallFindAll_shouldReturnAnyCategoryWithTheGenre() {
+        // given
+        mockVideos();
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 1;
+        final var expectedSort = "title";
+        final var expectedDirection = "asc";
+        final var expectedTotal = 2;
+
+        final var aQuery = new VideoSearchQuery(
+                expectedPage,
+                expectedPerPage,
+                "",
+                expectedSort,
+                expectedDirection,
+                Set.of(),
+                Set.of(aulas.getId(), lives.getId()),
+                Set.of(tech.getId())
+        );
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        assertEquals(expectedTotal, actualPage.total());
+        assertEquals(expectedPerPage, actualPage.items().size());
+        assertTrue(actualPage.hasNext());
+
+        assertEquals("21.1 Implementação dos testes integrados do findAll", actualPage.items().get(0).title());
+    }
+
+    @Test
+    public void givenAnUpdatedVideo_whenCallFindAll_shouldFilterByItsNewRelations() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(aulas.getId()),
+                Set.of(),
+                Set.of()
+        ));
+
+        videoGateway.update(Video.with(aVideo).update(
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating(),
+                Set.of(lives.getId()),
+                Set.of(),
+                Set.of()
+        ));
+
+        // when
+        final var actualAulas = videoGateway.findAll(categoryQuery(aulas.getId()));
+        final var actualLives = videoGateway.findAll(categoryQuery(lives.getId()));
+
+        // then
+        assertEquals(0, actualAulas.total());
+        assertTrue(actualAulas.items().isEmpty());
+        assertEquals(1, actualLives.total());
+        assertEquals(aVideo.getId().getValue(), actualLives.items().get(0).id());
+    }
+
+    @Test
+    public void givenADeletedVideo_whenCallFindAll_shouldNotReturnIt() {
+        // given
+        mockVideos();
+
+        final var aVideoId = videoGateway.findAll(categoryQuery(lives.getId())).items().get(0).id();
+
+        // when
+        videoGateway.deleteById(VideoID.from(aVideoId));
+
+        // then
+        final var actualPage = videoGateway.findAll(categoryQuery(lives.getId()));
+        assertEquals(0, actualPage.total());
+        assertTrue(actualPage.items().isEmpty());
+    }
+
+    @Test
+    public void givenRelationsDeletedByAnotherInstance_whenCallsRefreshIndex_shouldLoadRelationsFromDatabase() {
+        // given
+        mockVideos();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> jdbcTemplate.update(
+                "DELETE FROM videos_categories WHERE category_id = ?",
+                BinaryIdType.toBytes(aulas.getId().getValue())
+        ));
+        // A escrita por fora do Hibernate tambem nao passa pelo cache de segundo nivel desta instancia
+        entityManagerFactory.getCache().evictAll();
+
+        assertEquals(2, videoFacetIndex.filter(null, Set.of(aulas.getId().getValue()), null, 10).orElseThrow().size());
+
+        // when
+        videoGateway.refreshIndex();
+
+        // then
+        assertEquals(4, videoFacetIndex.size());
+        assertEquals(0, videoGateway.findAll(categoryQuery(aulas.getId())).total());
+    }
+
+    @Test
+    public void givenACategoryAndAGenre_whenCallsFacets_shouldCountEachDimensionWithoutItsOwnFilter() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(
+                0,
+                10,
+                "",
+                "title",
+                "asc",
+                Set.of(),
+                Set.of(aulas.getId()),
+                Set.of(tech.getId())
+        );
+
+        // when
+        final var actualFacets = videoGateway.facets(aQuery);
+
+        // then
+        assertEquals(Map.of(aulas.getId(), 1L, lives.getId(), 1L), actualFacets.categories());
+        assertEquals(Map.of(tech.getId(), 1L, business.getId(), 1L), actualFacets.genres());
+        assertEquals(Map.of(wellington.getId(), 1L), actualFacets.castMembers());
+        assertEquals(1L, sum(actualFacets.ratings()));
+    }
+
+    @Test
+    public void givenATerm_whenCallsFacets_shouldCountOnlyMatchingVideos() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(0, 10, "EMPREENDEDORISMO", "title", "asc", Set.of(), Set.of(), Set.of());
+
+        // when
+        final var actualFacets = videoGateway.facets(aQuery);
+
+        // then
+        assertEquals(Map.of(aulas.getId(), 1L), actualFacets.categories());
+        assertEquals(Map.of(business.getId(), 1L), actualFacets.genres());
+        assertEquals(Map.of(wesley.getId(), 1L), actualFacets.castMembers());
+        assertEquals(1L, sum(actualFacets.ratings()));
+    }
+
+    @Test
+    public void givenCachedFacets_whenAVideoIsCreated_shouldCountItOnNextCall() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of());
+        assertEquals(1L, videoGateway.facets(aQuery).categories().get(lives.getId()));
+
+        // when
+        videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(lives.getId()),
+                Set.of(),
+                Set.of()
+        ));
+
+        // then
+        final var actualFacets = videoGateway.facets(aQuery);
+        assertEquals(2L, actualFacets.categories().get(lives.getId()));
+        assertEquals(5L, sum(actualFacets.ratings()));
+    }
+
+    @Test
+    public void givenTheSameFilters_whenCallsFacetsWithAnotherPage_shouldAnswerFromTheCache() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(0, 10, "Aula", "title", "asc", Set.of(), Set.of(aulas.getId()), Set.of());
+        final var expectedFacets = videoGateway.facets(aQuery);
+        final var expectedHits = videoFacetsCache.stats().hitCount();
+
+        // when
+        final var actualFacets = videoGateway.facets(
+                new VideoSearchQuery(3, 25, " aula ", "createdAt", "DESC", Set.of(), Set.of(aulas.getId()), Set.of())
+        );
+
+        // then
+        assertEquals(expectedFacets, actualFacets);
+        assertEquals(expectedHits + 1, videoFacetsCache.stats().hitCount());
+    }
+
     @ParameterizedTest
     @CsvSource({
             "0,2,2,4,21.1 Implementação dos testes integrados do findAll;Aula de empreendedorismo",
@@ -814,6 +1412,297 @@ public class DefaultVideoGatewayTest {
         assertEquals(expectedVideo, actualPage.items().get(0).title());
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "0,3,3,NONE,,-1,true,21.1 Implementação dos testes integrados do findAll",
+            "1,3,1,NONE,,-1,false,System Design no Mercado Livre na prática",
+            "0,3,3,ESTIMATED,,4,true,21.1 Implementação dos testes integrados do findAll",
+            "0,1,1,ESTIMATED,aula,-1,false,Aula de empreendedorismo",
+    })
+    public void givenATotalMode_whenCallsFindAll_shouldReturnSliceWithoutCount(
+            final int expectedPage,
+            final int expectedPerPage,
+            final int expectedItemsCount,
+            final TotalMode expectedTotalMode,
+            final String expectedTerms,
+            final long expectedTotal,
+            final boolean expectedHasNext,
+            final String expectedVideo
+    ) {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(
+                expectedPage,
+                expectedPerPage,
+                expectedTerms,
+                "title",
+                "asc",
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                null,
+                expectedTotalMode
+        );
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        assertEquals(expectedPage, actualPage.currentPage());
+        assertEquals(expectedPerPage, actualPage.perPage());
+        assertEquals(expectedTotal, actualPage.total());
+        assertEquals(expectedHasNext, actualPage.hasNext());
+        assertEquals(expectedItemsCount, actualPage.items().size());
+
+        assertEquals(expectedVideo, actualPage.items().get(0).title());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "title,asc,21.1 Implementação dos testes integrados do findAll;Aula de empreendedorismo,Não cometa esses erros ao trabalhar com Microsserviços;System Design no Mercado Livre na prática",
+            "title,desc,System Design no Mercado Livre na prática;Não cometa esses erros ao trabalhar com Microsserviços,Aula de empreendedorismo;21.1 Implementação dos testes integrados do findAll",
+            "createdAt,asc,System Design no Mercado Livre na prática;Não cometa esses erros ao trabalhar com Microsserviços,21.1 Implementação dos testes integrados do findAll;Aula de empreendedorismo",
+    })
+    public void givenAValidCursor_whenCallsFindAll_shouldSeekNextPage(
+            final String expectedSort,
+            final String expectedDirection,
+            final String expectedFirstPage,
+            final String expectedSecondPage
+    ) {
+        // given
+        mockVideos();
+
+        final var expectedPerPage = 2;
+        final var expectedTotal = Pagination.UNKNOWN_TOTAL;
+
+        final var aFirstQuery = new VideoSearchQuery(
+                0,
+                expectedPerPage,
+                "",
+                expectedSort,
+                expectedDirection,
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                ""
+        );
+
+        // when
+        final var actualFirstPage = videoGateway.findAll(aFirstQuery);
+
+        final var aSecondQuery = new VideoSearchQuery(
+                1,
+                expectedPerPage,
+                "",
+                expectedSort,
+                expectedDirection,
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                actualFirstPage.nextCursor()
+        );
+
+        final var actualSecondPage = videoGateway.findAll(aSecondQuery);
+
+        // then
+        assertEquals(expectedTotal, actualFirstPage.total());
+        assertTrue(actualFirstPage.hasNext());
+        assertNotNull(actualFirstPage.nextCursor());
+        assertEquals(
+                List.of(expectedFirstPage.split(";")),
+                actualFirstPage.items().stream().map(VideoPreview::title).toList()
+        );
+
+        assertEquals(1, actualSecondPage.currentPage());
+        assertEquals(expectedTotal, actualSecondPage.total());
+        assertFalse(actualSecondPage.hasNext());
+        assertNull(actualSecondPage.nextCursor());
+        assertEquals(
+                List.of(expectedSecondPage.split(";")),
+                actualSecondPage.items().stream().map(VideoPreview::title).toList()
+        );
+    }
+
+    @Test
+    public void givenAValidCursorAndCategory_whenCallsFindAll_shouldSeekFilteredList() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(
+                0,
+                1,
+                "",
+                "title",
+                "asc",
+                Set.of(),
+                Set.of(aulas.getId()),
+                Set.of(),
+                ""
+        );
+
+        // when
+        final var actualFirstPage = videoGateway.findAll(aQuery);
+        final var actualSecondPage = videoGateway.findAll(new VideoSearchQuery(
+                1,
+                1,
+                "",
+                "title",
+                "asc",
+                Set.of(),
+                Set.of(aulas.getId()),
+                Set.of(),
+                actualFirstPage.nextCursor()
+        ));
+
+        // then
+        assertEquals(2, actualFirstPage.total());
+        assertEquals("21.1 Implementação dos testes integrados do findAll", actualFirstPage.items().get(0).title());
+        assertEquals("Aula de empreendedorismo", actualSecondPage.items().get(0).title());
+        assertNull(actualSecondPage.nextCursor());
+    }
+
+    @Test
+    public void givenAKeysetQueryWithExactTotal_whenCallsFindAll_shouldCountOnlyWhenAsked() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(0, 2, "", "title", "asc", Set.of(), Set.of(), Set.of(), "", TotalMode.EXACT);
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        assertEquals(4, actualPage.total());
+        assertTrue(actualPage.hasNext());
+        assertEquals(TotalMode.NONE, new VideoSearchQuery(0, 2, "", "title", "asc", Set.of(), Set.of(), Set.of(), "").totalMode());
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "Invalid cursor abc";
+
+        final var aQuery = new VideoSearchQuery(
+                0,
+                10,
+                "",
+                "title",
+                "asc",
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                "abc"
+        );
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> videoGateway.findAll(aQuery));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenAnUnsupportedSort_whenCallsFindAllWithCursor_shouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "Cursor pagination doesn't support sort by description";
+
+        final var aQuery = new VideoSearchQuery(
+                0,
+                10,
+                "",
+                "description",
+                "asc",
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                ""
+        );
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> videoGateway.findAll(aQuery));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenATermInDescriptionAndRelevanceSort_whenCallsFindAll_shouldRankTitleMatchesFirst() {
+        // given
+        mockVideos();
+
+        final var aDescriptionMatch = videoGateway.create(Video.newVideo(
+                "Arquitetura hexagonal",
+                "Como organizar microsserviços em portas e adaptadores",
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ));
+
+        final var expectedTotal = 2;
+        final var expectedTitles = List.of(
+                "Não cometa esses erros ao trabalhar com Microsserviços",
+                aDescriptionMatch.getTitle()
+        );
+
+        final var aQuery = new VideoSearchQuery(
+                0,
+                10,
+                "microsserviços",
+                VideoSearchQuery.RELEVANCE,
+                "asc",
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        assertEquals(expectedTotal, actualPage.total());
+        assertEquals(expectedTitles, actualPage.items().stream().map(VideoPreview::title).toList());
+    }
+
+    @Test
+    public void givenRelevanceSortWithoutTerms_whenCallsFindAll_shouldReturnNewestFirst() {
+        // given
+        mockVideos();
+
+        final var expectedVideo = "Aula de empreendedorismo";
+
+        final var aQuery = new VideoSearchQuery(
+                0,
+                10,
+                "",
+                VideoSearchQuery.RELEVANCE,
+                "asc",
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        assertEquals(4, actualPage.total());
+        assertEquals(expectedVideo, actualPage.items().get(0).title());
+    }
+
+    private static long sum(final Map<?, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static VideoSearchQuery categoryQuery(final CategoryID aCategoryId) {
+        return new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(aCategoryId), Set.of());
+    }
+
     private void mockVideos() {
         videoGateway.create(Video.newVideo(
                 "System Design no Mercado Livre na prática",
@@ -867,4 +1756,15 @@ public class DefaultVideoGatewayTest {
                 Set.of(wesley.getId())
         ));
     }
-}
\ No newline at end of file
+
+    private Statistics statistics() {
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+    private long countRows(final String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
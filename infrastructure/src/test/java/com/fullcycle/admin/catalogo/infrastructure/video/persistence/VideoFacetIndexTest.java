@@ -0,0 +1,145 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VideoFacetIndexTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "wesley,,,1;3",
+            "wesley;wellington,,,1;2;3",
+            ",aulas,,2;3",
+            ",aulas;lives,,1;2;3",
+            "wesley,aulas,,3",
+            "wesley,aulas,tech,",
+            "wesley,aulas,business,3",
+            "gabriel,,,",
+    })
+    public void givenIndexedVideos_whenCallsFilter_shouldOrWithinAndAcrossDimensions(
+            final String expectedCastMembers,
+            final String expectedCategories,
+            final String expectedGenres,
+            final String expectedIds
+    ) {
+        // given
+        final var target = new VideoFacetIndex();
+        target.rebuild(
+                List.of("1", "2", "3", "4"),
+                List.of(new VideoFacet("1", "wesley"), new VideoFacet("1", "wellington"),
+                        new VideoFacet("2", "wellington"), new VideoFacet("3", "wesley")),
+                List.of(new VideoFacet("1", "lives"), new VideoFacet("2", "aulas"), new VideoFacet("3", "aulas")),
+                List.of(new VideoFacet("1", "tech"), new VideoFacet("2", "tech"), new VideoFacet("3", "business"))
+        );
+
+        final var expected = expectedIds == null ? Set.of() : Set.of(expectedIds.split(";"));
+
+        // when
+        final var actualIds = target.filter(
+                split(expectedCastMembers),
+                split(expectedCategories),
+                split(expectedGenres),
+                100
+        );
+
+        // then
+        assertEquals(Optional.of(expected), actualIds);
+    }
+
+    @Test
+    public void givenAnIndexedVideo_whenCallsPutWithNewFacets_shouldReplaceOldOnes() {
+        // given
+        final var target = new VideoFacetIndex();
+        target.rebuild(List.of(), List.of(), List.of(), List.of());
+        target.put("1", Set.of("wesley"), Set.of("aulas"), Set.of("tech"));
+
+        // when
+        target.put("1", Set.of("wellington"), Set.of("lives"), Set.of("tech"));
+
+        // then
+        assertEquals(Optional.of(Set.of()), target.filter(Set.of("wesley"), null, null, 100));
+        assertEquals(Optional.of(Set.of("1")), target.filter(Set.of("wellington"), Set.of("lives"), null, 100));
+        assertEquals(1, target.size());
+    }
+
+    @Test
+    public void givenAnIndexedVideo_whenCallsRemove_shouldReuseItsOrdinal() {
+        // given
+        final var target = new VideoFacetIndex();
+        target.rebuild(List.of(), List.of(), List.of(), List.of());
+        target.put("1", Set.of(), Set.of("aulas"), Set.of());
+        target.put("2", Set.of(), Set.of("aulas"), Set.of());
+
+        // when
+        target.remove("1");
+        target.put("3", Set.of(), Set.of("lives"), Set.of());
+
+        // then
+        assertEquals(Optional.of(Set.of("2")), target.filter(null, Set.of("aulas"), null, 100));
+        assertEquals(Optional.of(Set.of("3")), target.filter(null, Set.of("lives"), null, 100));
+        assertEquals(2, target.size());
+    }
+
+    @Test
+    public void givenMoreMatchesThanTheLimit_whenCallsFilter_shouldReturnEmpty() {
+        // given
+        final var target = new VideoFacetIndex();
+        target.rebuild(List.of(), List.of(), List.of(), List.of());
+        target.put("1", Set.of(), Set.of("aulas"), Set.of());
+        target.put("2", Set.of(), Set.of("aulas"), Set.of());
+
+        // when
+        final var actualIds = target.filter(null, Set.of("aulas"), null, 1);
+
+        // then
+        assertTrue(actualIds.isEmpty());
+    }
+
+    @Test
+    public void givenAnIndexNotLoaded_whenCallsFilter_shouldLeaveItToTheDatabase() {
+        // given
+        final var target = new VideoFacetIndex();
+        target.put("1", Set.of(), Set.of("aulas"), Set.of());
+
+        // when
+        final var actualIds = target.filter(null, Set.of("aulas"), null, 100);
+
+        // then
+        assertFalse(target.isReady());
+        assertTrue(actualIds.isEmpty());
+    }
+
+    @Test
+    public void givenARemoveWhileLoading_whenRefreshFinishes_shouldKeepTheRemove() {
+        // given
+        final var target = new VideoFacetIndex();
+
+        // when
+        target.refresh(1L, () -> {
+            target.remove("1");
+            return new VideoFacetIndex.Snapshot(
+                    List.of("1", "2"),
+                    List.of(),
+                    List.of(new VideoFacet("1", "aulas"), new VideoFacet("2", "aulas")),
+                    List.of()
+            );
+        });
+
+        // then
+        assertEquals(Optional.of(Set.of("2")), target.filter(null, Set.of("aulas"), null, 100));
+        assertEquals(1, target.size());
+    }
+
+    private static Set<String> split(final String values) {
+        return values == null ? null : Set.of(values.split(";"));
+    }
+}